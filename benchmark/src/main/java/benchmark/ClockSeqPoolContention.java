@@ -0,0 +1,134 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.factory.function.ClockSeqFunction.ClockSeqPool;
+import com.github.f4b6a3.uuid.util.internal.RandomUtil;
+
+/**
+ * Compares the lock-free clock sequence pool with the former synchronized
+ * pool, from 1 to N threads, where N is the number of available processors.
+ *
+ * Run: java -cp target/benchmarks.jar benchmark.ClockSeqPoolContention
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClockSeqPoolContention {
+
+	// both pools are shared by all benchmark threads
+	private final ClockSeqPool lockFreePool = new ClockSeqPool();
+	private final SynchronizedClockSeqPool synchronizedPool = new SynchronizedClockSeqPool();
+
+	@Benchmark
+	public int clock_seq_pool_random_lock_free() {
+		return lockFreePool.random();
+	}
+
+	@Benchmark
+	public int clock_seq_pool_random_synchronized() {
+		return synchronizedPool.random();
+	}
+
+	@Benchmark
+	public int clock_seq_pool_count_used_lock_free() {
+		return lockFreePool.countUsed();
+	}
+
+	@Benchmark
+	public int clock_seq_pool_count_used_synchronized() {
+		return synchronizedPool.countUsed();
+	}
+
+	/**
+	 * Copy of the former clock sequence pool, kept for comparison.
+	 */
+	static final class SynchronizedClockSeqPool {
+
+		private final byte[] pool = new byte[2048];
+		private static final int POOL_SIZE = 16384;
+
+		public synchronized int take(final int take) {
+			int value = take;
+			for (int i = 0; i < POOL_SIZE; i++) {
+				if (setBit(value)) {
+					return value;
+				}
+				value = ++value % POOL_SIZE;
+			}
+			clearPool();
+			setBit(value);
+			return value;
+		}
+
+		public synchronized int random() {
+			int random = (RandomUtil.nextInt() & 0x7fffffff) % POOL_SIZE;
+			return this.take(random);
+		}
+
+		private synchronized boolean setBit(int value) {
+			final int byteIndex = value / 8;
+			final int mask = (0x00000001 << (value % 8));
+			if ((pool[byteIndex] & mask) == 0) {
+				pool[byteIndex] = (byte) (pool[byteIndex] | mask);
+				return true;
+			}
+			return false;
+		}
+
+		public synchronized boolean isUsed(int value) {
+			return (pool[value / 8] & (0x00000001 << (value % 8))) != 0;
+		}
+
+		public synchronized int countUsed() {
+			int counter = 0;
+			for (int i = 0; i < POOL_SIZE; i++) {
+				if (this.isUsed(i)) {
+					counter++;
+				}
+			}
+			return counter;
+		}
+
+		public synchronized void clearPool() {
+			for (int i = 0; i < pool.length; i++) {
+				pool[i] = 0;
+			}
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final int processors = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads <= processors; threads *= 2) {
+			run(threads);
+		}
+		if (Integer.bitCount(processors) != 1) {
+			run(processors); // not a power of 2
+		}
+	}
+
+	private static void run(int threads) throws RunnerException {
+		Options options = new OptionsBuilder() //
+				.include(ClockSeqPoolContention.class.getSimpleName()) //
+				.threads(threads) //
+				.build();
+		new Runner(options).run();
+	}
+}
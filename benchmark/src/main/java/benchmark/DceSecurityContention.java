@@ -0,0 +1,109 @@
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.enums.UuidLocalDomain;
+import com.github.f4b6a3.uuid.factory.rfc4122.DceSecurityFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeBasedFactory;
+
+/**
+ * Compares the DCE Security factory, with the default and the lock-free
+ * engines, with the former factory that took its own lock around the
+ * time-based one, from 1 to N threads, where N is the number of available
+ * processors.
+ *
+ * Run: java -cp target/benchmarks.jar benchmark.DceSecurityContention
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DceSecurityContention {
+
+	private static final byte DOMAIN = UuidLocalDomain.LOCAL_DOMAIN_PERSON.getValue();
+	private static final int IDENTIFIER = 1701;
+
+	// all factories are shared by all benchmark threads
+	private final DceSecurityFactory defaultFactory = new DceSecurityFactory();
+	private final DceSecurityFactory lockFreeFactory = DceSecurityFactory.builder().withLockFree().build();
+	private final LockedDceSecurityFactory lockedFactory = new LockedDceSecurityFactory();
+
+	@Benchmark
+	public UUID dce_security_default() {
+		return defaultFactory.create(DOMAIN, IDENTIFIER);
+	}
+
+	@Benchmark
+	public UUID dce_security_lock_free() {
+		return lockFreeFactory.create(DOMAIN, IDENTIFIER);
+	}
+
+	@Benchmark
+	public UUID dce_security_former() {
+		return lockedFactory.create(DOMAIN, IDENTIFIER);
+	}
+
+	/**
+	 * Copy of the former DCE Security factory, kept for comparison.
+	 */
+	static final class LockedDceSecurityFactory {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final AtomicInteger counter = new AtomicInteger();
+		private final TimeBasedFactory factory = new TimeBasedFactory();
+
+		public UUID create(byte localDomain, int localIdentifier) {
+			lock.lock();
+			try {
+				UUID uuid = factory.create();
+				long msb = (uuid.getMostSignificantBits() & 0x00000000ffffffffL)
+						| ((localIdentifier & 0x00000000ffffffffL) << 32);
+				long lsb = (uuid.getLeastSignificantBits() & 0x0000ffffffffffffL)
+						| ((localDomain & 0x00000000000000ffL) << 48)
+						| ((counter.incrementAndGet() & 0x00000000000000ffL) << 56);
+				msb = (msb & 0xffffffffffff0fffL) | 0x0000000000002000L; // version 2
+				lsb = (lsb & 0x3fffffffffffffffL) | 0x8000000000000000L; // variant
+				return new UUID(msb, lsb);
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final int processors = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads <= processors; threads *= 2) {
+			run(threads);
+		}
+		if (Integer.bitCount(processors) != 1) {
+			run(processors); // not a power of 2
+		}
+	}
+
+	private static void run(int threads) throws RunnerException {
+		Options options = new OptionsBuilder() //
+				.include(DceSecurityContention.class.getSimpleName()) //
+				.threads(threads) //
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,105 @@
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.enums.UuidNamespace;
+import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedSha1Factory;
+
+/**
+ * Compares a loop over the names with the bulk methods of name-based
+ * factories, from 1 to N worker threads, where N is the number of available
+ * processors.
+ *
+ * Run: java -cp target/benchmarks.jar benchmark.NameBasedBulkScaling
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NameBasedBulkScaling {
+
+	private static final int SIZE = 100_000;
+
+	@Param({ "1" })
+	private int parallelism;
+
+	private ForkJoinPool pool;
+
+	private final UUID namespace = UuidNamespace.NAMESPACE_URL.getValue();
+	private final NameBasedSha1Factory factory = new NameBasedSha1Factory();
+	private final String[] names = new String[SIZE];
+	private final long[] msbs = new long[SIZE];
+	private final long[] lsbs = new long[SIZE];
+
+	@Setup
+	public void setup() {
+		pool = new ForkJoinPool(parallelism);
+		for (int i = 0; i < SIZE; i++) {
+			names[i] = "https://example.com/products/" + i;
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public UUID[] name_based_sha1_loop() {
+		final UUID[] uuids = new UUID[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			uuids[i] = factory.create(namespace, names[i]);
+		}
+		return uuids;
+	}
+
+	@Benchmark
+	public UUID[] name_based_sha1_bulk() {
+		return factory.createAll(namespace, names, pool);
+	}
+
+	@Benchmark
+	public long[] name_based_sha1_bulk_into_arrays() {
+		factory.createAll(namespace, names, msbs, lsbs, pool);
+		return lsbs;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final int processors = Runtime.getRuntime().availableProcessors();
+		for (int parallelism = 1; parallelism <= processors; parallelism *= 2) {
+			run(parallelism);
+		}
+		if (Integer.bitCount(processors) != 1) {
+			run(processors); // not a power of 2
+		}
+	}
+
+	private static void run(int parallelism) throws RunnerException {
+		Options options = new OptionsBuilder() //
+				.include(NameBasedBulkScaling.class.getSimpleName()) //
+				.param("parallelism", String.valueOf(parallelism)) //
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,77 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedSha1Factory;
+
+/**
+ * Compares name-based UUIDs created from the content of a file read as a
+ * stream and mapped into memory.
+ *
+ * Run: java -jar target/benchmarks.jar benchmark.NameBasedContentThroughput
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NameBasedContentThroughput {
+
+	@Param({ "1048576", "134217728" })
+	private int size;
+
+	private Path file;
+	private final NameBasedSha1Factory factory = new NameBasedSha1Factory();
+
+	@Setup
+	public void setup() throws IOException {
+		file = Files.createTempFile("uuid-creator", ".bin");
+		byte[] chunk = new byte[1 << 20];
+		new Random().nextBytes(chunk);
+		try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+			for (int written = 0; written < size; written += chunk.length) {
+				raf.write(chunk, 0, Math.min(chunk.length, size - written));
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	public UUID name_based_sha1_from_input_stream() throws IOException {
+		try (InputStream stream = Files.newInputStream(file)) {
+			return factory.create(stream);
+		}
+	}
+
+	@Benchmark
+	public UUID name_based_sha1_from_mapped_file() throws IOException {
+		return factory.create(file);
+	}
+}
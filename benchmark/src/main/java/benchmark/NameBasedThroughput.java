@@ -0,0 +1,149 @@
+package benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.github.f4b6a3.uuid.factory.NameBasedCache;
+import com.github.f4b6a3.uuid.factory.nonstandard.NameBasedMurmur3Factory;
+import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedMd5Factory;
+import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedSha1Factory;
+
+/**
+ * Measures name-based UUIDs created from short names, with the namespace given
+ * in each form accepted by {@link UuidCreator}, and compares the JCA message
+ * digests with a cache of hot names and with no cache, and versions 3 and 5
+ * with the non-cryptographic version 8.
+ *
+ * Run: java -jar target/benchmarks.jar benchmark.NameBasedThroughput
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NameBasedThroughput {
+
+	private final String namespace = "6ba7b811-9dad-11d1-80b4-00c04fd430c8";
+	private final UUID uuid = UUID.fromString(namespace);
+	private final String name = "www.github.com";
+	private final byte[] bytes = name.getBytes();
+	private final StringBuilder builder = new StringBuilder(name);
+	private final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+
+	private NameBasedMd5Factory jcaMd5;
+	private NameBasedSha1Factory jcaSha1;
+	private NameBasedSha1Factory cachedSha1;
+	private NameBasedMurmur3Factory murmur3;
+
+	// hot names, all of them fit in the cache
+	private final String[] names = new String[256];
+	private int next;
+
+	@Setup
+	public void setup() {
+		direct.flip();
+		jcaMd5 = new NameBasedMd5Factory(uuid);
+		jcaSha1 = new NameBasedSha1Factory(uuid);
+		cachedSha1 = new NameBasedSha1Factory(uuid, new NameBasedCache(1024));
+		murmur3 = new NameBasedMurmur3Factory(uuid);
+		for (int i = 0; i < names.length; i++) {
+			names[i] = "www.github.com/" + i;
+		}
+	}
+
+	@Benchmark
+	public UUID name_based_md5_without_namespace() {
+		return UuidCreator.getNameBasedMd5(bytes);
+	}
+
+	@Benchmark
+	public UUID name_based_md5_with_uuid_namespace() {
+		return UuidCreator.getNameBasedMd5(uuid, name);
+	}
+
+	@Benchmark
+	public UUID name_based_md5_with_string_namespace() {
+		return UuidCreator.getNameBasedMd5(namespace, name);
+	}
+
+	@Benchmark
+	public UUID name_based_sha1_without_namespace() {
+		return UuidCreator.getNameBasedSha1(bytes);
+	}
+
+	@Benchmark
+	public UUID name_based_sha1_with_uuid_namespace() {
+		return UuidCreator.getNameBasedSha1(uuid, name);
+	}
+
+	@Benchmark
+	public UUID name_based_sha1_with_string_namespace() {
+		return UuidCreator.getNameBasedSha1(namespace, name);
+	}
+
+	@Benchmark
+	public UUID name_based_md5_jca() {
+		return jcaMd5.create(bytes);
+	}
+
+	@Benchmark
+	public UUID name_based_sha1_jca() {
+		return jcaSha1.create(bytes);
+	}
+
+	@Benchmark
+	public UUID name_based_sha1_hot_names() {
+		return jcaSha1.create(names[next++ & 255]);
+	}
+
+	@Benchmark
+	public UUID name_based_sha1_hot_names_cached() {
+		return cachedSha1.create(names[next++ & 255]);
+	}
+
+	@Benchmark
+	public UUID name_based_sha1_from_string_builder_copy() {
+		return jcaSha1.create(builder.toString());
+	}
+
+	@Benchmark
+	public UUID name_based_sha1_from_string_builder() {
+		return jcaSha1.create(builder);
+	}
+
+	@Benchmark
+	public UUID name_based_sha1_from_direct_buffer() {
+		return jcaSha1.create(direct);
+	}
+
+	@Benchmark
+	public UUID name_based_murmur3() {
+		return murmur3.create(bytes);
+	}
+
+	@Benchmark
+	public UUID name_based_murmur3_from_string_builder() {
+		return murmur3.create(builder);
+	}
+
+	@Benchmark
+	public UUID name_based_murmur3_hot_names() {
+		return murmur3.create(names[next++ & 255]);
+	}
+}
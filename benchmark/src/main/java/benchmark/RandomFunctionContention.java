@@ -0,0 +1,166 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.factory.function.RandomFunction;
+import com.github.f4b6a3.uuid.factory.function.impl.DefaultRandomFunction;
+import com.github.f4b6a3.uuid.util.internal.RandomUtil;
+
+/**
+ * Compares the per-thread random function with the former pool indexed by
+ * thread ID, from 1 to N threads, where N is the number of available
+ * processors.
+ *
+ * The virtual_thread_per_request cases start one virtual thread per call, as a
+ * thread-per-request server does, and compare the striped pool of the default
+ * function with one instance per virtual thread. They run only on JDK 21+.
+ *
+ * Run: java -cp target/benchmarks.jar benchmark.RandomFunctionContention
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RandomFunctionContention {
+
+	private static final int LENGTH = 16;
+
+	// both functions are shared by all benchmark threads
+	private final RandomFunction perThreadFunction = new DefaultRandomFunction();
+	private final RandomFunction threadIdPoolFunction = new ThreadIdPoolRandomFunction();
+	private final RandomFunction everyThreadFunction = new EveryThreadRandomFunction();
+
+	@Benchmark
+	public byte[] random_function_per_thread() {
+		return perThreadFunction.apply(LENGTH);
+	}
+
+	@Benchmark
+	public byte[] random_function_thread_id_pool() {
+		return threadIdPoolFunction.apply(LENGTH);
+	}
+
+	@Benchmark
+	public byte[] virtual_thread_per_request_default(VirtualThreads virtual)
+			throws InterruptedException, ExecutionException {
+		return virtual.executor.submit(() -> perThreadFunction.apply(LENGTH)).get();
+	}
+
+	@Benchmark
+	public byte[] virtual_thread_per_request_every_thread(VirtualThreads virtual)
+			throws InterruptedException, ExecutionException {
+		return virtual.executor.submit(() -> everyThreadFunction.apply(LENGTH)).get();
+	}
+
+	@Benchmark
+	public byte[] virtual_thread_per_request_thread_id_pool(VirtualThreads virtual)
+			throws InterruptedException, ExecutionException {
+		return virtual.executor.submit(() -> threadIdPoolFunction.apply(LENGTH)).get();
+	}
+
+	@State(Scope.Benchmark)
+	public static class VirtualThreads {
+
+		private ExecutorService executor;
+
+		@Setup
+		public void setup() throws ReflectiveOperationException {
+			executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}
+
+		@TearDown
+		public void tearDown() {
+			executor.shutdown();
+		}
+
+		static boolean isSupported() {
+			try {
+				Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+				return true;
+			} catch (NoSuchMethodException e) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Random function with one instance for every thread, virtual or not, kept
+	 * for comparison.
+	 */
+	static final class EveryThreadRandomFunction implements RandomFunction {
+
+		private static final ThreadLocal<Random> LOCAL = ThreadLocal.withInitial(RandomUtil::getSecureRandom);
+
+		@Override
+		public byte[] apply(final int length) {
+			final byte[] bytes = new byte[length];
+			LOCAL.get().nextBytes(bytes);
+			return bytes;
+		}
+	}
+
+	/**
+	 * Copy of the former default random function, kept for comparison.
+	 */
+	static final class ThreadIdPoolRandomFunction implements RandomFunction {
+
+		private static final int POOL_SIZE = Math.min(16, Math.max(1, Runtime.getRuntime().availableProcessors()));
+		private static final Random[] POOL = new Random[POOL_SIZE];
+
+		@Override
+		public byte[] apply(final int length) {
+			final byte[] bytes = new byte[length];
+			current().nextBytes(bytes);
+			return bytes;
+		}
+
+		private static Random current() {
+			final int index = (int) (Thread.currentThread().getId() % POOL_SIZE);
+			if (POOL[index] == null) {
+				POOL[index] = RandomUtil.getSecureRandom();
+			}
+			return POOL[index];
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final int processors = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads <= processors; threads *= 2) {
+			run(threads);
+		}
+		if (Integer.bitCount(processors) != 1) {
+			run(processors); // not a power of 2
+		}
+	}
+
+	private static void run(int threads) throws RunnerException {
+		OptionsBuilder options = new OptionsBuilder();
+		options.include(RandomFunctionContention.class.getSimpleName());
+		options.threads(threads);
+		if (!VirtualThreads.isSupported()) {
+			options.exclude("virtual_thread"); // JDK 21+
+		}
+		new Runner(options.build()).run();
+	}
+}
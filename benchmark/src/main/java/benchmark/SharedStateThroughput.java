@@ -0,0 +1,89 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.factory.SharedState;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+
+/**
+ * Compares the shared state type of {@link TimeOrderedEpochFactory}, one UUID
+ * at a time and in batches, with the lock-free type of a single process.
+ *
+ * Start it in several processes at the same time to measure the contention
+ * between processes, with the same value for -Duuid.shared.file.
+ *
+ * Run: java -jar target/benchmarks.jar benchmark.SharedStateThroughput
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SharedStateThroughput {
+
+	private static final int BATCH_SIZE = 256;
+
+	private Path file;
+	private boolean temporary;
+	private SharedState state;
+
+	private TimeOrderedEpochFactory lockFree;
+	private TimeOrderedEpochFactory shared;
+	private final UUID[] batch = new UUID[BATCH_SIZE];
+
+	@Setup
+	public void setup() throws IOException {
+		final String name = System.getProperty("uuid.shared.file");
+		temporary = name == null;
+		file = temporary ? Files.createTempFile("uuid-shared", ".state") : Paths.get(name);
+		state = new SharedState(file);
+		lockFree = TimeOrderedEpochFactory.builder().withLockFree().build();
+		shared = TimeOrderedEpochFactory.builder().withSharedState(state).build();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		state.close();
+		if (temporary) {
+			Files.delete(file);
+		}
+	}
+
+	@Benchmark
+	public UUID time_ordered_epoch_lock_free() {
+		return lockFree.create();
+	}
+
+	@Benchmark
+	public UUID time_ordered_epoch_shared() {
+		return shared.create();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public UUID[] time_ordered_epoch_shared_batch() {
+		shared.fill(batch);
+		return batch;
+	}
+}
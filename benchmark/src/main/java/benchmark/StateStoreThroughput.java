@@ -0,0 +1,111 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.factory.StateStore;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+
+/**
+ * Measures the cost of keeping the generator state in a memory-mapped
+ * {@link StateStore}, compared with the same factories without a store.
+ *
+ * Run: java -jar target/benchmarks.jar benchmark.StateStoreThroughput
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StateStoreThroughput {
+
+	private Path directory;
+	private StateStore timeBasedStore;
+	private StateStore epochStore;
+	private StateStore lockFreeStore;
+
+	private TimeBasedFactory timeBased;
+	private TimeBasedFactory timeBasedStored;
+	private TimeOrderedEpochFactory epoch;
+	private TimeOrderedEpochFactory epochStored;
+	private TimeOrderedEpochFactory lockFree;
+	private TimeOrderedEpochFactory lockFreeStored;
+
+	@Setup
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("uuid-state");
+		timeBasedStore = new StateStore(directory.resolve("time-based.state"));
+		epochStore = new StateStore(directory.resolve("epoch.state"));
+		lockFreeStore = new StateStore(directory.resolve("lock-free.state"));
+
+		timeBased = TimeBasedFactory.builder().build();
+		timeBasedStored = TimeBasedFactory.builder().withStateStore(timeBasedStore).build();
+		epoch = TimeOrderedEpochFactory.builder().build();
+		epochStored = TimeOrderedEpochFactory.builder().withStateStore(epochStore).build();
+		lockFree = TimeOrderedEpochFactory.builder().withLockFree().build();
+		lockFreeStored = TimeOrderedEpochFactory.builder().withLockFree().withStateStore(lockFreeStore).build();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		for (StateStore store : new StateStore[] { timeBasedStore, epochStore, lockFreeStore }) {
+			store.close();
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+
+	@Benchmark
+	public UUID time_based() {
+		return timeBased.create();
+	}
+
+	@Benchmark
+	public UUID time_based_with_state_store() {
+		return timeBasedStored.create();
+	}
+
+	@Benchmark
+	public UUID time_ordered_epoch() {
+		return epoch.create();
+	}
+
+	@Benchmark
+	public UUID time_ordered_epoch_with_state_store() {
+		return epochStored.create();
+	}
+
+	@Benchmark
+	public UUID time_ordered_epoch_lock_free() {
+		return lockFree.create();
+	}
+
+	@Benchmark
+	public UUID time_ordered_epoch_lock_free_with_state_store() {
+		return lockFreeStored.create();
+	}
+}
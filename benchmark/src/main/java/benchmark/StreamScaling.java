@@ -0,0 +1,101 @@
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.github.f4b6a3.uuid.factory.rfc4122.RandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+
+/**
+ * Compares parallel streams that use one factory per split with parallel
+ * streams that share a single factory, from 1 to N worker threads, where N is
+ * the number of available processors.
+ *
+ * Run: java -cp target/benchmarks.jar benchmark.StreamScaling
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StreamScaling {
+
+	private static final int SIZE = 1_000_000;
+
+	@Param({ "1" })
+	private int parallelism;
+
+	private ForkJoinPool pool;
+
+	private final RandomBasedFactory randomBasedFactory = new RandomBasedFactory();
+	private final TimeOrderedEpochFactory timeOrderedEpochFactory = new TimeOrderedEpochFactory();
+
+	@Setup
+	public void setup() {
+		pool = new ForkJoinPool(parallelism);
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public long random_based_per_split() throws InterruptedException, ExecutionException {
+		return pool.submit(() -> UuidCreator.stream(RandomBasedFactory::new, SIZE).parallel().mapToLong(UUID::getLeastSignificantBits).sum()).get();
+	}
+
+	@Benchmark
+	public long random_based_shared() throws InterruptedException, ExecutionException {
+		return pool.submit(() -> UuidCreator.stream(() -> randomBasedFactory, SIZE).parallel().mapToLong(UUID::getLeastSignificantBits).sum()).get();
+	}
+
+	@Benchmark
+	public long time_ordered_epoch_per_split() throws InterruptedException, ExecutionException {
+		return pool.submit(() -> UuidCreator.stream(TimeOrderedEpochFactory::new, SIZE).parallel().mapToLong(UUID::getLeastSignificantBits).sum()).get();
+	}
+
+	@Benchmark
+	public long time_ordered_epoch_shared() throws InterruptedException, ExecutionException {
+		return pool.submit(() -> UuidCreator.stream(() -> timeOrderedEpochFactory, SIZE).parallel().mapToLong(UUID::getLeastSignificantBits).sum()).get();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final int processors = Runtime.getRuntime().availableProcessors();
+		for (int parallelism = 1; parallelism <= processors; parallelism *= 2) {
+			run(parallelism);
+		}
+		if (Integer.bitCount(processors) != 1) {
+			run(processors); // not a power of 2
+		}
+	}
+
+	private static void run(int parallelism) throws RunnerException {
+		Options options = new OptionsBuilder() //
+				.include(StreamScaling.class.getSimpleName()) //
+				.param("parallelism", String.valueOf(parallelism)) //
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,67 @@
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+
+/**
+ * Compares the synchronized and the lock-free UUIDv7 factories from 1 to N
+ * threads, where N is the number of available processors.
+ *
+ * Run: java -cp target/benchmarks.jar benchmark.TimeOrderedEpochScaling
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TimeOrderedEpochScaling {
+
+	// both factories are shared by all benchmark threads
+	private final TimeOrderedEpochFactory synchronizedFactory = TimeOrderedEpochFactory.builder().build();
+	private final TimeOrderedEpochFactory lockFreeFactory = TimeOrderedEpochFactory.builder().withLockFree().build();
+
+	@Benchmark
+	public UUID time_ordered_epoch_synchronized() {
+		return synchronizedFactory.create();
+	}
+
+	@Benchmark
+	public UUID time_ordered_epoch_lock_free() {
+		return lockFreeFactory.create();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final int processors = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads <= processors; threads *= 2) {
+			run(threads);
+		}
+		if (Integer.bitCount(processors) != 1) {
+			run(processors); // not a power of 2
+		}
+	}
+
+	private static void run(int threads) throws RunnerException {
+		Options options = new OptionsBuilder() //
+				.include(TimeOrderedEpochScaling.class.getSimpleName()) //
+				.threads(threads) //
+				.build();
+		new Runner(options).run();
+	}
+}
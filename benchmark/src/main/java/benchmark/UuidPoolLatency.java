@@ -0,0 +1,65 @@
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.factory.UuidPool;
+import com.github.f4b6a3.uuid.factory.rfc4122.RandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+
+/**
+ * Compares the latency distribution of direct and pooled generation.
+ *
+ * Run: java -jar target/benchmarks.jar benchmark.UuidPoolLatency
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UuidPoolLatency {
+
+	private final RandomBasedFactory randomBasedFactory = new RandomBasedFactory();
+	private final TimeOrderedEpochFactory timeOrderedEpochFactory = new TimeOrderedEpochFactory();
+
+	private final UuidPool randomBasedPool = new UuidPool(new RandomBasedFactory());
+	private final UuidPool timeOrderedEpochPool = new UuidPool(new TimeOrderedEpochFactory());
+
+	@Benchmark
+	public UUID random_based_direct() {
+		return randomBasedFactory.create();
+	}
+
+	@Benchmark
+	public UUID random_based_pooled() {
+		return randomBasedPool.create();
+	}
+
+	@Benchmark
+	public UUID time_ordered_epoch_direct() {
+		return timeOrderedEpochFactory.create();
+	}
+
+	@Benchmark
+	public UUID time_ordered_epoch_pooled() {
+		return timeOrderedEpochPool.create();
+	}
+
+	@TearDown
+	public void tearDown() {
+		randomBasedPool.close();
+		timeOrderedEpochPool.close();
+	}
+}
@@ -26,6 +26,9 @@ package com.github.f4b6a3.uuid;
 
 import java.time.Instant;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.github.f4b6a3.uuid.codec.BinaryCodec;
 import com.github.f4b6a3.uuid.codec.StringCodec;
@@ -33,6 +36,8 @@ import com.github.f4b6a3.uuid.enums.UuidLocalDomain;
 import com.github.f4b6a3.uuid.enums.UuidNamespace;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.factory.AbstTimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.NoArgsFactory;
+import com.github.f4b6a3.uuid.factory.UuidSpliterator;
 import com.github.f4b6a3.uuid.factory.nonstandard.PrefixCombFactory;
 import com.github.f4b6a3.uuid.factory.nonstandard.ShortPrefixCombFactory;
 import com.github.f4b6a3.uuid.factory.nonstandard.ShortSuffixCombFactory;
@@ -167,6 +172,21 @@ public final class UuidCreator {
 		return RandomBasedHolder.INSTANCE.create();
 	}
 
+	/**
+	 * Returns an array of random UUIDs.
+	 * 
+	 * The UUIDs are created in a single batch, in the same order as if they were
+	 * created one by one.
+	 * 
+	 * @param n the number of UUIDs
+	 * @return an array of version 4 UUIDs
+	 */
+	public static UUID[] getRandomBased(int n) {
+		UUID[] uuids = new UUID[n];
+		RandomBasedHolder.INSTANCE.fill(uuids);
+		return uuids;
+	}
+
 	/**
 	 * Returns a time-based UUID.
 	 *
@@ -185,6 +205,21 @@ public final class UuidCreator {
 		return TimeBasedHolder.INSTANCE.create();
 	}
 
+	/**
+	 * Returns an array of time-based UUIDs.
+	 * 
+	 * The UUIDs are created in a single batch, in the same order as if they were
+	 * created one by one.
+	 * 
+	 * @param n the number of UUIDs
+	 * @return an array of version 1 UUIDs
+	 */
+	public static UUID[] getTimeBased(int n) {
+		UUID[] uuids = new UUID[n];
+		TimeBasedHolder.INSTANCE.fill(uuids);
+		return uuids;
+	}
+
 	/**
 	 * Returns a time-based UUID with hardware address as node identifier.
 	 *
@@ -289,6 +324,21 @@ public final class UuidCreator {
 		return TimeOrderedHolder.INSTANCE.create();
 	}
 
+	/**
+	 * Returns an array of time-ordered UUIDs.
+	 * 
+	 * The UUIDs are created in a single batch, in the same order as if they were
+	 * created one by one.
+	 * 
+	 * @param n the number of UUIDs
+	 * @return an array of version 6 UUIDs
+	 */
+	public static UUID[] getTimeOrdered(int n) {
+		UUID[] uuids = new UUID[n];
+		TimeOrderedHolder.INSTANCE.fill(uuids);
+		return uuids;
+	}
+
 	/**
 	 * Returns a time-ordered UUID with hardware address as node identifier.
 	 *
@@ -390,6 +440,21 @@ public final class UuidCreator {
 		return TimeOrderedEpochHolder.INSTANCE.create();
 	}
 
+	/**
+	 * Returns an array of Unix Epoch time-based UUIDs.
+	 * 
+	 * The UUIDs are created in a single batch, in the same order as if they were
+	 * created one by one.
+	 * 
+	 * @param n the number of UUIDs
+	 * @return an array of version 7 UUIDs
+	 */
+	public static UUID[] getTimeOrderedEpoch(int n) {
+		UUID[] uuids = new UUID[n];
+		TimeOrderedEpochHolder.INSTANCE.fill(uuids);
+		return uuids;
+	}
+
 	/**
 	 * Returns a Unix Epoch time-based UUID in increments of 1.
 	 *
@@ -405,6 +470,21 @@ public final class UuidCreator {
 		return TimeOrderedEpochPlus1Holder.INSTANCE.create();
 	}
 
+	/**
+	 * Returns an array of Unix Epoch time-based UUIDs in increments of 1.
+	 * 
+	 * The UUIDs are created in a single batch, in the same order as if they were
+	 * created one by one.
+	 * 
+	 * @param n the number of UUIDs
+	 * @return an array of version 7 UUIDs
+	 */
+	public static UUID[] getTimeOrderedEpochPlus1(int n) {
+		UUID[] uuids = new UUID[n];
+		TimeOrderedEpochPlus1Holder.INSTANCE.fill(uuids);
+		return uuids;
+	}
+
 	/**
 	 * Returns a Unix Epoch time-based UUID in increments of N.
 	 *
@@ -420,6 +500,21 @@ public final class UuidCreator {
 		return TimeOrderedEpochPlusNHolder.INSTANCE.create();
 	}
 
+	/**
+	 * Returns an array of Unix Epoch time-based UUIDs in increments of N.
+	 * 
+	 * The UUIDs are created in a single batch, in the same order as if they were
+	 * created one by one.
+	 * 
+	 * @param n the number of UUIDs
+	 * @return an array of version 7 UUIDs
+	 */
+	public static UUID[] getTimeOrderedEpochPlusN(int n) {
+		UUID[] uuids = new UUID[n];
+		TimeOrderedEpochPlusNHolder.INSTANCE.fill(uuids);
+		return uuids;
+	}
+
 	/**
 	 * Returns a name-based UUID (MD5).
 	 * 
@@ -1156,6 +1251,21 @@ public final class UuidCreator {
 		return PrefixCombHolder.INSTANCE.create();
 	}
 
+	/**
+	 * Returns an array of Prefix COMBs.
+	 * 
+	 * The UUIDs are created in a single batch, in the same order as if they were
+	 * created one by one.
+	 * 
+	 * @param n the number of UUIDs
+	 * @return an array of GUIDs
+	 */
+	public static UUID[] getPrefixComb(int n) {
+		UUID[] uuids = new UUID[n];
+		PrefixCombHolder.INSTANCE.fill(uuids);
+		return uuids;
+	}
+
 	/**
 	 * Returns a Suffix COMB.
 	 * 
@@ -1171,6 +1281,21 @@ public final class UuidCreator {
 		return SuffixCombHolder.INSTANCE.create();
 	}
 
+	/**
+	 * Returns an array of Suffix COMBs.
+	 * 
+	 * The UUIDs are created in a single batch, in the same order as if they were
+	 * created one by one.
+	 * 
+	 * @param n the number of UUIDs
+	 * @return an array of GUIDs
+	 */
+	public static UUID[] getSuffixComb(int n) {
+		UUID[] uuids = new UUID[n];
+		SuffixCombHolder.INSTANCE.fill(uuids);
+		return uuids;
+	}
+
 	/**
 	 * Returns n Short Prefix COMB.
 	 * 
@@ -1187,6 +1312,21 @@ public final class UuidCreator {
 		return ShortPrefixCombHolder.INSTANCE.create();
 	}
 
+	/**
+	 * Returns an array of Short Prefix COMBs.
+	 * 
+	 * The UUIDs are created in a single batch, in the same order as if they were
+	 * created one by one.
+	 * 
+	 * @param n the number of UUIDs
+	 * @return an array of GUIDs
+	 */
+	public static UUID[] getShortPrefixComb(int n) {
+		UUID[] uuids = new UUID[n];
+		ShortPrefixCombHolder.INSTANCE.fill(uuids);
+		return uuids;
+	}
+
 	/**
 	 * Returns a Short Suffix COMB.
 	 * 
@@ -1203,6 +1343,44 @@ public final class UuidCreator {
 		return ShortSuffixCombHolder.INSTANCE.create();
 	}
 
+	/**
+	 * Returns an array of Short Suffix COMBs.
+	 * 
+	 * The UUIDs are created in a single batch, in the same order as if they were
+	 * created one by one.
+	 * 
+	 * @param n the number of UUIDs
+	 * @return an array of GUIDs
+	 */
+	public static UUID[] getShortSuffixComb(int n) {
+		UUID[] uuids = new UUID[n];
+		ShortSuffixCombHolder.INSTANCE.fill(uuids);
+		return uuids;
+	}
+
+	/**
+	 * Returns a stream of UUIDs that scales in parallel.
+	 * 
+	 * Every split of the stream gets its own factory from the supplier, so that
+	 * the threads of a parallel stream don't contend on the same factory.
+	 * 
+	 * Example:
+	 * 
+	 * <pre>
+	 * UUID[] uuids = UuidCreator.stream(TimeOrderedEpochFactory::new, 1_000_000).parallel().toArray(UUID[]::new);
+	 * </pre>
+	 * 
+	 * See {@link UuidSpliterator} for the guarantees across splits.
+	 * 
+	 * @param supplier a supplier of independent factories, one per split
+	 * @param n        the number of UUIDs
+	 * @return a sequential stream of UUIDs
+	 * @throws IllegalArgumentException if n is negative
+	 */
+	public static Stream<UUID> stream(Supplier<? extends NoArgsFactory> supplier, long n) {
+		return StreamSupport.stream(new UuidSpliterator(supplier, n), false);
+	}
+
 	/*
 	 * Private classes for lazy holders
 	 */
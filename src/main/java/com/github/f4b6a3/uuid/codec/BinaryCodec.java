@@ -24,10 +24,13 @@
 
 package com.github.f4b6a3.uuid.codec;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.UuidValidator;
+import com.github.f4b6a3.uuid.util.internal.ByteUtil;
 
 /**
  * Codec for UUID binary encoding as defined in the RFC-4122.
@@ -83,6 +86,39 @@ public class BinaryCodec implements UuidCodec<byte[]> {
 		return bytes;
 	}
 
+	/**
+	 * Put the 16 bytes of a UUID into an array of bytes.
+	 * 
+	 * No array is allocated.
+	 * 
+	 * @param uuid   a UUID
+	 * @param bytes  an array of bytes
+	 * @param offset the index of the first byte
+	 * @throws InvalidUuidException      if the UUID is invalid
+	 * @throws IndexOutOfBoundsException if there is no room for 16 bytes
+	 */
+	public void encode(final UUID uuid, final byte[] bytes, final int offset) {
+		UuidValidator.validate(uuid);
+		ByteUtil.toBytes(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), bytes, offset);
+	}
+
+	/**
+	 * Put the 16 bytes of a UUID into a buffer.
+	 * 
+	 * The bytes are written in big-endian order at the current position, which is
+	 * then incremented by 16. Both heap and direct buffers are supported. No array
+	 * is allocated.
+	 * 
+	 * @param uuid   a UUID
+	 * @param buffer a byte buffer
+	 * @throws InvalidUuidException    if the UUID is invalid
+	 * @throws BufferOverflowException if there are less than 16 bytes remaining
+	 */
+	public void encode(final UUID uuid, final ByteBuffer buffer) {
+		UuidValidator.validate(uuid);
+		ByteUtil.toBytes(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), buffer);
+	}
+
 	/**
 	 * Get a UUID from an array of bytes.
 	 * 
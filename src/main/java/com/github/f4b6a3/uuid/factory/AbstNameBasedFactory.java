@@ -24,10 +24,31 @@
 
 package com.github.f4b6a3.uuid.factory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.github.f4b6a3.uuid.codec.BinaryCodec;
 import com.github.f4b6a3.uuid.codec.StringCodec;
@@ -35,9 +56,11 @@ import com.github.f4b6a3.uuid.enums.UuidNamespace;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.internal.ByteUtil;
+import com.github.f4b6a3.uuid.util.internal.Murmur3Digest;
 
 import static com.github.f4b6a3.uuid.enums.UuidVersion.VERSION_NAME_BASED_MD5;
 import static com.github.f4b6a3.uuid.enums.UuidVersion.VERSION_NAME_BASED_SHA1;
+import static com.github.f4b6a3.uuid.enums.UuidVersion.VERSION_CUSTOM;
 
 /**
  * Factory that creates name-based UUIDs.
@@ -58,30 +81,82 @@ import static com.github.f4b6a3.uuid.enums.UuidVersion.VERSION_NAME_BASED_SHA1;
  * 
  * RFC-4122 - Appendix C - Some Name Space IDs
  * https://tools.ietf.org/html/rfc4122#appendix-C
+ * 
+ * RFC-9562 - 5.8. UUID Version 8
+ * https://www.rfc-editor.org/rfc/rfc9562#section-5.8
  */
 public abstract class AbstNameBasedFactory extends UuidFactory {
 
 	protected byte[] namespace = null;
-	protected final String algorithm; // MD5 or SHA-1
+	protected final String algorithm; // MD5, SHA-1 or MURMUR3-128
+	protected final NameBasedCache cache; // optional
 
 	protected static final String ALGORITHM_MD5 = "MD5";
 	protected static final String ALGORITHM_SHA1 = "SHA-1";
+	protected static final String ALGORITHM_MURMUR3 = Murmur3Digest.ALGORITHM;
+
+	// one reusable message digest per thread and algorithm
+	private static final ThreadLocal<MessageDigest> MD5 = ThreadLocal.withInitial(() -> digest(ALGORITHM_MD5));
+	private static final ThreadLocal<MessageDigest> SHA1 = ThreadLocal.withInitial(() -> digest(ALGORITHM_SHA1));
+	private static final ThreadLocal<Murmur3Digest> MURMUR3 = ThreadLocal.withInitial(Murmur3Digest::new);
+
+	// one reusable buffer per thread for encoding character sequences
+	private static final ThreadLocal<byte[]> UTF8_BUFFER = ThreadLocal.withInitial(() -> new byte[256]);
+
+	// namespaces in string format already parsed
+	private static final ConcurrentHashMap<String, byte[]> NAMESPACES = new ConcurrentHashMap<>();
+	protected static final int NAMESPACE_CACHE_SIZE = 256;
+
+	// size of the buffer used to read streams and channels
+	protected static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	// size of the regions of a file mapped into memory at a time
+	protected static final long MAPPED_REGION_SIZE = 64L * 1024 * 1024;
+
+	// one reusable read buffer per thread
+	private static final ThreadLocal<ByteBuffer> READ_BUFFER = ThreadLocal
+			.withInitial(() -> ByteBuffer.allocate(READ_BUFFER_SIZE));
+
+	// minimum number of names hashed by a bulk task
+	protected static final int BULK_BATCH_SIZE = 256;
+
+	// namespace enumerations already encoded
+	private static final byte[][] PREDEFINED_NAMESPACES = predefinedNamespaces();
 
 	/**
 	 * This constructor receives the name of a message digest.
 	 * 
-	 * @param version   the version number (3 or 5)
-	 * @param algorithm a message digest algorithm (MD5 or SHA-1)
+	 * It uses the cache configured by the settings, if any, which is shared by
+	 * all the factories.
+	 * 
+	 * @param version   the version number (3, 5 or 8)
+	 * @param algorithm a message digest algorithm (MD5, SHA-1 or MURMUR3-128)
 	 * @param namespace a namespace byte array (null or 16 bytes)
 	 */
 	public AbstNameBasedFactory(UuidVersion version, String algorithm, byte[] namespace) {
+		this(version, algorithm, namespace, NameBasedCache.shared());
+	}
+
+	/**
+	 * This constructor receives the name of a message digest and a cache.
+	 * 
+	 * @param version   the version number (3, 5 or 8)
+	 * @param algorithm a message digest algorithm (MD5, SHA-1 or MURMUR3-128)
+	 * @param namespace a namespace byte array (null or 16 bytes)
+	 * @param cache     a cache of UUIDs (null for none)
+	 */
+	public AbstNameBasedFactory(UuidVersion version, String algorithm, byte[] namespace, NameBasedCache cache) {
 		super(version);
 
-		if (!VERSION_NAME_BASED_MD5.equals(version) && !VERSION_NAME_BASED_SHA1.equals(version)) {
+		this.cache = cache;
+
+		if (!VERSION_NAME_BASED_MD5.equals(version) && !VERSION_NAME_BASED_SHA1.equals(version)
+				&& !VERSION_CUSTOM.equals(version)) {
 			throw new IllegalArgumentException("Invalid UUID version");
 		}
 
-		if (ALGORITHM_MD5.equals(algorithm) || ALGORITHM_SHA1.equals(algorithm)) {
+		if (ALGORITHM_MD5.equals(algorithm) || ALGORITHM_SHA1.equals(algorithm)
+				|| ALGORITHM_MURMUR3.equals(algorithm)) {
 			this.algorithm = algorithm;
 		} else {
 			throw new IllegalArgumentException("Invalid message digest algorithm");
@@ -315,20 +390,528 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 		return create(ns, n);
 	}
 
+	/**
+	 * Returns a name-based UUID.
+	 * 
+	 * The characters are encoded with UTF-8 straight into the message digest, so
+	 * the name is not copied into a new string or byte array. The result is the
+	 * same as {@link #create(String)}.
+	 * 
+	 * @param name a name character sequence
+	 * @return a name-based UUID
+	 */
+	public UUID create(final CharSequence name) {
+		return create(this.namespace, name);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * 
+	 * The bytes between the position and the limit of the buffer are given to the
+	 * message digest without copying them into a new byte array. The position of
+	 * the buffer is not changed. The result is the same as
+	 * {@link #create(byte[])}.
+	 * 
+	 * @param name a byte buffer of the name
+	 * @return a name-based UUID
+	 */
+	public UUID create(final ByteBuffer name) {
+		return create(this.namespace, name);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param name      a name character sequence
+	 * @return a name-based UUID
+	 * @see #create(CharSequence)
+	 */
+	public UUID create(final UUID namespace, final CharSequence name) {
+		final byte[] ns = namespace == null ? null : bytes(namespace);
+		return create(ns, name);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param name      a byte buffer of the name
+	 * @return a name-based UUID
+	 * @see #create(ByteBuffer)
+	 */
+	public UUID create(final UUID namespace, final ByteBuffer name) {
+		final byte[] ns = namespace == null ? null : bytes(namespace);
+		return create(ns, name);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * 
+	 * @param namespace a name space UUID in string format (optional)
+	 * @param name      a name character sequence
+	 * @return a name-based UUID
+	 * @throws InvalidUuidException if the namespace is invalid
+	 * @see #create(CharSequence)
+	 */
+	public UUID create(final String namespace, final CharSequence name) {
+		final byte[] ns = namespace == null ? null : bytes(namespace);
+		return create(ns, name);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * 
+	 * @param namespace a name space UUID in string format (optional)
+	 * @param name      a byte buffer of the name
+	 * @return a name-based UUID
+	 * @throws InvalidUuidException if the namespace is invalid
+	 * @see #create(ByteBuffer)
+	 */
+	public UUID create(final String namespace, final ByteBuffer name) {
+		final byte[] ns = namespace == null ? null : bytes(namespace);
+		return create(ns, name);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * 
+	 * @param namespace a name space enumeration (optional)
+	 * @param name      a name character sequence
+	 * @return a name-based UUID
+	 * @see #create(CharSequence)
+	 */
+	public UUID create(final UuidNamespace namespace, final CharSequence name) {
+		final byte[] ns = namespace == null ? null : bytes(namespace);
+		return create(ns, name);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * 
+	 * @param namespace a name space enumeration (optional)
+	 * @param name      a byte buffer of the name
+	 * @return a name-based UUID
+	 * @see #create(ByteBuffer)
+	 */
+	public UUID create(final UuidNamespace namespace, final ByteBuffer name) {
+		final byte[] ns = namespace == null ? null : bytes(namespace);
+		return create(ns, name);
+	}
+
+	/**
+	 * Returns a name-based UUID for the content of a stream.
+	 * 
+	 * The stream is read to the end in small chunks, so that the content is never
+	 * held in memory as a whole. The stream is not closed. The result is the same
+	 * as {@link #create(byte[])} with all the bytes of the stream.
+	 * 
+	 * The cache is not used for content.
+	 * 
+	 * @param content an input stream
+	 * @return a name-based UUID
+	 * @throws IOException if the stream can't be read
+	 */
+	public UUID create(final InputStream content) throws IOException {
+		return create(this.namespace, content);
+	}
+
+	/**
+	 * Returns a name-based UUID for the content of a stream.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param content   an input stream
+	 * @return a name-based UUID
+	 * @throws IOException if the stream can't be read
+	 * @see #create(InputStream)
+	 */
+	public UUID create(final UUID namespace, final InputStream content) throws IOException {
+		final byte[] ns = namespace == null ? null : bytes(namespace);
+		return create(ns, content);
+	}
+
+	/**
+	 * Returns a name-based UUID for the content of a channel.
+	 * 
+	 * The channel is read to the end in small chunks, so that the content is
+	 * never held in memory as a whole. The channel is not closed. The result is
+	 * the same as {@link #create(byte[])} with all the bytes of the channel.
+	 * 
+	 * The cache is not used for content.
+	 * 
+	 * @param content a readable channel
+	 * @return a name-based UUID
+	 * @throws IOException if the channel can't be read
+	 */
+	public UUID create(final ReadableByteChannel content) throws IOException {
+		return create(this.namespace, content);
+	}
+
+	/**
+	 * Returns a name-based UUID for the content of a channel.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param content   a readable channel
+	 * @return a name-based UUID
+	 * @throws IOException if the channel can't be read
+	 * @see #create(ReadableByteChannel)
+	 */
+	public UUID create(final UUID namespace, final ReadableByteChannel content) throws IOException {
+		final byte[] ns = namespace == null ? null : bytes(namespace);
+		return create(ns, content);
+	}
+
+	/**
+	 * Returns a name-based UUID for the content of a file.
+	 * 
+	 * Large files are mapped into memory one region at a time, so the content is
+	 * given to the message digest without being copied to the heap. Each region
+	 * is released when it is garbage collected. Small files are just read. The
+	 * result is the same as {@link #create(byte[])} with all the bytes of the
+	 * file. To hash many files, use
+	 * {@link #createAll(UUID, Path, ForkJoinPool)}, which doesn't map them.
+	 * 
+	 * The cache is not used for content.
+	 * 
+	 * @param content a path of a regular file
+	 * @return a name-based UUID
+	 * @throws IOException if the file can't be read
+	 */
+	public UUID create(final Path content) throws IOException {
+		return create(this.namespace, content, true);
+	}
+
+	/**
+	 * Returns a name-based UUID for the content of a file.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param content   a path of a regular file
+	 * @return a name-based UUID
+	 * @throws IOException if the file can't be read
+	 * @see #create(Path)
+	 */
+	public UUID create(final UUID namespace, final Path content) throws IOException {
+		final byte[] ns = namespace == null ? null : bytes(namespace);
+		return create(ns, content, true);
+	}
+
+	/**
+	 * Returns name-based UUIDs for a list of names, in the same order.
+	 * 
+	 * The names are hashed in parallel by the common {@link ForkJoinPool}.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param names     a list of names
+	 * @return an array of name-based UUIDs
+	 * @see #create(UUID, CharSequence)
+	 */
+	public UUID[] createAll(final UUID namespace, final List<? extends CharSequence> names) {
+		return createAll(namespace, names, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns name-based UUIDs for a list of names, in the same order.
+	 * 
+	 * The names are hashed in parallel by the given pool, so the parallelism is
+	 * that of the pool.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param names     a list of names
+	 * @param pool      a fork-join pool
+	 * @return an array of name-based UUIDs
+	 * @see #create(UUID, CharSequence)
+	 */
+	public UUID[] createAll(final UUID namespace, final List<? extends CharSequence> names, final ForkJoinPool pool) {
+		final UUID[] uuids = new UUID[names.size()];
+		pool.invoke(new BulkTask(creator(namespace, accessor(names), pool), 0, uuids.length, uuids, null, null,
+				threshold(uuids.length, pool)));
+		return uuids;
+	}
+
+	/**
+	 * Writes name-based UUIDs for a list of names into arrays of most and least
+	 * significant bits, in the same order.
+	 * 
+	 * It is useful for a large number of names, since no UUID object is kept.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param names     a list of names
+	 * @param msbs      an array for the most significant bits
+	 * @param lsbs      an array for the least significant bits
+	 * @param pool      a fork-join pool
+	 * @throws IllegalArgumentException if the arrays have different lengths or
+	 *                                  are shorter than the list
+	 * @see #create(UUID, CharSequence)
+	 */
+	public void createAll(final UUID namespace, final List<? extends CharSequence> names, final long[] msbs,
+			final long[] lsbs, final ForkJoinPool pool) {
+		final int size = names.size();
+		validate(size, msbs, lsbs);
+		pool.invoke(new BulkTask(creator(namespace, accessor(names), pool), 0, size, null, msbs, lsbs,
+				threshold(size, pool)));
+	}
+
+	/**
+	 * Returns name-based UUIDs for an array of names, in the same order.
+	 * 
+	 * The names are hashed in parallel by the common {@link ForkJoinPool}.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param names     an array of names
+	 * @return an array of name-based UUIDs
+	 * @see #create(UUID, CharSequence)
+	 */
+	public UUID[] createAll(final UUID namespace, final CharSequence[] names) {
+		return createAll(namespace, names, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns name-based UUIDs for an array of names, in the same order.
+	 * 
+	 * The names are hashed in parallel by the given pool, so the parallelism is
+	 * that of the pool.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param names     an array of names
+	 * @param pool      a fork-join pool
+	 * @return an array of name-based UUIDs
+	 * @see #create(UUID, CharSequence)
+	 */
+	public UUID[] createAll(final UUID namespace, final CharSequence[] names, final ForkJoinPool pool) {
+		final UUID[] uuids = new UUID[names.length];
+		pool.invoke(new BulkTask(creator(namespace, i -> names[i], pool), 0, uuids.length, uuids, null, null,
+				threshold(uuids.length, pool)));
+		return uuids;
+	}
+
+	/**
+	 * Writes name-based UUIDs for an array of names into arrays of most and least
+	 * significant bits, in the same order.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param names     an array of names
+	 * @param msbs      an array for the most significant bits
+	 * @param lsbs      an array for the least significant bits
+	 * @param pool      a fork-join pool
+	 * @throws IllegalArgumentException if the arrays have different lengths or
+	 *                                  are shorter than the names
+	 * @see #create(UUID, CharSequence)
+	 */
+	public void createAll(final UUID namespace, final CharSequence[] names, final long[] msbs, final long[] lsbs,
+			final ForkJoinPool pool) {
+		validate(names.length, msbs, lsbs);
+		pool.invoke(new BulkTask(creator(namespace, i -> names[i], pool), 0, names.length, null, msbs, lsbs,
+				threshold(names.length, pool)));
+	}
+
+	/**
+	 * Returns name-based UUIDs for a stream of names, in encounter order.
+	 * 
+	 * The stream is made parallel and consumed by the given pool.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param names     a stream of names
+	 * @param pool      a fork-join pool
+	 * @return an array of name-based UUIDs
+	 * @see #create(UUID, CharSequence)
+	 */
+	public UUID[] createAll(final UUID namespace, final Stream<? extends CharSequence> names, final ForkJoinPool pool) {
+		final byte[] ns = bytes(namespace, pool);
+		return pool.submit(() -> names.parallel().map(name -> create(ns, name)).toArray(UUID[]::new)).join();
+	}
+
+	/**
+	 * Returns name-based UUIDs for the content of all regular files in a
+	 * directory and its subdirectories.
+	 * 
+	 * The files are hashed in parallel by the given pool. Each worker reads one
+	 * file at a time through its own read buffer, without mapping it into memory,
+	 * so memory use is bounded by the parallelism of the pool and not by the size
+	 * of the files. Mapped regions would only be released by the garbage
+	 * collector, so a large directory could pile up many of them.
+	 * 
+	 * @param namespace a name space UUID (optional)
+	 * @param directory a directory
+	 * @param pool      a fork-join pool
+	 * @return a map of files to name-based UUIDs, sorted by path
+	 * @throws IOException if the directory or a file can't be read
+	 * @see #create(Path)
+	 */
+	public Map<Path, UUID> createAll(final UUID namespace, final Path directory, final ForkJoinPool pool)
+			throws IOException {
+
+		final byte[] ns = bytes(namespace, pool);
+
+		final List<Path> files;
+		try (Stream<Path> walk = Files.walk(directory)) {
+			files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		final UUID[] uuids = new UUID[files.size()];
+		final IntFunction<UUID> creator = i -> {
+			try {
+				return create(ns, files.get(i), false);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+
+		try {
+			// one task per file, since their sizes may vary a lot
+			pool.invoke(new BulkTask(creator, 0, uuids.length, uuids, null, null, 1));
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		final Map<Path, UUID> map = new LinkedHashMap<>();
+		for (int i = 0; i < uuids.length; i++) {
+			map.put(files.get(i), uuids[i]);
+		}
+		return map;
+	}
+
+	private static byte[] bytes(final UUID namespace, final ForkJoinPool pool) {
+		Objects.requireNonNull(pool, "Null pool");
+		return namespace == null ? null : bytes(namespace);
+	}
+
+	private IntFunction<UUID> creator(final UUID namespace, final IntFunction<CharSequence> names,
+			final ForkJoinPool pool) {
+		final byte[] ns = bytes(namespace, pool);
+		return i -> create(ns, names.apply(i));
+	}
+
+	private static IntFunction<CharSequence> accessor(final List<? extends CharSequence> names) {
+		if (names instanceof RandomAccess) {
+			return names::get;
+		}
+		// avoid walking a linked list for each index
+		final CharSequence[] array = names.toArray(new CharSequence[0]);
+		return i -> array[i];
+	}
+
+	private static int threshold(final int size, final ForkJoinPool pool) {
+		// a few tasks per worker, so that idle workers can steal
+		return Math.max(BULK_BATCH_SIZE, size / (pool.getParallelism() << 3));
+	}
+
+	private static void validate(final int size, final long[] msbs, final long[] lsbs) {
+		validate(msbs, lsbs);
+		if (msbs.length < size) {
+			throw new IllegalArgumentException("Arrays shorter than the names: " + msbs.length);
+		}
+	}
+
+	/**
+	 * Task that creates the UUIDs of a range of indexes, splitting it while it is
+	 * larger than a threshold.
+	 */
+	private static final class BulkTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final IntFunction<UUID> creator;
+		private final int from;
+		private final int to;
+		private final UUID[] uuids;
+		private final long[] msbs;
+		private final long[] lsbs;
+		private final int threshold;
+
+		BulkTask(IntFunction<UUID> creator, int from, int to, UUID[] uuids, long[] msbs, long[] lsbs,
+				int threshold) {
+			this.creator = creator;
+			this.from = from;
+			this.to = to;
+			this.uuids = uuids;
+			this.msbs = msbs;
+			this.lsbs = lsbs;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected void compute() {
+
+			if (to - from > threshold) {
+				final int middle = (from + to) >>> 1;
+				invokeAll(new BulkTask(creator, from, middle, uuids, msbs, lsbs, threshold),
+						new BulkTask(creator, middle, to, uuids, msbs, lsbs, threshold));
+				return;
+			}
+
+			for (int i = from; i < to; i++) {
+				final UUID uuid = creator.apply(i);
+				if (uuids != null) {
+					uuids[i] = uuid;
+				} else {
+					msbs[i] = uuid.getMostSignificantBits();
+					lsbs[i] = uuid.getLeastSignificantBits();
+				}
+			}
+		}
+	}
+
 	protected static byte[] bytes(UuidNamespace namespace) {
-		return bytes(namespace.getValue());
+		return PREDEFINED_NAMESPACES[namespace.ordinal()];
 	}
 
 	protected static byte[] bytes(UUID namespace) {
 		return BinaryCodec.INSTANCE.encode(namespace);
 	}
 
+	/**
+	 * Returns the bytes of a namespace in string format.
+	 * 
+	 * The namespaces already parsed are cached. The cache is cleared when it
+	 * reaches {@link #NAMESPACE_CACHE_SIZE} entries. The returned array must not
+	 * be changed.
+	 * 
+	 * @param namespace a name space UUID in string format
+	 * @return a byte array
+	 * @throws InvalidUuidException if the namespace is invalid
+	 */
 	protected static byte[] bytes(String namespace) {
-		return BinaryCodec.INSTANCE.encode(StringCodec.INSTANCE.decode(namespace));
+		byte[] bytes = NAMESPACES.get(namespace);
+		if (bytes == null) {
+			bytes = BinaryCodec.INSTANCE.encode(StringCodec.INSTANCE.decode(namespace));
+			if (NAMESPACES.size() >= NAMESPACE_CACHE_SIZE) {
+				NAMESPACES.clear();
+			}
+			NAMESPACES.put(namespace, bytes);
+		}
+		return bytes;
+	}
+
+	private static byte[][] predefinedNamespaces() {
+		final UuidNamespace[] values = UuidNamespace.values();
+		final byte[][] namespaces = new byte[values.length][];
+		for (int i = 0; i < values.length; i++) {
+			namespaces[i] = bytes(values[i].getValue());
+		}
+		return namespaces;
+	}
+
+	private static MessageDigest digest(final String algorithm) {
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalArgumentException("Message digest algorithm not available: " + algorithm, e);
+		}
 	}
 
 	/**
-	 * Returns a name-based UUID.
+	 * Returns the cache of this factory.
+	 * 
+	 * @return a cache or null
+	 */
+	public NameBasedCache getCache() {
+		return this.cache;
+	}
+
+	/**
+	 * Returns a name-based UUID, looking it up in the cache first.
 	 * 
 	 * @param namespace a byte array of the name space (optional)
 	 * @param name      a byte array of the name
@@ -336,27 +919,235 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 	 */
 	private UUID create(final byte[] namespace, final byte[] name) {
 
-		MessageDigest hasher;
+		if (this.cache == null) {
+			return hash(namespace, name);
+		}
 
-		try {
-			// No need for a synchronized `MessageDigest`. Just get a new instance, use it,
-			// and throw it away. It performs worse than synchronized instances in
-			// single-threaded benchmarks, but it performs much better in multi-threaded
-			// contexts. The overhead of creation is justifiable.
-			hasher = MessageDigest.getInstance(this.algorithm);
-		} catch (NoSuchAlgorithmException e) {
-			throw new IllegalArgumentException("Message digest algorithm not available: " + this.algorithm, e);
+		final int ver = this.version.getValue();
+		UUID uuid = this.cache.get(ver, namespace, name);
+		if (uuid == null) {
+			uuid = hash(namespace, name);
+			this.cache.put(ver, namespace, name, uuid);
 		}
+		return uuid;
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * 
+	 * @param namespace a byte array of the name space (optional)
+	 * @param name      a byte array of the name
+	 * @return a name-based UUID
+	 */
+	private UUID hash(final byte[] namespace, final byte[] name) {
+
+		if (ALGORITHM_MURMUR3.equals(this.algorithm)) {
+			// hash straight into two longs, without intermediate arrays
+			final Murmur3Digest hasher = MURMUR3.get();
+			hasher.hash(namespace, name);
+			return toUuid(hasher.getMostSignificantBits(), hasher.getLeastSignificantBits());
+		}
+
+		final MessageDigest hasher = hasher(namespace);
+		return toUuid(hasher.digest(name));
+	}
+
+	/**
+	 * Returns a name-based UUID for a character sequence.
+	 * 
+	 * @param namespace a byte array of the name space (optional)
+	 * @param name      a name character sequence
+	 * @return a name-based UUID
+	 */
+	private UUID create(final byte[] namespace, final CharSequence name) {
+
+		if (this.cache != null) {
+			// the cache needs the whole name
+			return create(namespace, name.toString().getBytes(StandardCharsets.UTF_8));
+		}
+
+		final MessageDigest hasher = hasher(namespace);
+		update(hasher, name);
+		return toUuid(hasher.digest());
+	}
+
+	/**
+	 * Returns a name-based UUID for a byte buffer.
+	 * 
+	 * @param namespace a byte array of the name space (optional)
+	 * @param name      a byte buffer of the name
+	 * @return a name-based UUID
+	 */
+	private UUID create(final byte[] namespace, final ByteBuffer name) {
+
+		if (this.cache != null) {
+			// the cache needs the whole name
+			final byte[] bytes = new byte[name.remaining()];
+			name.duplicate().get(bytes);
+			return create(namespace, bytes);
+		}
+
+		final MessageDigest hasher = hasher(namespace);
+		final int position = name.position();
+		hasher.update(name);
+		// Java 8 has no ByteBuffer.position(int), only Buffer.position(int)
+		((Buffer) name).position(position);
+		return toUuid(hasher.digest());
+	}
+
+	/**
+	 * Returns a name-based UUID for the content of a stream.
+	 * 
+	 * @param namespace a byte array of the name space (optional)
+	 * @param content   an input stream
+	 * @return a name-based UUID
+	 * @throws IOException if the stream can't be read
+	 */
+	private UUID create(final byte[] namespace, final InputStream content) throws IOException {
+		final MessageDigest hasher = hasher(namespace);
+		final byte[] buffer = READ_BUFFER.get().array();
+		int n;
+		while ((n = content.read(buffer)) != -1) {
+			hasher.update(buffer, 0, n);
+		}
+		return toUuid(hasher.digest());
+	}
+
+	/**
+	 * Returns a name-based UUID for the content of a channel.
+	 * 
+	 * @param namespace a byte array of the name space (optional)
+	 * @param content   a readable channel
+	 * @return a name-based UUID
+	 * @throws IOException if the channel can't be read
+	 */
+	private UUID create(final byte[] namespace, final ReadableByteChannel content) throws IOException {
+		final MessageDigest hasher = hasher(namespace);
+		final ByteBuffer buffer = READ_BUFFER.get();
+		// Java 8 has no ByteBuffer.clear() or flip(), only those of Buffer
+		((Buffer) buffer).clear();
+		while (content.read(buffer) != -1) {
+			((Buffer) buffer).flip();
+			hasher.update(buffer);
+			((Buffer) buffer).clear();
+		}
+		return toUuid(hasher.digest());
+	}
+
+	/**
+	 * Returns a name-based UUID for the content of a file.
+	 * 
+	 * @param namespace a byte array of the name space (optional)
+	 * @param content   a path of a regular file
+	 * @param map       true to map a large file into memory
+	 * @return a name-based UUID
+	 * @throws IOException if the file can't be read
+	 */
+	private UUID create(final byte[] namespace, final Path content, final boolean map) throws IOException {
+		try (FileChannel channel = FileChannel.open(content, StandardOpenOption.READ)) {
+
+			final long size = channel.size();
+			if (!map || size <= READ_BUFFER_SIZE) {
+				// mapping costs more than reading a small file
+				return create(namespace, channel);
+			}
+
+			final MessageDigest hasher = hasher(namespace);
+			for (long position = 0; position < size; position += MAPPED_REGION_SIZE) {
+				final long length = Math.min(MAPPED_REGION_SIZE, size - position);
+				hasher.update(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+			}
+			return toUuid(hasher.digest());
+		}
+	}
+
+	/**
+	 * Returns the message digest of the current thread, fed with the namespace.
+	 * 
+	 * @param namespace a byte array of the name space (optional)
+	 * @return a message digest
+	 */
+	private MessageDigest hasher(final byte[] namespace) {
+
+		// No need for a synchronized `MessageDigest`. Each thread reuses its own
+		// instance, which is reset by `digest()`. Getting a new instance for each
+		// UUID is much more expensive than hashing a short name.
+		//
+		// The namespace is fed again for each name instead of cloning a digest that
+		// has already absorbed it: 16 bytes don't fill a block, so feeding them only
+		// copies them into the buffer of the digest, whereas cloning would allocate.
+		final MessageDigest hasher = messageDigest();
+
+		// discard the state left by a failed call, if any
+		hasher.reset();
 
 		if (namespace != null) {
 			// prepend the namespace
 			hasher.update(namespace);
 		}
-		// Compute the hash of the name
-		final byte[] hash = hasher.digest(name);
+		return hasher;
+	}
+
+	private MessageDigest messageDigest() {
+		switch (this.algorithm) {
+		case ALGORITHM_MD5:
+			return MD5.get();
+		case ALGORITHM_SHA1:
+			return SHA1.get();
+		default:
+			return MURMUR3.get();
+		}
+	}
 
+	private UUID toUuid(final byte[] hash) {
 		final long msb = ByteUtil.toNumber(hash, 0, 8);
 		final long lsb = ByteUtil.toNumber(hash, 8, 16);
 		return toUuid(msb, lsb);
 	}
+
+	/**
+	 * Feeds a message digest with a character sequence encoded with UTF-8.
+	 * 
+	 * The encoding is the same as {@link String#getBytes(java.nio.charset.Charset)}:
+	 * unpaired surrogates are replaced with '?'.
+	 * 
+	 * @param hasher a message digest
+	 * @param chars  a character sequence
+	 */
+	private static void update(final MessageDigest hasher, final CharSequence chars) {
+
+		final byte[] buffer = UTF8_BUFFER.get();
+		final int length = chars.length();
+		int n = 0;
+
+		for (int i = 0; i < length; i++) {
+
+			if (n > buffer.length - 4) {
+				hasher.update(buffer, 0, n);
+				n = 0;
+			}
+
+			final char c = chars.charAt(i);
+			if (c < 0x80) {
+				buffer[n++] = (byte) c;
+			} else if (c < 0x800) {
+				buffer[n++] = (byte) (0xc0 | (c >>> 6));
+				buffer[n++] = (byte) (0x80 | (c & 0x3f));
+			} else if (!Character.isSurrogate(c)) {
+				buffer[n++] = (byte) (0xe0 | (c >>> 12));
+				buffer[n++] = (byte) (0x80 | ((c >>> 6) & 0x3f));
+				buffer[n++] = (byte) (0x80 | (c & 0x3f));
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+				final int cp = Character.toCodePoint(c, chars.charAt(++i));
+				buffer[n++] = (byte) (0xf0 | (cp >>> 18));
+				buffer[n++] = (byte) (0x80 | ((cp >>> 12) & 0x3f));
+				buffer[n++] = (byte) (0x80 | ((cp >>> 6) & 0x3f));
+				buffer[n++] = (byte) (0x80 | (cp & 0x3f));
+			} else {
+				buffer[n++] = '?'; // unpaired surrogate
+			}
+		}
+
+		hasher.update(buffer, 0, n);
+	}
 }
@@ -24,12 +24,16 @@
 
 package com.github.f4b6a3.uuid.factory;
 
+import java.nio.ByteBuffer;
 import java.security.SecureRandom;
 import java.util.Random;
+import java.util.UUID;
 import java.util.function.IntFunction;
 import java.util.function.LongSupplier;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
+import com.github.f4b6a3.uuid.factory.function.BitsConsumer;
+import com.github.f4b6a3.uuid.factory.function.impl.BufferedRandomFunction;
 import com.github.f4b6a3.uuid.factory.function.impl.DefaultRandomFunction;
 import com.github.f4b6a3.uuid.util.internal.ByteUtil;
 
@@ -42,11 +46,197 @@ public abstract class AbstRandomBasedFactory extends UuidFactory implements NoAr
 
 	protected static final int UUID_BYTES = 16;
 
+	// maximum number of UUIDs generated with one clock reading
+	protected static final int CHUNK_SIZE = 256;
+
+	// buffers for single UUIDs, guarded by `lock`
+	private final long[] msb = new long[1];
+	private final long[] lsb = new long[1];
+
 	protected AbstRandomBasedFactory(UuidVersion version, Builder<?, ?> builder) {
 		super(version);
 		this.random = builder.getRandom();
 	}
 
+	/**
+	 * Creates a UUID and passes its bits to a consumer.
+	 * 
+	 * No object is created if the random function is a {@link LongSupplier} that
+	 * doesn't create objects. The consumer is called after the lock is released.
+	 * 
+	 * @param consumer a consumer of the most and least significant bits
+	 */
+	@Override
+	public void createInto(final BitsConsumer consumer) {
+		final long msb0;
+		final long lsb0;
+		lock.lock();
+		try {
+			generate(this.msb, this.lsb, 0, 1);
+			msb0 = this.msb[0];
+			lsb0 = this.lsb[0];
+		} finally {
+			lock.unlock();
+		}
+		consumer.accept(msb0, lsb0);
+	}
+
+	/**
+	 * Creates a UUID and writes its bits into an array.
+	 * 
+	 * No object is created if the random function is a {@link LongSupplier} that
+	 * doesn't create objects.
+	 * 
+	 * @param dst    an array to receive the bits
+	 * @param offset the index of the most significant bits
+	 */
+	@Override
+	public void createInto(final long[] dst, final int offset) {
+		validate(dst, offset);
+		lock.lock();
+		try {
+			generate(this.msb, this.lsb, 0, 1);
+			dst[offset] = this.msb[0];
+			dst[offset + 1] = this.lsb[0];
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Creates a UUID and writes its bits into two arrays at the same index.
+	 * 
+	 * No object is created if the random function is a {@link LongSupplier} that
+	 * doesn't create objects.
+	 * 
+	 * @param msbs  an array to receive the most significant bits
+	 * @param lsbs  an array to receive the least significant bits
+	 * @param index the index of the UUID
+	 */
+	@Override
+	public void createInto(final long[] msbs, final long[] lsbs, final int index) {
+		validate(msbs, lsbs, index);
+		lock.lock();
+		try {
+			generate(msbs, lsbs, index, 1);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Creates a UUID and writes its 16 bytes into an array in big-endian order.
+	 * 
+	 * No object is created if the random function is a {@link LongSupplier} that
+	 * doesn't create objects.
+	 * 
+	 * @param dst    an array to receive the bytes
+	 * @param offset the index of the first byte
+	 */
+	@Override
+	public void createInto(final byte[] dst, final int offset) {
+		validate(dst, offset);
+		lock.lock();
+		try {
+			generate(this.msb, this.lsb, 0, 1);
+			ByteUtil.toBytes(this.msb[0], this.lsb[0], dst, offset);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Creates a UUID and writes its 16 bytes into a buffer in big-endian order.
+	 * 
+	 * No object is created if the random function is a {@link LongSupplier} that
+	 * doesn't create objects.
+	 * 
+	 * @param dst a heap or direct buffer to receive the bytes
+	 */
+	@Override
+	public void createInto(final ByteBuffer dst) {
+		validate(dst);
+		lock.lock();
+		try {
+			generate(this.msb, this.lsb, 0, 1);
+			ByteUtil.toBytes(this.msb[0], this.lsb[0], dst);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Fills an array with UUIDs.
+	 * 
+	 * The lock is taken only once for the whole array.
+	 * 
+	 * @param uuids an array to be filled
+	 */
+	@Override
+	public void fill(final UUID[] uuids) {
+		lock.lock();
+		try {
+			final int size = Math.min(uuids.length, CHUNK_SIZE);
+			final long[] msbs = new long[size];
+			final long[] lsbs = new long[size];
+			for (int i = 0; i < uuids.length; i += size) {
+				final int length = Math.min(size, uuids.length - i);
+				generate(msbs, lsbs, 0, length);
+				for (int j = 0; j < length; j++) {
+					uuids[i + j] = new UUID(msbs[j], lsbs[j]);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Fills two arrays with the most and least significant bits of UUIDs.
+	 * 
+	 * The lock is taken only once for the whole arrays.
+	 * 
+	 * @param msbs an array to be filled with the most significant bits
+	 * @param lsbs an array to be filled with the least significant bits
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	@Override
+	public void fill(final long[] msbs, final long[] lsbs) {
+		lock.lock();
+		try {
+			validate(msbs, lsbs);
+			for (int i = 0; i < msbs.length; i += CHUNK_SIZE) {
+				generate(msbs, lsbs, i, Math.min(CHUNK_SIZE, msbs.length - i));
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Generates a sequence of UUIDs as pairs of numbers.
+	 * 
+	 * It is always called by the thread that holds the lock of the factory. The
+	 * version and variant numbers are applied.
+	 * 
+	 * The default implementation calls {@link #create()} once per UUID, so that
+	 * subclasses written before this method existed keep working. The built-in
+	 * factories override it to read the clock only once and to fetch the random
+	 * bytes in one call per sequence.
+	 * 
+	 * @param msbs   an array to receive the most significant bits
+	 * @param lsbs   an array to receive the least significant bits
+	 * @param offset the index of the first UUID
+	 * @param length the number of UUIDs, at most {@link #CHUNK_SIZE}
+	 */
+	protected void generate(long[] msbs, long[] lsbs, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			final UUID uuid = create();
+			msbs[offset + i] = uuid.getMostSignificantBits();
+			lsbs[offset + i] = uuid.getLeastSignificantBits();
+		}
+	}
+
 	protected abstract static class Builder<T, B extends Builder<T, B>> {
 
 		protected IRandom random;
@@ -78,7 +268,12 @@ public abstract class AbstRandomBasedFactory extends UuidFactory implements NoAr
 
 		@SuppressWarnings("unchecked")
 		public B withRandomFunction(IntFunction<byte[]> randomFunction) {
-			this.random = new ByteRandom(randomFunction);
+			if (randomFunction instanceof BufferedRandomFunction) {
+				// take numbers from the buffer without creating arrays
+				this.random = new LongRandom(((BufferedRandomFunction) randomFunction)::nextLong);
+			} else {
+				this.random = new ByteRandom(randomFunction);
+			}
 			return (B) this;
 		}
 
@@ -24,10 +24,17 @@
 
 package com.github.f4b6a3.uuid.factory;
 
+import static com.github.f4b6a3.uuid.util.UuidTime.TICKS_PER_MILLI;
+
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
+import com.github.f4b6a3.uuid.factory.function.BitsConsumer;
 import com.github.f4b6a3.uuid.factory.function.ClockSeqFunction;
 import com.github.f4b6a3.uuid.factory.function.NodeIdFunction;
 import com.github.f4b6a3.uuid.factory.function.TimeFunction;
@@ -42,12 +49,60 @@ import com.github.f4b6a3.uuid.util.UuidTime;
 import com.github.f4b6a3.uuid.util.internal.ByteUtil;
 import com.github.f4b6a3.uuid.util.internal.SettingsUtil;
 
+/**
+ * Abstract Factory for time-based UUIDs.
+ * 
+ * By default, all calls to {@link AbstTimeBasedFactory#create()} are guarded
+ * by a {@link java.util.concurrent.locks.ReentrantLock}, and the time, node
+ * identifier and clock sequence functions are called every time. A virtual
+ * thread waiting for the lock doesn't pin its carrier thread.
+ * 
+ * The lock-free engine, enabled with {@link Builder#withLockFree()}, doesn't
+ * take the lock. It reserves each 100-nanosecond tick with compare-and-set,
+ * so that no tick is used twice, even if the time function returns the same
+ * value to many threads. The least significant bits (clock sequence and node
+ * identifier) are computed once and recomputed only when the clock sequence
+ * has to change, that is, when the clock goes backwards beyond a tolerance of
+ * 10 seconds. Within this tolerance the timestamp is kept monotonic by
+ * reserving the ticks that follow the last one used. The reserved ticks never
+ * get more than 1ms ahead of the clock: when more than 10,000 UUIDs are created
+ * in the same millisecond, the clock sequence changes too. If it can't change,
+ * e.g. because it is fixed, the engine waits for the clock instead.
+ * 
+ * In the lock-free engine the time function must be thread-safe, and the node
+ * identifier function is called only when the clock sequence changes.
+ */
 public abstract class AbstTimeBasedFactory extends UuidFactory implements NoArgsFactory {
 
 	protected TimeFunction timeFunction;
 	protected NodeIdFunction nodeidFunction;
 	protected ClockSeqFunction clockseqFunction;
 
+	// only used by the lock-free engine
+	private final AtomicReference<Epoch> epoch;
+
+	// buffers for single UUIDs, guarded by `lock`
+	private final long[] msb = new long[1];
+	private final long[] lsb = new long[1];
+
+	// buffers for single UUIDs passed to consumers by the lock-free engine
+	private static final ThreadLocal<long[]> BITS = ThreadLocal.withInitial(() -> new long[2]);
+
+	// maximum number of UUIDs generated with one clock reading
+	protected static final int CHUNK_SIZE = 256;
+
+	// pause between attempts while waiting for the time to advance
+	private static final long WAIT_NANOS = 100_000; // 0.1ms
+
+	// Used by the lock-free engine to preserve monotonicity when the
+	// system clock is adjusted by NTP after a small clock drift or when
+	// the system clock jumps back by 1 second due to leap second.
+	protected static final long CLOCK_DRIFT_TOLERANCE = 10_000 * TICKS_PER_MILLI;
+
+	// Used by the lock-free engine to limit how far the reserved ticks can get
+	// ahead of the clock, as the counter of the default time function does.
+	protected static final long MAX_LEAD = TICKS_PER_MILLI;
+
 	private static final String NODE_MAC = "mac";
 	private static final String NODE_HASH = "hash";
 	private static final String NODE_RANDOM = "random";
@@ -56,9 +111,16 @@ public abstract class AbstTimeBasedFactory extends UuidFactory implements NoArgs
 
 	protected AbstTimeBasedFactory(UuidVersion version, Builder<?, ?> builder) {
 		super(version);
+		if (builder.isLockFree() && builder.stateStore != null) {
+			throw new IllegalArgumentException("The lock-free engine doesn't support a state store");
+		}
+		if (builder.stateStore != null && builder.clockseqFunction != null) {
+			throw new IllegalArgumentException("A state store can't be combined with a clock sequence function");
+		}
 		this.timeFunction = builder.getTimeFunction();
 		this.nodeidFunction = builder.getNodeIdFunction();
 		this.clockseqFunction = builder.getClockSeqFunction();
+		this.epoch = builder.isLockFree() ? new AtomicReference<>() : null;
 	}
 
 	/**
@@ -152,25 +214,444 @@ public abstract class AbstTimeBasedFactory extends UuidFactory implements NoArgs
 	 * @return {@link UUID} a UUID value
 	 */
 	@Override
-	public synchronized UUID create() {
+	public UUID create() {
+		if (this.epoch != null) {
+			return createLockFree();
+		}
+		return createSynchronized();
+	}
+
+	/**
+	 * Creates a time-based UUID and passes its bits to a consumer.
+	 * 
+	 * No object is created. The consumer is called after the lock is released.
+	 * 
+	 * @param consumer a consumer of the most and least significant bits
+	 */
+	@Override
+	public void createInto(final BitsConsumer consumer) {
+		final long msb0;
+		final long lsb0;
+		if (this.epoch != null) {
+			final long[] bits = BITS.get();
+			createLockFree(bits, 0, bits, 1);
+			msb0 = bits[0];
+			lsb0 = bits[1];
+		} else {
+			lock.lock();
+			try {
+				generateSynchronized(this.msb, this.lsb, 0, 1);
+				msb0 = this.msb[0];
+				lsb0 = this.lsb[0];
+			} finally {
+				lock.unlock();
+			}
+		}
+		consumer.accept(msb0, lsb0);
+	}
+
+	/**
+	 * Creates a time-based UUID and writes its bits into an array.
+	 * 
+	 * No object is created.
+	 * 
+	 * @param dst    an array to receive the bits
+	 * @param offset the index of the most significant bits
+	 */
+	@Override
+	public void createInto(final long[] dst, final int offset) {
+		validate(dst, offset);
+		if (this.epoch != null) {
+			createLockFree(dst, offset, dst, offset + 1);
+		} else {
+			lock.lock();
+			try {
+				generateSynchronized(this.msb, this.lsb, 0, 1);
+				dst[offset] = this.msb[0];
+				dst[offset + 1] = this.lsb[0];
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Creates a time-based UUID and writes its bits into two arrays at the same
+	 * index.
+	 * 
+	 * No object is created.
+	 * 
+	 * @param msbs  an array to receive the most significant bits
+	 * @param lsbs  an array to receive the least significant bits
+	 * @param index the index of the UUID
+	 */
+	@Override
+	public void createInto(final long[] msbs, final long[] lsbs, final int index) {
+		validate(msbs, lsbs, index);
+		if (this.epoch != null) {
+			createLockFree(msbs, index, lsbs, index);
+		} else {
+			lock.lock();
+			try {
+				generateSynchronized(msbs, lsbs, index, 1);
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Creates a time-based UUID and writes its 16 bytes into an array in
+	 * big-endian order.
+	 * 
+	 * No object is created.
+	 * 
+	 * @param dst    an array to receive the bytes
+	 * @param offset the index of the first byte
+	 */
+	@Override
+	public void createInto(final byte[] dst, final int offset) {
+		validate(dst, offset);
+		if (this.epoch != null) {
+			final long[] bits = BITS.get();
+			createLockFree(bits, 0, bits, 1);
+			ByteUtil.toBytes(bits[0], bits[1], dst, offset);
+		} else {
+			lock.lock();
+			try {
+				generateSynchronized(this.msb, this.lsb, 0, 1);
+				ByteUtil.toBytes(this.msb[0], this.lsb[0], dst, offset);
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Creates a time-based UUID and writes its 16 bytes into a buffer in
+	 * big-endian order.
+	 * 
+	 * No object is created.
+	 * 
+	 * @param dst a heap or direct buffer to receive the bytes
+	 */
+	@Override
+	public void createInto(final ByteBuffer dst) {
+		validate(dst);
+		if (this.epoch != null) {
+			final long[] bits = BITS.get();
+			createLockFree(bits, 0, bits, 1);
+			ByteUtil.toBytes(bits[0], bits[1], dst);
+		} else {
+			lock.lock();
+			try {
+				generateSynchronized(this.msb, this.lsb, 0, 1);
+				ByteUtil.toBytes(this.msb[0], this.lsb[0], dst);
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Fills an array with time-based UUIDs.
+	 * 
+	 * By default, the lock is taken only once for the whole array. In the
+	 * lock-free engine, a range of ticks is reserved for each chunk of UUIDs with a
+	 * single compare-and-set.
+	 * 
+	 * If the time function asks to wait for the time to advance, the lock is
+	 * released while this thread waits, so other threads may create UUIDs in the
+	 * middle of the array. The array is still in creation order.
+	 * 
+	 * @param uuids an array to be filled
+	 */
+	@Override
+	public void fill(final UUID[] uuids) {
+		if (this.epoch != null) {
+			fillLockFree(uuids);
+		} else {
+			fillSynchronized(uuids);
+		}
+	}
+
+	/**
+	 * Fills two arrays with the most and least significant bits of time-based
+	 * UUIDs.
+	 * 
+	 * By default, the lock is taken only once for the whole arrays. In the
+	 * lock-free engine, a range of ticks is reserved for each chunk of UUIDs with a
+	 * single compare-and-set.
+	 * 
+	 * If the time function asks to wait for the time to advance, the lock is
+	 * released while this thread waits, so other threads may create UUIDs in the
+	 * middle of the arrays. The arrays are still in creation order.
+	 * 
+	 * @param msbs an array to be filled with the most significant bits
+	 * @param lsbs an array to be filled with the least significant bits
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	@Override
+	public void fill(final long[] msbs, final long[] lsbs) {
+		validate(msbs, lsbs);
+		if (this.epoch != null) {
+			for (int i = 0; i < msbs.length; i += CHUNK_SIZE) {
+				generateLockFree(msbs, lsbs, i, Math.min(CHUNK_SIZE, msbs.length - i));
+			}
+		} else {
+			lock.lock();
+			try {
+				generateSynchronized(msbs, lsbs, 0, msbs.length);
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private UUID createSynchronized() {
+		lock.lock();
+		try {
+			generateSynchronized(this.msb, this.lsb, 0, 1);
+			return new UUID(this.msb[0], this.lsb[0]);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void fillSynchronized(final UUID[] uuids) {
+		lock.lock();
+		try {
+			final int size = Math.min(uuids.length, CHUNK_SIZE);
+			final long[] msbs = new long[size];
+			final long[] lsbs = new long[size];
+			for (int i = 0; i < uuids.length; i += size) {
+				final int length = Math.min(size, uuids.length - i);
+				generateSynchronized(msbs, lsbs, 0, length);
+				for (int j = 0; j < length; j++) {
+					uuids[i + j] = new UUID(msbs[j], lsbs[j]);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Generates a sequence of UUIDs.
+	 * 
+	 * It must be called by the thread that holds the lock of the factory. If the
+	 * time function asks to wait for the time to advance, the lock is released
+	 * while the thread waits, and taken again before the next attempt. The lock
+	 * is not released if the thread holds it more than once.
+	 */
+	private void generateSynchronized(final long[] msbs, final long[] lsbs, final int offset,
+			final int length) {
+		for (int i = offset; i < offset + length; i++) {
+
+			// (3a) get the timestamp
+			final long timestamp = TimeFunction.toExpectedRange(nextTime() - EPOCH_TIMESTAMP);
+
+			// (4a)(5a) get the node identifier
+			final long nodeIdentifier = NodeIdFunction.toExpectedRange(this.nodeidFunction.getAsLong());
+
+			// (5a)(6a) get the sequence value
+			final long clockSequence = ClockSeqFunction.toExpectedRange(this.clockseqFunction.applyAsLong(timestamp));
+
+			// (9a) format the most significant bits
+			msbs[i] = this.formatMostSignificantBits(timestamp);
+
+			// (9a) format the least significant bits
+			lsbs[i] = this.formatLeastSignificantBits(nodeIdentifier, clockSequence);
+		}
+	}
+
+	private long nextTime() {
+		long time;
+		while ((time = this.timeFunction.tryGetAsLong()) == TimeFunction.NOT_READY) {
+			if (lock.getHoldCount() > 1) {
+				// a caller up the stack holds the lock too, so it can't be released
+				LockSupport.parkNanos(WAIT_NANOS);
+				continue;
+			}
+			// wait the time to advance without blocking other threads
+			lock.unlock();
+			try {
+				LockSupport.parkNanos(WAIT_NANOS);
+			} finally {
+				lock.lock();
+			}
+		}
+		return time;
+	}
+
+	private UUID createLockFree() {
+
+		// get the timestamp
+		long timestamp = TimeFunction.toExpectedRange(this.timeFunction.getAsLong() - EPOCH_TIMESTAMP);
+
+		Epoch current = this.epoch.get();
+		long next;
+		while ((next = reserve(current, timestamp, 1)) < 0) {
+			current = switchEpoch(current, timestamp);
+			if (current == null) {
+				// wait the time to advance, as the clock sequence can't change
+				LockSupport.parkNanos(WAIT_NANOS);
+				timestamp = TimeFunction.toExpectedRange(this.timeFunction.getAsLong() - EPOCH_TIMESTAMP);
+				current = this.epoch.get();
+			}
+		}
 
-		// (3a) get the timestamp
-		final long timestamp = TimeFunction.toExpectedRange(this.timeFunction.getAsLong() - EPOCH_TIMESTAMP);
+		final long msb = this.formatMostSignificantBits(TimeFunction.toExpectedRange(next));
+		return new UUID(msb, current.lsb);
+	}
+
+	private void createLockFree(final long[] msbs, final int msbIndex, final long[] lsbs, final int lsbIndex) {
+
+		// get the timestamp
+		long timestamp = TimeFunction.toExpectedRange(this.timeFunction.getAsLong() - EPOCH_TIMESTAMP);
+
+		Epoch current = this.epoch.get();
+		long next;
+		while ((next = reserve(current, timestamp, 1)) < 0) {
+			current = switchEpoch(current, timestamp);
+			if (current == null) {
+				// wait the time to advance, as the clock sequence can't change
+				LockSupport.parkNanos(WAIT_NANOS);
+				timestamp = TimeFunction.toExpectedRange(this.timeFunction.getAsLong() - EPOCH_TIMESTAMP);
+				current = this.epoch.get();
+			}
+		}
 
-		// (4a)(5a) get the node identifier
-		final long nodeIdentifier = NodeIdFunction.toExpectedRange(this.nodeidFunction.getAsLong());
+		msbs[msbIndex] = this.formatMostSignificantBits(TimeFunction.toExpectedRange(next));
+		lsbs[lsbIndex] = current.lsb;
+	}
+
+	private void fillLockFree(final UUID[] uuids) {
+		final int size = Math.min(uuids.length, CHUNK_SIZE);
+		final long[] msbs = new long[size];
+		final long[] lsbs = new long[size];
+		for (int i = 0; i < uuids.length; i += size) {
+			final int length = Math.min(size, uuids.length - i);
+			generateLockFree(msbs, lsbs, 0, length);
+			for (int j = 0; j < length; j++) {
+				uuids[i + j] = new UUID(msbs[j], lsbs[j]);
+			}
+		}
+	}
 
-		// (5a)(6a) get the sequence value
-		final long clockSequence = ClockSeqFunction.toExpectedRange(this.clockseqFunction.applyAsLong(timestamp));
+	private void generateLockFree(final long[] msbs, final long[] lsbs, final int offset, final int length) {
 
-		// (9a) format the most significant bits
-		final long msb = this.formatMostSignificantBits(timestamp);
+		// get the timestamp once for all the UUIDs
+		long timestamp = TimeFunction.toExpectedRange(this.timeFunction.getAsLong() - EPOCH_TIMESTAMP);
 
-		// (9a) format the least significant bits
-		final long lsb = this.formatLeastSignificantBits(nodeIdentifier, clockSequence);
+		Epoch current = this.epoch.get();
+		long first;
+		while ((first = reserve(current, timestamp, length)) < 0) {
+			current = switchEpoch(current, timestamp);
+			if (current == null) {
+				// wait the time to advance, as the clock sequence can't change
+				LockSupport.parkNanos(WAIT_NANOS);
+				timestamp = TimeFunction.toExpectedRange(this.timeFunction.getAsLong() - EPOCH_TIMESTAMP);
+				current = this.epoch.get();
+			}
+		}
 
-		// (9a) format a UUID from the MSB and LSB
-		return new UUID(msb, lsb);
+		for (int i = 0; i < length; i++) {
+			msbs[offset + i] = this.formatMostSignificantBits(TimeFunction.toExpectedRange(first + i));
+			lsbs[offset + i] = current.lsb;
+		}
+	}
+
+	/**
+	 * Reserves a range of ticks that were never used in an epoch.
+	 * 
+	 * The reserved ticks can get ahead of the greatest timestamp read from the
+	 * clock in the epoch by up to {@link #MAX_LEAD}. Beyond that, the epoch must be
+	 * switched, so that the UUIDs don't drift away from the clock when more than
+	 * 10,000 UUIDs are created per millisecond. A clock that goes back within the
+	 * drift tolerance doesn't count as lead.
+	 * 
+	 * @param current   the current epoch, possibly null
+	 * @param timestamp the current timestamp
+	 * @param count     the number of ticks
+	 * @return the first tick of the range, or -1 if the epoch must be switched
+	 */
+	private static long reserve(final Epoch current, final long timestamp, final int count) {
+
+		if (current == null) {
+			return -1; // no epoch yet
+		}
+
+		// the greatest timestamp read from the clock in this epoch
+		long clock = current.clock.get();
+		while (timestamp > clock) {
+			clock = current.clock.compareAndSet(clock, timestamp) ? timestamp : current.clock.get();
+		}
+
+		long last;
+		long first;
+		do {
+			last = current.timestamp.get();
+			if (timestamp > last) {
+				first = timestamp;
+			} else if (timestamp > last - CLOCK_DRIFT_TOLERANCE) {
+				first = last + 1;
+			} else {
+				return -1; // the clock went back too much
+			}
+			if (first + count - 1 > clock + MAX_LEAD) {
+				return -1; // too far ahead of the clock
+			}
+		} while (!current.timestamp.compareAndSet(last, first + count - 1));
+
+		return first;
+	}
+
+	/**
+	 * Replaces the current epoch with a new one that has a new clock sequence.
+	 * 
+	 * It is called at the first UUID, when the clock goes backwards beyond the
+	 * drift tolerance, and when the reserved ticks get too far ahead of the clock.
+	 * So the lock is taken at most once per {@link #MAX_LEAD} ticks.
+	 * 
+	 * If the clock sequence function returns the same clock sequence, for example
+	 * a fixed one, the epoch is not replaced, because its ticks can't be used
+	 * again. Then it returns null, and the caller must wait for the clock.
+	 * 
+	 * @param current   the epoch the caller was working on
+	 * @param timestamp the current timestamp
+	 * @return the epoch to be used, or null if the caller must wait for the clock
+	 */
+	private Epoch switchEpoch(final Epoch current, final long timestamp) {
+		lock.lock();
+		try {
+			final Epoch latest = this.epoch.get();
+			if (latest != current) {
+				return latest; // another thread already switched
+			}
+
+			if (current != null) {
+				// show the function the last timestamp used in the current epoch, so
+				// that the next call sees the clock going backwards and changes the
+				// clock sequence, as in the synchronized engine
+				this.clockseqFunction.applyAsLong(current.timestamp.get());
+			}
+
+			final long nodeIdentifier = NodeIdFunction.toExpectedRange(this.nodeidFunction.getAsLong());
+			final long clockSequence = ClockSeqFunction.toExpectedRange(this.clockseqFunction.applyAsLong(timestamp));
+			final long lsb = this.formatLeastSignificantBits(nodeIdentifier, clockSequence);
+
+			if (current != null && lsb == current.lsb) {
+				return null; // the clock sequence didn't change
+			}
+
+			// the first tick to be reserved is the current timestamp
+			final Epoch next = new Epoch(lsb, timestamp);
+			this.epoch.set(next);
+			return next;
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	/**
@@ -304,19 +785,53 @@ public abstract class AbstTimeBasedFactory extends UuidFactory implements NoArgs
 		return new DefaultTimeFunction();
 	}
 
+	/**
+	 * Returns a thread-safe time function for the lock-free engine.
+	 * 
+	 * It doesn't simulate a high resolution clock, because the lock-free engine
+	 * reserves the ticks that follow the last one used.
+	 * 
+	 * @return a time function
+	 */
+	protected static TimeFunction selectLockFreeTimeFunction() {
+		return () -> System.currentTimeMillis() * TICKS_PER_MILLI;
+	}
+
+	/**
+	 * The state of the lock-free engine while the clock sequence doesn't change.
+	 */
+	private static final class Epoch {
+
+		private final long lsb;
+		private final AtomicLong timestamp; // the last tick reserved
+		private final AtomicLong clock; // the greatest timestamp read from the clock
+
+		private Epoch(long lsb, long timestamp) {
+			this.lsb = lsb;
+			this.timestamp = new AtomicLong(timestamp - 1);
+			this.clock = new AtomicLong(timestamp);
+		}
+	}
+
 	public abstract static class Builder<T, B extends Builder<T, B>> {
 
 		protected TimeFunction timeFunction;
 		protected NodeIdFunction nodeidFunction;
 		protected ClockSeqFunction clockseqFunction;
+		protected StateStore stateStore;
+		protected boolean lockFree;
 
 		protected TimeFunction getTimeFunction() {
 			if (this.timeFunction == null) {
-				this.timeFunction = selectTimeFunction();
+				this.timeFunction = this.lockFree ? selectLockFreeTimeFunction() : selectTimeFunction();
 			}
 			return this.timeFunction;
 		}
 
+		protected boolean isLockFree() {
+			return this.lockFree;
+		}
+
 		protected NodeIdFunction getNodeIdFunction() {
 			if (this.nodeidFunction == null) {
 				this.nodeidFunction = selectNodeIdFunction();
@@ -326,6 +841,10 @@ public abstract class AbstTimeBasedFactory extends UuidFactory implements NoArgs
 
 		protected ClockSeqFunction getClockSeqFunction() {
 			if (this.clockseqFunction == null) {
+				if (this.stateStore != null) {
+					// not kept, so that a function set by the user can be told apart
+					return new DefaultClockSeqFunction(this.stateStore);
+				}
 				this.clockseqFunction = new DefaultClockSeqFunction();
 			}
 			return this.clockseqFunction;
@@ -402,6 +921,37 @@ public abstract class AbstTimeBasedFactory extends UuidFactory implements NoArgs
 			return (B) this;
 		}
 
+		/**
+		 * Restores the clock sequence and the last timestamp from a state store, and
+		 * keeps them up to date, as recommended by RFC-4122.
+		 * 
+		 * The clock sequence function is a {@link DefaultClockSeqFunction} backed by
+		 * the store. It can't be combined with another clock sequence function, nor
+		 * with the lock-free engine: the factory throws an
+		 * {@link IllegalArgumentException} when it is built.
+		 * 
+		 * @param stateStore a state store
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withStateStore(StateStore stateStore) {
+			this.stateStore = stateStore;
+			return (B) this;
+		}
+
+		/**
+		 * Enables the lock-free engine.
+		 * 
+		 * The time function must be thread-safe because it is called concurrently.
+		 * 
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withLockFree() {
+			this.lockFree = true;
+			return (B) this;
+		}
+
 		public abstract T build();
 	}
 }
\ No newline at end of file
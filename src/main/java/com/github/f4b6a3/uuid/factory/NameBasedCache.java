@@ -0,0 +1,414 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.f4b6a3.uuid.factory;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.github.f4b6a3.uuid.util.internal.SettingsUtil;
+
+/**
+ * Size-bounded cache of name-based UUIDs, keyed by namespace and name.
+ * 
+ * It is useful when the same names are hashed over and over. The entries are
+ * split into segments, each guarded by its own lock, so that threads looking
+ * up different names rarely contend. When a segment is full, an entry is
+ * evicted according to the {@link Eviction} policy. The hits, misses and
+ * evictions are counted.
+ * 
+ * Example:
+ * 
+ * <pre>
+ * NameBasedCache cache = new NameBasedCache(100_000);
+ * NameBasedSha1Factory factory = new NameBasedSha1Factory(UuidNamespace.NAMESPACE_URL, cache);
+ * UUID uuid = factory.create("https://github.com/");
+ * double rate = cache.getHitRate();
+ * </pre>
+ * 
+ * A cache can be shared by factories of different versions, since the version
+ * is part of the key.
+ */
+public final class NameBasedCache {
+
+	private final int capacity;
+	private final Eviction eviction;
+
+	private final Segment[] segments;
+	private final int mask;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	// maximum number of segments
+	private static final int SEGMENTS = 16;
+
+	/**
+	 * Eviction policies.
+	 */
+	public enum Eviction {
+		/**
+		 * Evicts the least recently used entry.
+		 */
+		LRU,
+		/**
+		 * Evicts the oldest entry, regardless of how often it is used.
+		 * 
+		 * Lookups don't reorder the entries, so it costs less than LRU when most
+		 * names are looked up many times.
+		 */
+		FIFO
+	}
+
+	/**
+	 * Creates a cache with the LRU eviction policy.
+	 * 
+	 * @param capacity the maximum number of entries
+	 * @throws IllegalArgumentException if the capacity is less than 1
+	 */
+	public NameBasedCache(int capacity) {
+		this(capacity, Eviction.LRU);
+	}
+
+	/**
+	 * Creates a cache.
+	 * 
+	 * @param capacity the maximum number of entries
+	 * @param eviction the eviction policy
+	 * @throws IllegalArgumentException if the capacity is less than 1
+	 */
+	public NameBasedCache(int capacity, Eviction eviction) {
+
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Invalid capacity: " + capacity);
+		}
+
+		this.capacity = capacity;
+		this.eviction = Objects.requireNonNull(eviction, "Null eviction policy");
+
+		// the number of segments is a power of 2, no greater than the capacity
+		final int count = Math.min(SEGMENTS, Integer.highestOneBit(capacity));
+		this.segments = new Segment[count];
+		this.mask = count - 1;
+
+		// the capacity is distributed among the segments
+		for (int i = 0; i < count; i++) {
+			final int share = capacity / count + (i < capacity % count ? 1 : 0);
+			this.segments[i] = new Segment(share, eviction == Eviction.LRU);
+		}
+	}
+
+	/**
+	 * Returns a cache configured by system properties or environment variables,
+	 * or null if none is configured.
+	 * 
+	 * Properties: `uuidcreator.namebased.cache.size` and
+	 * `uuidcreator.namebased.cache.eviction` (LRU or FIFO).
+	 * 
+	 * @return a cache or null
+	 * @throws IllegalArgumentException if the settings are invalid
+	 */
+	public static NameBasedCache fromSettings() {
+
+		final String size = SettingsUtil.getProperty(SettingsUtil.PROPERTY_NAMEBASED_CACHE_SIZE);
+		if (size == null) {
+			return null;
+		}
+
+		final int capacity;
+		try {
+			capacity = Integer.parseInt(size.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid cache size: " + size, e);
+		}
+
+		final String policy = SettingsUtil.getProperty(SettingsUtil.PROPERTY_NAMEBASED_CACHE_EVICTION);
+		if (policy == null) {
+			return new NameBasedCache(capacity);
+		}
+
+		try {
+			return new NameBasedCache(capacity, Eviction.valueOf(policy.trim().toUpperCase()));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid cache eviction policy: " + policy, e);
+		}
+	}
+
+	/**
+	 * Returns the cache configured by the settings, or null if none is
+	 * configured.
+	 * 
+	 * The settings are read only once, and the cache is shared by all the
+	 * factories created without a cache.
+	 * 
+	 * @return a cache or null
+	 * @throws IllegalArgumentException if the settings are invalid
+	 * @see #fromSettings()
+	 */
+	static NameBasedCache shared() {
+		if (SettingsHolder.ERROR != null) {
+			throw new IllegalArgumentException(SettingsHolder.ERROR.getMessage(), SettingsHolder.ERROR);
+		}
+		return SettingsHolder.INSTANCE;
+	}
+
+	/**
+	 * Returns a cached UUID, or null if it is not cached.
+	 * 
+	 * @param version   the UUID version
+	 * @param namespace a namespace byte array (optional)
+	 * @param name      a name byte array
+	 * @return a UUID or null
+	 */
+	UUID get(final int version, final byte[] namespace, final byte[] name) {
+		final Key key = new Key(version, namespace, name);
+		final UUID uuid = segment(key).get(key);
+		if (uuid != null) {
+			hits.increment();
+		} else {
+			misses.increment();
+		}
+		return uuid;
+	}
+
+	/**
+	 * Caches a UUID.
+	 * 
+	 * The byte arrays are copied, so the caller may reuse them.
+	 * 
+	 * @param version   the UUID version
+	 * @param namespace a namespace byte array (optional)
+	 * @param name      a name byte array
+	 * @param uuid      the UUID
+	 */
+	void put(final int version, final byte[] namespace, final byte[] name, final UUID uuid) {
+		final byte[] ns = namespace == null ? null : namespace.clone();
+		final Key key = new Key(version, ns, name.clone());
+		segment(key).put(key, uuid);
+	}
+
+	/**
+	 * Removes all entries.
+	 * 
+	 * The counters are not reset.
+	 */
+	public void clear() {
+		for (Segment segment : segments) {
+			segment.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of entries.
+	 * 
+	 * @return the number of entries
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the maximum number of entries.
+	 * 
+	 * @return the capacity
+	 */
+	public int capacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Returns the eviction policy.
+	 * 
+	 * @return the eviction policy
+	 */
+	public Eviction getEviction() {
+		return this.eviction;
+	}
+
+	/**
+	 * Returns how many times a UUID was found in the cache.
+	 * 
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns how many times a UUID was not found in the cache.
+	 * 
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns how many entries were evicted to make room for others.
+	 * 
+	 * @return the number of evictions
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Returns the ratio of hits to lookups, or zero if there was no lookup.
+	 * 
+	 * @return a number between 0.0 and 1.0
+	 */
+	public double getHitRate() {
+		final long h = getHits();
+		final long total = h + getMisses();
+		return total == 0 ? 0.0 : (double) h / total;
+	}
+
+	private Segment segment(final Key key) {
+		final int h = key.hash;
+		return segments[(h ^ (h >>> 16)) & mask];
+	}
+
+	/**
+	 * A map bounded by a capacity and guarded by a lock.
+	 */
+	private final class Segment {
+
+		private final LinkedHashMap<Key, UUID> map;
+		private final ReentrantLock lock = new ReentrantLock();
+
+		Segment(final int capacity, final boolean accessOrder) {
+			this.map = new LinkedHashMap<Key, UUID>(16, 0.75f, accessOrder) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(final Map.Entry<Key, UUID> eldest) {
+					if (size() > capacity) {
+						evictions.increment();
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+
+		UUID get(final Key key) {
+			lock.lock();
+			try {
+				return map.get(key);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void put(final Key key, final UUID uuid) {
+			lock.lock();
+			try {
+				map.put(key, uuid);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void clear() {
+			lock.lock();
+			try {
+				map.clear();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		int size() {
+			lock.lock();
+			try {
+				return map.size();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Key made of the version, the namespace and the name.
+	 */
+	private static final class Key {
+
+		private final int version;
+		private final byte[] namespace;
+		private final byte[] name;
+		private final int hash;
+
+		Key(final int version, final byte[] namespace, final byte[] name) {
+			this.version = version;
+			this.namespace = namespace;
+			this.name = name;
+			this.hash = 31 * (31 * version + Arrays.hashCode(namespace)) + Arrays.hashCode(name);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof Key)) {
+				return false;
+			}
+			final Key that = (Key) other;
+			return this.hash == that.hash && this.version == that.version //
+					&& Arrays.equals(this.namespace, that.namespace) && Arrays.equals(this.name, that.name);
+		}
+	}
+
+	private static class SettingsHolder {
+
+		static final NameBasedCache INSTANCE;
+		static final IllegalArgumentException ERROR;
+
+		static {
+			NameBasedCache cache = null;
+			IllegalArgumentException error = null;
+			try {
+				cache = fromSettings();
+			} catch (IllegalArgumentException e) {
+				error = e; // thrown by every factory that needs it
+			}
+			INSTANCE = cache;
+			ERROR = error;
+		}
+	}
+}
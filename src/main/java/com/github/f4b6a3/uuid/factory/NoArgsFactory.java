@@ -24,8 +24,145 @@
 
 package com.github.f4b6a3.uuid.factory;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.UUID;
 
+import com.github.f4b6a3.uuid.factory.function.BitsConsumer;
+import com.github.f4b6a3.uuid.util.internal.ByteUtil;
+
 public interface NoArgsFactory {
+
 	public UUID create();
+
+	/**
+	 * Fills an array with UUIDs.
+	 * 
+	 * The UUIDs are in the same order they would have if they were created one by
+	 * one with {@link NoArgsFactory#create()}.
+	 * 
+	 * @param uuids an array to be filled
+	 */
+	public default void fill(UUID[] uuids) {
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = create();
+		}
+	}
+
+	/**
+	 * Fills two arrays with the most and least significant bits of UUIDs.
+	 * 
+	 * The bits at the same index of both arrays are the bits of the same UUID.
+	 * 
+	 * @param msbs an array to be filled with the most significant bits
+	 * @param lsbs an array to be filled with the least significant bits
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	public default void fill(long[] msbs, long[] lsbs) {
+		if (msbs.length != lsbs.length) {
+			throw new IllegalArgumentException("Arrays of different lengths");
+		}
+		for (int i = 0; i < msbs.length; i++) {
+			final UUID uuid = create();
+			msbs[i] = uuid.getMostSignificantBits();
+			lsbs[i] = uuid.getLeastSignificantBits();
+		}
+	}
+
+	/**
+	 * Creates a UUID and passes its bits to a consumer.
+	 * 
+	 * Factories that override this method don't create any object.
+	 * 
+	 * @param consumer a consumer of the most and least significant bits
+	 */
+	public default void createInto(BitsConsumer consumer) {
+		final UUID uuid = create();
+		consumer.accept(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Creates a UUID and writes its bits into an array.
+	 * 
+	 * The most significant bits are written at the offset and the least
+	 * significant bits right after them.
+	 * 
+	 * Factories that override this method don't create any object.
+	 * 
+	 * @param dst    an array to receive the bits
+	 * @param offset the index of the most significant bits
+	 * @throws IndexOutOfBoundsException if there is no room for 2 numbers
+	 */
+	public default void createInto(long[] dst, int offset) {
+		// check before creating, so that no UUID is lost
+		if (offset < 0 || offset > dst.length - 2) {
+			throw new IndexOutOfBoundsException("No room for 2 numbers at offset " + offset);
+		}
+		final UUID uuid = create();
+		dst[offset] = uuid.getMostSignificantBits();
+		dst[offset + 1] = uuid.getLeastSignificantBits();
+	}
+
+	/**
+	 * Creates a UUID and writes its bits into two arrays at the same index.
+	 * 
+	 * Factories that override this method don't create any object.
+	 * 
+	 * @param msbs  an array to receive the most significant bits
+	 * @param lsbs  an array to receive the least significant bits
+	 * @param index the index of the UUID
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public default void createInto(long[] msbs, long[] lsbs, int index) {
+		// check before creating, so that no UUID is lost
+		if (index < 0 || index >= msbs.length || index >= lsbs.length) {
+			throw new IndexOutOfBoundsException("Index out of range: " + index);
+		}
+		final UUID uuid = create();
+		msbs[index] = uuid.getMostSignificantBits();
+		lsbs[index] = uuid.getLeastSignificantBits();
+	}
+
+	/**
+	 * Creates a UUID and writes its 16 bytes into an array in big-endian order.
+	 * 
+	 * Factories that override this method don't create any object.
+	 * 
+	 * @param dst    an array to receive the bytes
+	 * @param offset the index of the first byte
+	 * @throws IndexOutOfBoundsException if there is no room for 16 bytes
+	 */
+	public default void createInto(byte[] dst, int offset) {
+		// check before creating, so that no UUID is lost
+		if (offset < 0 || offset > dst.length - 16) {
+			throw new IndexOutOfBoundsException("No room for 16 bytes at offset " + offset);
+		}
+		final UUID uuid = create();
+		ByteUtil.toBytes(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), dst, offset);
+	}
+
+	/**
+	 * Creates a UUID and writes its 16 bytes into a buffer in big-endian order.
+	 * 
+	 * The bytes are written at the current position of the buffer, which is then
+	 * incremented by 16. Both heap and direct buffers are supported.
+	 * 
+	 * Factories that override this method don't create any object.
+	 * 
+	 * @param dst a buffer to receive the bytes
+	 * @throws ReadOnlyBufferException if the buffer is read-only
+	 * @throws BufferOverflowException if there are less than 16 bytes remaining
+	 */
+	public default void createInto(ByteBuffer dst) {
+		// check before creating, so that no UUID is lost
+		if (dst.isReadOnly()) {
+			throw new ReadOnlyBufferException();
+		}
+		if (dst.remaining() < 16) {
+			throw new BufferOverflowException();
+		}
+		final UUID uuid = create();
+		ByteUtil.toBytes(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), dst);
+	}
 }
@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A 64-bit state shared by all the processes of a host, backed by a small
+ * memory-mapped file.
+ * 
+ * The state is updated atomically across processes: the update holds an
+ * exclusive {@link FileLock} on the file while it reads and writes the mapped
+ * memory. Threads of the same process are serialized by a lock of the process
+ * before they take the file lock, since a file lock is held on behalf of the
+ * whole process. An update costs a pair of system calls to lock and unlock the
+ * file, so callers should reserve ranges rather than single values.
+ * 
+ * All the processes see the same memory pages, so the state is never read from
+ * or written to the file directly. It also survives restarts, since the
+ * operating system writes the pages back to the file.
+ * 
+ * The thread that updates the state must not be interrupted. An interrupt
+ * while waiting for the file lock closes the file, and the state can't be used
+ * any more.
+ * 
+ * Example:
+ * 
+ * <pre>
+ * SharedState state = new SharedState(Paths.get("/dev/shm/uuid.state"));
+ * TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withSharedState(state).build();
+ * </pre>
+ */
+public final class SharedState implements Closeable {
+
+	private final Path file;
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	private final ProcessLock lock;
+
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	// one lock per file for all the instances in this process, removed when the
+	// last of them is closed
+	static final ConcurrentHashMap<Path, ProcessLock> LOCKS = new ConcurrentHashMap<>();
+
+	// file layout
+	private static final int MAGIC = 0x75756964; // "uuid"
+	private static final int FORMAT = 1;
+	private static final int OFFSET_MAGIC = 0;
+	private static final int OFFSET_FORMAT = 4;
+	private static final int OFFSET_STATE = 8;
+	private static final int SIZE = 16;
+
+	/**
+	 * Opens a shared state file.
+	 * 
+	 * The file is created if it doesn't exist, with the state set to zero.
+	 * 
+	 * @param file the shared state file
+	 * @throws IOException if the file can't be opened or mapped, or if it is not
+	 *                     a shared state file
+	 */
+	public SharedState(Path file) throws IOException {
+
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		try {
+			this.file = file.toRealPath();
+			this.buffer = this.channel.map(MapMode.READ_WRITE, 0, SIZE);
+		} catch (IOException | RuntimeException e) {
+			this.channel.close();
+			throw e;
+		}
+		this.lock = acquire(this.file);
+
+		// the first process to open the file writes the header
+		this.lock.lock();
+		try {
+			final FileLock fileLock = this.channel.lock(0, SIZE, false);
+			try {
+				final int magic = this.buffer.getInt(OFFSET_MAGIC);
+				if (magic == 0) {
+					this.buffer.putLong(OFFSET_STATE, 0L);
+					this.buffer.putInt(OFFSET_FORMAT, FORMAT);
+					this.buffer.putInt(OFFSET_MAGIC, MAGIC);
+				} else if (magic != MAGIC || this.buffer.getInt(OFFSET_FORMAT) != FORMAT) {
+					throw new IOException("Not a shared state file: " + file);
+				}
+			} finally {
+				fileLock.release();
+			}
+		} catch (IOException | RuntimeException e) {
+			close();
+			throw e;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the current state.
+	 * 
+	 * @return the state
+	 * @throws IllegalStateException if the state is closed
+	 */
+	public long get() {
+		return update(LongUnaryOperator.identity());
+	}
+
+	/**
+	 * Atomically updates the state across processes.
+	 * 
+	 * The function must be fast and must not fail, since it is called while the
+	 * file is locked.
+	 * 
+	 * @param function a function that computes the next state from the current
+	 *                 one
+	 * @return the next state
+	 * @throws IllegalStateException if the state is closed
+	 * @throws UncheckedIOException  if the file can't be locked
+	 */
+	public long update(final LongUnaryOperator function) {
+		this.lock.lock();
+		try {
+			if (this.closed.get()) {
+				throw new IllegalStateException("Shared state is closed: " + this.file);
+			}
+			final FileLock fileLock = this.channel.lock(0, SIZE, false);
+			try {
+				final long next = function.applyAsLong(this.buffer.getLong(OFFSET_STATE));
+				this.buffer.putLong(OFFSET_STATE, next);
+				return next;
+			} finally {
+				fileLock.release();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases the file.
+	 * 
+	 * The state is kept in the file for the other processes.
+	 * 
+	 * @throws IOException if the file can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		// wait for an update that holds the file lock
+		this.lock.lock();
+		try {
+			if (!this.closed.compareAndSet(false, true)) {
+				return;
+			}
+			this.channel.close();
+		} finally {
+			this.lock.unlock();
+		}
+		release(this.file);
+	}
+
+	private static ProcessLock acquire(final Path file) {
+		return LOCKS.compute(file, (key, lock) -> {
+			final ProcessLock value = lock != null ? lock : new ProcessLock();
+			value.users++;
+			return value;
+		});
+	}
+
+	private static void release(final Path file) {
+		LOCKS.computeIfPresent(file, (key, lock) -> --lock.users == 0 ? null : lock);
+	}
+
+	// the number of users is only changed inside the compute methods
+	static final class ProcessLock extends ReentrantLock {
+		private static final long serialVersionUID = 1L;
+		private int users;
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stable storage of the state of a time-based generator, backed by a small
+ * memory-mapped file.
+ * 
+ * It records a high-water mark of the time used by the generator and the last
+ * clock sequence, so that a generator can restore them at startup instead of
+ * starting from random state.
+ * 
+ * The high-water mark is written ahead: when the time reaches the mark, the
+ * mark is moved a window ahead of the time (1 second by default). So the file
+ * is written at most once per window, and the time restored at startup is
+ * never less than the last time used. The writes go to the mapped memory and
+ * the operating system writes them back to the file lazily. The generator
+ * never waits for I/O. The state survives a restart or a crash of the
+ * process. To survive a crash of the operating system, call {@link #flush()}
+ * from time to time, outside the hot path.
+ * 
+ * Time is stored in milliseconds. The epoch is chosen by the generator, so
+ * each generator must have its own file. The file is locked while it is open,
+ * so it can't be used by two processes at the same time.
+ * 
+ * Example:
+ * 
+ * <pre>
+ * StateStore store = new StateStore(Paths.get("/var/lib/app/uuid.state"));
+ * TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withStateStore(store).build();
+ * </pre>
+ * 
+ * RFC-4122 - 4.2.1. Basic Algorithm
+ * https://tools.ietf.org/html/rfc4122#section-4.2.1
+ */
+public final class StateStore implements Closeable {
+
+	private final long window;
+
+	private final FileChannel channel;
+	private final FileLock fileLock;
+	private final MappedByteBuffer buffer;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private volatile long reserved;
+	private volatile boolean closed;
+
+	/**
+	 * Default distance of the high-water mark ahead of the time, in milliseconds.
+	 */
+	public static final long DEFAULT_WINDOW = 1_000;
+
+	/**
+	 * Maximum distance of the high-water mark ahead of the time, in milliseconds.
+	 * 
+	 * It is the clock drift tolerance of the generators, so that a generator
+	 * restored with the high-water mark continues from it.
+	 */
+	public static final long MAX_WINDOW = 10_000;
+
+	// file layout
+	private static final int MAGIC = 0x75756964; // "uuid"
+	private static final int FORMAT = 1;
+	private static final int OFFSET_MAGIC = 0;
+	private static final int OFFSET_FORMAT = 4;
+	private static final int OFFSET_TIME = 8;
+	private static final int OFFSET_CLOCKSEQ = 16;
+	private static final int SIZE = 24;
+
+	/**
+	 * Opens a state file with the default window.
+	 * 
+	 * The file is created if it doesn't exist.
+	 * 
+	 * @param file the state file
+	 * @throws IOException if the file can't be opened, mapped or locked
+	 */
+	public StateStore(Path file) throws IOException {
+		this(file, DEFAULT_WINDOW);
+	}
+
+	/**
+	 * Opens a state file.
+	 * 
+	 * The file is created if it doesn't exist.
+	 * 
+	 * @param file   the state file
+	 * @param window the distance of the high-water mark ahead of the time, in
+	 *               milliseconds, from 1 to {@link #MAX_WINDOW}
+	 * @throws IOException              if the file can't be opened, mapped or
+	 *                                  locked
+	 * @throws IllegalArgumentException if the window is out of range
+	 */
+	public StateStore(Path file, long window) throws IOException {
+
+		if (window < 1 || window > MAX_WINDOW) {
+			throw new IllegalArgumentException("Invalid state store window: " + window);
+		}
+		this.window = window;
+
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		try {
+			this.fileLock = lock(this.channel, file);
+			final boolean valid = this.channel.size() >= SIZE;
+			this.buffer = this.channel.map(MapMode.READ_WRITE, 0, SIZE);
+			if (valid && this.buffer.getInt(OFFSET_MAGIC) == MAGIC && this.buffer.getInt(OFFSET_FORMAT) == FORMAT) {
+				this.reserved = this.buffer.getLong(OFFSET_TIME);
+			} else {
+				// a new or unknown file
+				this.buffer.putLong(OFFSET_TIME, 0L);
+				this.buffer.putLong(OFFSET_CLOCKSEQ, -1L);
+				this.buffer.putInt(OFFSET_FORMAT, FORMAT);
+				this.buffer.putInt(OFFSET_MAGIC, MAGIC);
+				this.reserved = 0L;
+			}
+		} catch (IOException | RuntimeException e) {
+			this.channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the high-water mark of the time.
+	 * 
+	 * Right after opening the file, it is the time restored from the file, or zero
+	 * if the file is new. It is never less than any time passed to
+	 * {@link #advance(long)}.
+	 * 
+	 * @return the time in milliseconds
+	 */
+	public long getTime() {
+		return this.reserved;
+	}
+
+	/**
+	 * Returns the last clock sequence.
+	 * 
+	 * @return the clock sequence, or -1 if none was stored
+	 */
+	public long getClockSeq() {
+		return this.buffer.getLong(OFFSET_CLOCKSEQ);
+	}
+
+	/**
+	 * Records that a time was used by the generator.
+	 * 
+	 * It only reads a volatile field, unless the time reached the high-water mark.
+	 * In that case the mark is moved a window ahead of the time, in memory.
+	 * 
+	 * @param time the time in milliseconds
+	 * @throws IllegalStateException if the store is closed
+	 */
+	public void advance(final long time) {
+		if (time >= this.reserved) {
+			lock.lock();
+			try {
+				check();
+				if (time >= this.reserved) {
+					this.reserved = time + this.window;
+					this.buffer.putLong(OFFSET_TIME, this.reserved);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Records the last clock sequence.
+	 * 
+	 * @param clockseq the clock sequence
+	 * @throws IllegalStateException if the store is closed
+	 */
+	public void setClockSeq(final long clockseq) {
+		lock.lock();
+		try {
+			check();
+			this.buffer.putLong(OFFSET_CLOCKSEQ, clockseq);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes the state to the storage device.
+	 * 
+	 * It is a synchronous operation. It is not needed to survive a restart of the
+	 * process, only a crash of the operating system.
+	 */
+	public void flush() {
+		lock.lock();
+		try {
+			if (!this.closed) {
+				this.buffer.force();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes the state to the storage device and releases the file.
+	 * 
+	 * @throws IOException if the file can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		lock.lock();
+		try {
+			if (!this.closed) {
+				this.buffer.force();
+				this.closed = true;
+				try {
+					this.fileLock.release();
+				} finally {
+					this.channel.close();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static FileLock lock(final FileChannel channel, final Path file) throws IOException {
+		try {
+			final FileLock fileLock = channel.tryLock();
+			if (fileLock != null) {
+				return fileLock;
+			}
+		} catch (OverlappingFileLockException e) {
+			// locked by this process
+		}
+		throw new IOException("State file in use: " + file);
+	}
+
+	private void check() {
+		if (this.closed) {
+			throw new IllegalStateException("State store is closed");
+		}
+	}
+}
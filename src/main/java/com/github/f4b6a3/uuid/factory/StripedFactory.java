@@ -0,0 +1,246 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import com.github.f4b6a3.uuid.factory.function.BitsConsumer;
+
+/**
+ * Factory that keeps one independent factory instance per thread.
+ * 
+ * Each thread gets its own stripe, i.e., its own factory created by the given
+ * supplier, so that threads never contend on the same factory. The stripe of a
+ * thread that has died can be reclaimed and handed over to a new thread. It
+ * happens automatically when a new thread asks for its first UUID and the
+ * number of stripes has doubled since the last time, or on demand by calling
+ * {@link StripedFactory#reclaim()}. The threads are referenced weakly, so that
+ * the factory never keeps a dead thread from being garbage collected.
+ * 
+ * Example:
+ * 
+ * <pre>
+ * NoArgsFactory factory = new StripedFactory(TimeOrderedEpochFactory::new);
+ * UUID uuid = factory.create();
+ * </pre>
+ * 
+ * The uniqueness of the generated UUIDs is preserved, but some ordering
+ * guarantees are relaxed because the stripes don't share any state:
+ * 
+ * - Version 1 and 6: UUIDs are ordered within a thread only. The stripes are
+ * distinguished by their clock sequences, which are taken from a shared pool
+ * by {@code DefaultClockSeqFunction}. The supplier must not return factories
+ * that share a fixed clock sequence and a fixed node identifier;
+ * 
+ * - Version 7: UUIDs are monotonic within a thread only. Across threads, they
+ * are ordered by millisecond, but UUIDs created in the same millisecond by
+ * different threads are interleaved by their counters and random bits;
+ * 
+ * - Version 4: nothing is relaxed, as random-based UUIDs have no order;
+ * 
+ * - Prefix and Suffix COMB: nothing is relaxed, as the order is given only by
+ * the creation time, not by the random bits;
+ * 
+ * - Version 2: not supported, as {@code DceSecurityFactory#create()} always
+ * throws an exception. Version 3 and 5 are not {@link NoArgsFactory}.
+ */
+public final class StripedFactory implements NoArgsFactory {
+
+	private final Supplier<? extends NoArgsFactory> supplier;
+
+	private final ThreadLocal<NoArgsFactory> local;
+	private final Set<Stripe> stripes;
+	private final ConcurrentLinkedQueue<NoArgsFactory> reclaimed;
+
+	// number of stripes that triggers the next automatic reclaim
+	private volatile int threshold;
+
+	/**
+	 * Creates a striped factory.
+	 * 
+	 * @param supplier a supplier of independent factories, one per thread
+	 */
+	public StripedFactory(Supplier<? extends NoArgsFactory> supplier) {
+		this.supplier = Objects.requireNonNull(supplier, "Null factory supplier");
+		this.local = ThreadLocal.withInitial(this::acquire);
+		this.stripes = ConcurrentHashMap.newKeySet();
+		this.reclaimed = new ConcurrentLinkedQueue<>();
+		this.threshold = 1;
+	}
+
+	/**
+	 * Returns a UUID created by the stripe of the current thread.
+	 * 
+	 * @return a UUID
+	 */
+	@Override
+	public UUID create() {
+		return this.local.get().create();
+	}
+
+	/**
+	 * Passes the bits of a UUID created by the stripe of the current thread to a
+	 * consumer.
+	 * 
+	 * @param consumer a consumer of the most and least significant bits
+	 */
+	@Override
+	public void createInto(BitsConsumer consumer) {
+		this.local.get().createInto(consumer);
+	}
+
+	/**
+	 * Writes the bits of a UUID created by the stripe of the current thread into
+	 * an array.
+	 * 
+	 * @param dst    an array to receive the bits
+	 * @param offset the index of the most significant bits
+	 */
+	@Override
+	public void createInto(long[] dst, int offset) {
+		this.local.get().createInto(dst, offset);
+	}
+
+	/**
+	 * Writes the bits of a UUID created by the stripe of the current thread into
+	 * two arrays at the same index.
+	 * 
+	 * @param msbs  an array to receive the most significant bits
+	 * @param lsbs  an array to receive the least significant bits
+	 * @param index the index of the UUID
+	 */
+	@Override
+	public void createInto(long[] msbs, long[] lsbs, int index) {
+		this.local.get().createInto(msbs, lsbs, index);
+	}
+
+	/**
+	 * Writes the bytes of a UUID created by the stripe of the current thread into
+	 * an array.
+	 * 
+	 * @param dst    an array to receive the bytes
+	 * @param offset the index of the first byte
+	 */
+	@Override
+	public void createInto(byte[] dst, int offset) {
+		this.local.get().createInto(dst, offset);
+	}
+
+	/**
+	 * Writes the bytes of a UUID created by the stripe of the current thread into
+	 * a buffer.
+	 * 
+	 * @param dst a buffer to receive the bytes
+	 */
+	@Override
+	public void createInto(ByteBuffer dst) {
+		this.local.get().createInto(dst);
+	}
+
+	/**
+	 * Fills an array with UUIDs created by the stripe of the current thread.
+	 * 
+	 * @param uuids an array to be filled
+	 */
+	@Override
+	public void fill(UUID[] uuids) {
+		this.local.get().fill(uuids);
+	}
+
+	/**
+	 * Fills two arrays with the bits of UUIDs created by the stripe of the current
+	 * thread.
+	 * 
+	 * @param msbs an array to be filled with the most significant bits
+	 * @param lsbs an array to be filled with the least significant bits
+	 */
+	@Override
+	public void fill(long[] msbs, long[] lsbs) {
+		this.local.get().fill(msbs, lsbs);
+	}
+
+	/**
+	 * Reclaims the stripes of threads that have died.
+	 * 
+	 * The reclaimed factories are reused by the next threads, instead of creating
+	 * new ones.
+	 * 
+	 * @return the number of reclaimed stripes
+	 */
+	public int reclaim() {
+		int count = 0;
+		for (Stripe stripe : this.stripes) {
+			Thread thread = stripe.get();
+			if ((thread == null || !thread.isAlive()) && this.stripes.remove(stripe)) {
+				this.reclaimed.offer(stripe.factory);
+				count++;
+			}
+		}
+		// the next reclaim happens when the number of stripes doubles
+		this.threshold = Math.max(1, this.stripes.size() << 1);
+		return count;
+	}
+
+	/**
+	 * Returns the number of stripes in use, including the ones of threads that
+	 * have died and were not reclaimed yet.
+	 * 
+	 * @return the number of stripes
+	 */
+	public int stripes() {
+		return this.stripes.size();
+	}
+
+	private NoArgsFactory acquire() {
+		NoArgsFactory factory = this.reclaimed.poll();
+		if (factory == null && this.stripes.size() >= this.threshold) {
+			// amortized: a full walk only after the number of stripes doubles
+			reclaim();
+			factory = this.reclaimed.poll();
+		}
+		if (factory == null) {
+			factory = Objects.requireNonNull(this.supplier.get(), "Null factory");
+		}
+		this.stripes.add(new Stripe(Thread.currentThread(), factory));
+		return factory;
+	}
+
+	private static final class Stripe extends WeakReference<Thread> {
+
+		private final NoArgsFactory factory;
+
+		private Stripe(Thread thread, NoArgsFactory factory) {
+			super(thread);
+			this.factory = factory;
+		}
+	}
+}
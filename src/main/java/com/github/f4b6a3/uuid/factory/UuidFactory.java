@@ -24,7 +24,11 @@
 
 package com.github.f4b6a3.uuid.factory;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 
@@ -36,6 +40,10 @@ public abstract class UuidFactory {
 	protected final UuidVersion version;
 	protected final long versionMask;
 
+	// guards the state of the factory; unlike a monitor, it doesn't pin the
+	// carrier of a virtual thread that waits for it
+	protected final ReentrantLock lock = new ReentrantLock();
+
 	public UuidFactory(UuidVersion version) {
 		this.version = version;
 		this.versionMask = (long) version.getValue() << 12;
@@ -60,8 +68,103 @@ public abstract class UuidFactory {
 	 * @return a UUID
 	 */
 	protected UUID toUuid(final long msb, final long lsb) {
-		final long msb0 = (msb & 0xffffffffffff0fffL) | this.versionMask; // set version
-		final long lsb0 = (lsb & 0x3fffffffffffffffL) | 0x8000000000000000L; // set variant
-		return new UUID(msb0, lsb0);
+		return new UUID(toMsb(msb), toLsb(lsb));
+	}
+
+	/**
+	 * Applies the version number to the most significant bits.
+	 * 
+	 * @param msb the most significant bits
+	 * @return the most significant bits with the version number
+	 */
+	protected long toMsb(final long msb) {
+		return (msb & 0xffffffffffff0fffL) | this.versionMask; // set version
+	}
+
+	/**
+	 * Applies the variant number to the least significant bits.
+	 * 
+	 * @param lsb the least significant bits
+	 * @return the least significant bits with the variant number
+	 */
+	protected static long toLsb(final long lsb) {
+		return (lsb & 0x3fffffffffffffffL) | 0x8000000000000000L; // set variant
+	}
+
+	/**
+	 * Checks if the arrays of most and least significant bits have the same length.
+	 * 
+	 * @param msbs an array of most significant bits
+	 * @param lsbs an array of least significant bits
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	protected static void validate(final long[] msbs, final long[] lsbs) {
+		if (msbs.length != lsbs.length) {
+			throw new IllegalArgumentException("Arrays of different lengths");
+		}
+	}
+
+	/**
+	 * Checks if there is room for the bits of a UUID in an array.
+	 * 
+	 * It is called before a UUID is generated, so that no UUID is lost.
+	 * 
+	 * @param dst    an array to receive the bits
+	 * @param offset the index of the most significant bits
+	 * @throws IndexOutOfBoundsException if there is no room for 2 numbers
+	 */
+	protected static void validate(final long[] dst, final int offset) {
+		if (offset < 0 || offset > dst.length - 2) {
+			throw new IndexOutOfBoundsException("No room for 2 numbers at offset " + offset);
+		}
+	}
+
+	/**
+	 * Checks if an index is in the range of two arrays.
+	 * 
+	 * It is called before a UUID is generated, so that no UUID is lost.
+	 * 
+	 * @param msbs  an array to receive the most significant bits
+	 * @param lsbs  an array to receive the least significant bits
+	 * @param index the index of the UUID
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	protected static void validate(final long[] msbs, final long[] lsbs, final int index) {
+		if (index < 0 || index >= msbs.length || index >= lsbs.length) {
+			throw new IndexOutOfBoundsException("Index out of range: " + index);
+		}
+	}
+
+	/**
+	 * Checks if there is room for the bytes of a UUID in an array.
+	 * 
+	 * It is called before a UUID is generated, so that no UUID is lost.
+	 * 
+	 * @param dst    an array to receive the bytes
+	 * @param offset the index of the first byte
+	 * @throws IndexOutOfBoundsException if there is no room for 16 bytes
+	 */
+	protected static void validate(final byte[] dst, final int offset) {
+		if (offset < 0 || offset > dst.length - 16) {
+			throw new IndexOutOfBoundsException("No room for 16 bytes at offset " + offset);
+		}
+	}
+
+	/**
+	 * Checks if there is room for the bytes of a UUID in a buffer.
+	 * 
+	 * It is called before a UUID is generated, so that no UUID is lost.
+	 * 
+	 * @param dst a buffer to receive the bytes
+	 * @throws ReadOnlyBufferException if the buffer is read-only
+	 * @throws BufferOverflowException if there are less than 16 bytes remaining
+	 */
+	protected static void validate(final ByteBuffer dst) {
+		if (dst.isReadOnly()) {
+			throw new ReadOnlyBufferException();
+		}
+		if (dst.remaining() < 16) {
+			throw new BufferOverflowException();
+		}
 	}
 }
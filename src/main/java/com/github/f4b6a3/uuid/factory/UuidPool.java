@@ -0,0 +1,268 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Factory that hands out UUIDs generated in advance by a background thread.
+ * 
+ * The UUIDs are kept in a lock-free ring buffer, so that taking one costs
+ * little more than an array read. When the number of UUIDs in the buffer drops
+ * below a low-water mark, a daemon thread refills it using the wrapped factory.
+ * If the buffer is empty, the UUID is created directly by the wrapped factory.
+ * The hits and misses of the buffer are counted.
+ * 
+ * Example:
+ * 
+ * <pre>
+ * UuidPool pool = new UuidPool(new RandomBasedFactory());
+ * UUID uuid = pool.create();
+ * </pre>
+ * 
+ * The UUIDs are created before they are requested. So the time component of
+ * time-based UUIDs reflects when they were generated, and UUIDs created
+ * directly after a miss are not ordered with the UUIDs still in the buffer.
+ * 
+ * The refill thread stops when the pool is closed. A closed pool still hands
+ * out the UUIDs left in the buffer, and then creates them directly.
+ */
+public final class UuidPool implements NoArgsFactory, AutoCloseable {
+
+	private final NoArgsFactory factory;
+
+	private final int capacity;
+	private final int lowWater;
+	private final int mask;
+
+	// the ring buffer: each slot is published by its sequence number
+	private final UUID[] slots;
+	private final AtomicLongArray sequences;
+
+	private final AtomicLong head = new AtomicLong(); // next slot to be taken
+	private volatile long tail; // next slot to be filled, written by the refill thread only
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private final Thread thread;
+	private final AtomicBoolean requested = new AtomicBoolean();
+	private volatile boolean closed;
+
+	/**
+	 * Default number of UUIDs kept in the buffer.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	// maximum number of UUIDs generated with one call to the wrapped factory
+	private static final int BATCH_SIZE = 256;
+
+	/**
+	 * Creates a pool with the default capacity, refilled when it is 3/4 empty.
+	 * 
+	 * @param factory a factory of UUIDs
+	 */
+	public UuidPool(NoArgsFactory factory) {
+		this(factory, DEFAULT_CAPACITY, DEFAULT_CAPACITY / 4);
+	}
+
+	/**
+	 * Creates a pool.
+	 * 
+	 * The capacity is rounded up to a power of 2.
+	 * 
+	 * @param factory  a factory of UUIDs
+	 * @param capacity the number of UUIDs kept in the buffer
+	 * @param lowWater the number of UUIDs below which the buffer is refilled
+	 * @throws IllegalArgumentException if the capacity or the low-water mark is
+	 *                                  out of range
+	 */
+	public UuidPool(NoArgsFactory factory, int capacity, int lowWater) {
+
+		if (capacity < 1 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("Invalid capacity: " + capacity);
+		}
+		if (lowWater < 0 || lowWater > capacity) {
+			throw new IllegalArgumentException("Invalid low-water mark: " + lowWater);
+		}
+
+		this.factory = Objects.requireNonNull(factory, "Null factory");
+		this.capacity = Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+		this.lowWater = lowWater;
+		this.mask = this.capacity - 1;
+
+		this.slots = new UUID[this.capacity];
+		this.sequences = new AtomicLongArray(this.capacity);
+		for (int i = 0; i < this.capacity; i++) {
+			this.sequences.set(i, i);
+		}
+
+		this.thread = new Thread(this::refill, "UuidPool-refill");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * Returns a UUID from the buffer, or creates one if the buffer is empty.
+	 * 
+	 * @return a UUID
+	 */
+	@Override
+	public UUID create() {
+
+		final UUID uuid = poll();
+
+		if (uuid == null) {
+			misses.increment();
+			request();
+			return this.factory.create();
+		}
+
+		hits.increment();
+		if (size() < this.lowWater) {
+			request();
+		}
+		return uuid;
+	}
+
+	/**
+	 * Returns the number of UUIDs in the buffer.
+	 * 
+	 * @return the number of UUIDs
+	 */
+	public int size() {
+		final long size = this.tail - this.head.get();
+		return size < 0 ? 0 : (int) size;
+	}
+
+	/**
+	 * Returns the maximum number of UUIDs in the buffer.
+	 * 
+	 * @return the capacity
+	 */
+	public int capacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Returns how many UUIDs were taken from the buffer.
+	 * 
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Returns how many UUIDs were created directly because the buffer was empty.
+	 * 
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Stops the refill thread.
+	 * 
+	 * The UUIDs left in the buffer are still handed out.
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+		LockSupport.unpark(this.thread);
+	}
+
+	private UUID poll() {
+		while (true) {
+			final long position = this.head.get();
+			final int index = (int) position & this.mask;
+			final long sequence = this.sequences.get(index);
+			if (sequence < position + 1) {
+				return null; // the buffer is empty
+			}
+			if (sequence == position + 1 && this.head.compareAndSet(position, position + 1)) {
+				final UUID uuid = this.slots[index];
+				this.slots[index] = null;
+				// release the slot for the next round
+				this.sequences.set(index, position + this.capacity);
+				return uuid;
+			}
+			// another thread took the slot: try again
+		}
+	}
+
+	private boolean offer(final UUID uuid) {
+		final long position = this.tail;
+		final int index = (int) position & this.mask;
+		if (this.sequences.get(index) != position) {
+			return false; // the slot is not released yet
+		}
+		this.slots[index] = uuid;
+		// publish the slot
+		this.sequences.set(index, position + 1);
+		this.tail = position + 1;
+		return true;
+	}
+
+	private void request() {
+		if (!this.closed && !this.requested.get() && this.requested.compareAndSet(false, true)) {
+			LockSupport.unpark(this.thread);
+		}
+	}
+
+	private void refill() {
+		final UUID[] batch = new UUID[Math.min(BATCH_SIZE, this.capacity)];
+		while (!this.closed) {
+
+			int room;
+			while (!this.closed && (room = this.capacity - size()) > 0) {
+				final UUID[] uuids = room < batch.length ? new UUID[room] : batch;
+				this.factory.fill(uuids);
+				for (int i = 0; i < uuids.length; i++) {
+					while (!offer(uuids[i])) {
+						// a consumer is still reading the slot
+						Thread.yield();
+					}
+				}
+			}
+
+			this.requested.set(false);
+
+			// check again after clearing the flag, so that no request is missed
+			if (size() < this.lowWater) {
+				continue;
+			}
+
+			LockSupport.park(this);
+		}
+	}
+}
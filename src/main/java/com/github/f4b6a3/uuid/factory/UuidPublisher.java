@@ -0,0 +1,248 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publisher that emits UUIDs on demand, following the Reactive Streams rules.
+ * 
+ * Each {@code request(n)} is satisfied by a single call to
+ * {@link NoArgsFactory#fill(UUID[])}, as long as n is not greater than
+ * {@link #MAX_BATCH_SIZE}. Larger requests are split into batches of that
+ * size. No UUID is created before it is requested, and no UUID is emitted
+ * after the subscription is cancelled. The UUIDs are emitted by the thread that
+ * calls {@code request(n)}.
+ * 
+ * Each subscriber receives the UUIDs in the order they are created by the
+ * factory. So they are ordered if the factory is monotonic, for example, a
+ * {@code TimeOrderedEpochFactory}.
+ * 
+ * The {@link Subscriber} and {@link Subscription} interfaces have the same
+ * methods as the ones of {@code java.util.concurrent.Flow}, which is not
+ * available in Java 8. In JDK 9+, a {@code Flow.Publisher} can be obtained like
+ * this:
+ * 
+ * <pre>
+ * UuidPublisher publisher = new UuidPublisher(new TimeOrderedEpochFactory());
+ * Flow.Publisher&lt;UUID&gt; flow = s -&gt; publisher.subscribe(new UuidPublisher.Subscriber&lt;UUID&gt;() {
+ * 	public void onSubscribe(UuidPublisher.Subscription subscription) {
+ * 		s.onSubscribe(new Flow.Subscription() {
+ * 			public void request(long n) { subscription.request(n); }
+ * 			public void cancel() { subscription.cancel(); }
+ * 		});
+ * 	}
+ * 	public void onNext(UUID uuid) { s.onNext(uuid); }
+ * 	public void onError(Throwable throwable) { s.onError(throwable); }
+ * 	public void onComplete() { s.onComplete(); }
+ * });
+ * </pre>
+ */
+public final class UuidPublisher {
+
+	private final NoArgsFactory factory;
+	private final long count;
+
+	/**
+	 * Maximum number of UUIDs created with one call to the factory.
+	 */
+	public static final int MAX_BATCH_SIZE = 1024;
+
+	/**
+	 * Creates a publisher that never completes.
+	 * 
+	 * @param factory a factory of UUIDs
+	 */
+	public UuidPublisher(NoArgsFactory factory) {
+		this(factory, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a publisher that completes after emitting a number of UUIDs to each
+	 * subscriber.
+	 * 
+	 * @param factory a factory of UUIDs
+	 * @param count   the number of UUIDs per subscriber
+	 * @throws IllegalArgumentException if the count is negative
+	 */
+	public UuidPublisher(NoArgsFactory factory, long count) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Negative count: " + count);
+		}
+		this.factory = Objects.requireNonNull(factory, "Null factory");
+		this.count = count;
+	}
+
+	/**
+	 * Adds a subscriber.
+	 * 
+	 * Each subscriber has its own subscription. All subscriptions share the
+	 * factory.
+	 * 
+	 * @param subscriber a subscriber
+	 */
+	public void subscribe(Subscriber<? super UUID> subscriber) {
+		Objects.requireNonNull(subscriber, "Null subscriber");
+		final UuidSubscription subscription = new UuidSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+		if (this.count == 0) {
+			subscription.drain(); // complete without demand
+		}
+	}
+
+	/**
+	 * A receiver of UUIDs, equivalent to {@code java.util.concurrent.Flow.Subscriber}.
+	 * 
+	 * @param <T> the type of the items
+	 */
+	public static interface Subscriber<T> {
+
+		public void onSubscribe(Subscription subscription);
+
+		public void onNext(T item);
+
+		public void onError(Throwable throwable);
+
+		public void onComplete();
+	}
+
+	/**
+	 * A link between the publisher and a subscriber, equivalent to
+	 * {@code java.util.concurrent.Flow.Subscription}.
+	 */
+	public static interface Subscription {
+
+		public void request(long n);
+
+		public void cancel();
+	}
+
+	private final class UuidSubscription implements Subscription {
+
+		private final Subscriber<? super UUID> subscriber;
+
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private volatile boolean cancelled;
+		private volatile Throwable error;
+
+		// accessed only by the thread that drains
+		private long emitted;
+
+		private UuidSubscription(Subscriber<? super UUID> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(final long n) {
+			if (n <= 0) {
+				this.error = new IllegalArgumentException("Non-positive request: " + n);
+			} else {
+				// add the demand, capped at Long.MAX_VALUE
+				this.requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			this.cancelled = true;
+		}
+
+		/**
+		 * Emits the requested UUIDs.
+		 * 
+		 * Only one thread drains at a time. Requests made while draining, including
+		 * the ones made by the subscriber in {@code onNext}, are handled by the
+		 * draining thread when the current batch is done, so the call stack doesn't
+		 * grow.
+		 */
+		private void drain() {
+
+			if (this.wip.getAndIncrement() != 0) {
+				return;
+			}
+
+			int missed = 1;
+			do {
+
+				if (this.cancelled) {
+					return;
+				}
+
+				if (this.error != null) {
+					this.cancelled = true;
+					this.subscriber.onError(this.error);
+					return;
+				}
+
+				final long demand = this.requested.get();
+				long done = 0;
+
+				while (done != demand && this.emitted != count) {
+
+					final int size = (int) Math.min(Math.min(demand - done, count - this.emitted), MAX_BATCH_SIZE);
+
+					final UUID[] batch = new UUID[size];
+					try {
+						factory.fill(batch);
+					} catch (RuntimeException e) {
+						this.cancelled = true;
+						this.subscriber.onError(e);
+						return;
+					}
+
+					for (int i = 0; i < size; i++) {
+						if (this.cancelled) {
+							return;
+						}
+						this.subscriber.onNext(batch[i]);
+					}
+
+					done += size;
+					this.emitted += size;
+				}
+
+				if (this.emitted == count) {
+					if (!this.cancelled) {
+						this.cancelled = true;
+						this.subscriber.onComplete();
+					}
+					return;
+				}
+
+				if (demand != Long.MAX_VALUE) {
+					this.requested.addAndGet(-done);
+				}
+
+				missed = this.wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Spliterator that creates a fixed number of UUIDs.
+ * 
+ * Every split gets its own factory from the given supplier, created by the
+ * thread that traverses it. So the splits of a parallel stream don't share any
+ * generator state and never contend on the same lock. The UUIDs are created in
+ * batches with {@link NoArgsFactory#fill(UUID[])}.
+ * 
+ * Example:
+ * 
+ * <pre>
+ * Stream&lt;UUID&gt; stream = StreamSupport.stream(new UuidSpliterator(TimeOrderedEpochFactory::new, 1_000_000), true);
+ * </pre>
+ * 
+ * The uniqueness and ordering guarantees across splits are the same as the
+ * ones across the stripes of a {@link StripedFactory}. For example, version 1
+ * and 6 factories created by the supplier are distinguished by their clock
+ * sequences, taken from a shared pool, and version 7 UUIDs are monotonic within
+ * a split only. If the supplier always returns the same factory, all splits
+ * share it.
+ */
+public final class UuidSpliterator implements Spliterator<UUID> {
+
+	private final Supplier<? extends NoArgsFactory> supplier;
+
+	private long origin; // the index of the next UUID
+	private final long fence; // one past the index of the last UUID
+
+	private NoArgsFactory factory; // created on the first traversal
+	private UUID[] buffer; // UUIDs created but not yet consumed
+	private int position;
+
+	// maximum number of UUIDs created with one call to the factory
+	private static final int BATCH_SIZE = 256;
+
+	/**
+	 * Creates a spliterator.
+	 * 
+	 * @param supplier a supplier of independent factories, one per split
+	 * @param size     the number of UUIDs
+	 * @throws IllegalArgumentException if the size is negative
+	 */
+	public UuidSpliterator(Supplier<? extends NoArgsFactory> supplier, long size) {
+		this(Objects.requireNonNull(supplier, "Null factory supplier"), 0, size);
+		if (size < 0) {
+			throw new IllegalArgumentException("Negative size: " + size);
+		}
+	}
+
+	private UuidSpliterator(Supplier<? extends NoArgsFactory> supplier, long origin, long fence) {
+		this.supplier = supplier;
+		this.origin = origin;
+		this.fence = fence;
+	}
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super UUID> action) {
+		Objects.requireNonNull(action);
+		if (this.buffer == null || this.position == this.buffer.length) {
+			if (this.origin == this.fence) {
+				return false;
+			}
+			this.buffer = next();
+			this.position = 0;
+		}
+		action.accept(this.buffer[this.position++]);
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(final Consumer<? super UUID> action) {
+		Objects.requireNonNull(action);
+		if (this.buffer != null) {
+			while (this.position < this.buffer.length) {
+				action.accept(this.buffer[this.position++]);
+			}
+		}
+		while (this.origin < this.fence) {
+			final UUID[] uuids = next();
+			for (int i = 0; i < uuids.length; i++) {
+				action.accept(uuids[i]);
+			}
+		}
+	}
+
+	/**
+	 * Splits off the first half of the UUIDs not yet created.
+	 * 
+	 * The UUIDs already created and not yet consumed stay with this spliterator.
+	 * 
+	 * @return a spliterator with its own factory, or null if too small to split
+	 */
+	@Override
+	public Spliterator<UUID> trySplit() {
+		final long half = (this.fence - this.origin) >>> 1;
+		if (half < BATCH_SIZE) {
+			return null;
+		}
+		final long start = this.origin;
+		this.origin = start + half;
+		return new UuidSpliterator(this.supplier, start, start + half);
+	}
+
+	@Override
+	public long estimateSize() {
+		final long buffered = this.buffer == null ? 0 : this.buffer.length - this.position;
+		return (this.fence - this.origin) + buffered;
+	}
+
+	@Override
+	public int characteristics() {
+		return SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+	}
+
+	private UUID[] next() {
+		if (this.factory == null) {
+			this.factory = this.supplier.get();
+		}
+		final UUID[] uuids = new UUID[(int) Math.min(BATCH_SIZE, this.fence - this.origin)];
+		this.factory.fill(uuids);
+		this.origin += uuids.length;
+		return uuids;
+	}
+}
@@ -24,6 +24,7 @@
 
 package com.github.f4b6a3.uuid.factory.function;
 
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.LongUnaryOperator;
 
 import com.github.f4b6a3.uuid.util.internal.RandomUtil;
@@ -82,13 +83,20 @@ public interface ClockSeqFunction extends LongUnaryOperator {
 	 * It can be used to avoid that two time-based factories use the same clock
 	 * sequence at same time in a class loader.
 	 * 
-	 * It is a pool of 16384 values. The pool is implemented as an array of 2048
-	 * bytes (16384 bits). Each bit of this array corresponds to a pool value.
+	 * It is a pool of 16384 values. The pool is implemented as an array of 256
+	 * words of 64 bits (16384 bits). Each bit of this array corresponds to a pool
+	 * value.
+	 * 
+	 * The pool is lock-free: bits are set with compare-and-set on the words, and a
+	 * free value is found one word at a time with
+	 * {@link Long#numberOfTrailingZeros(long)}.
 	 */
 	public static final class ClockSeqPool {
 
-		private final byte[] pool = new byte[2048];
 		private static final int POOL_SIZE = 16384; // 2^14 = 16384
+		private static final int WORD_COUNT = POOL_SIZE / 64; // 256
+
+		private final AtomicLongArray pool = new AtomicLongArray(WORD_COUNT);
 
 		public static final int POOL_MIN = 0x00000000;
 		public static final int POOL_MAX = 0x00003fff; // 2^14-1 = 16383
@@ -102,22 +110,25 @@ public interface ClockSeqFunction extends LongUnaryOperator {
 		 * In the case that all pool values are in use, the pool is cleared and the last
 		 * incremented value is returned.
 		 * 
-		 * It does nothing to negative arguments.
+		 * Negative arguments are taken as zero, and arguments greater than
+		 * {@link #POOL_MAX} are taken modulo the pool size, so the value returned is
+		 * always in the range of the pool.
 		 * 
 		 * @param take value to be taken from the pool
 		 * @return the value to be borrowed if not used.
 		 */
-		public synchronized int take(final int take) {
-			int value = take;
-			for (int i = 0; i < POOL_SIZE; i++) {
-				if (setBit(value)) {
-					return value;
+		public int take(final int take) {
+
+			final int value = take < 0 ? POOL_MIN : take & POOL_MAX;
+
+			while (true) {
+				final int taken = search(value);
+				if (taken >= 0) {
+					return taken;
 				}
-				value = ++value % POOL_SIZE;
+				// all values are in use
+				clearPool();
 			}
-			clearPool();
-			setBit(value);
-			return value;
 		}
 
 		/**
@@ -127,42 +138,46 @@ public interface ClockSeqFunction extends LongUnaryOperator {
 		 * 
 		 * @return the random value to be borrowed if not used.
 		 */
-		public synchronized int random() {
+		public int random() {
 			// Choose a random number between 0 and 16383
 			int random = (RandomUtil.nextInt() & 0x7fffffff) % POOL_SIZE;
 			return this.take(random);
 		}
 
 		/**
-		 * Set a bit from the byte array that represents the pool.
+		 * Find and set the first free bit at or after a value, wrapping around.
 		 * 
-		 * This operation corresponds to setting a value as used.
+		 * The word of the value is visited twice: first for the bits at or after the
+		 * value, and last for the bits before it.
 		 * 
-		 * It returns false if the value is not free.
-		 * 
-		 * It does nothing to negative arguments.
-		 * 
-		 * @param value the value to be taken from the pool
-		 * @return true if success.
+		 * @param value the value to start from
+		 * @return the value taken, or -1 if all values are in use.
 		 */
-		private synchronized boolean setBit(int value) {
+		private int search(final int value) {
 
-			if (value < 0) {
-				return false;
-			}
+			final int first = value >>> 6;
+			final long after = -1L << (value & 63);
 
-			final int byteIndex = value / 8;
-			final int bitIndex = value % 8;
+			for (int i = 0; i <= WORD_COUNT; i++) {
 
-			final int mask = (0x00000001 << bitIndex);
-			final boolean clear = (pool[byteIndex] & mask) == 0;
+				final int index = (first + i) & (WORD_COUNT - 1);
+				final long mask = i == 0 ? after : (i == WORD_COUNT ? ~after : -1L);
 
-			if (clear) {
-				pool[byteIndex] = (byte) (pool[byteIndex] | mask);
-				return true;
+				long word = pool.get(index);
+				long free = ~word & mask;
+
+				while (free != 0) {
+					final long bit = Long.lowestOneBit(free);
+					if (pool.compareAndSet(index, word, word | bit)) {
+						return (index << 6) | Long.numberOfTrailingZeros(bit);
+					}
+					// another thread changed the word
+					word = pool.get(index);
+					free = ~word & mask;
+				}
 			}
 
-			return false;
+			return -1;
 		}
 
 		/**
@@ -171,15 +186,8 @@ public interface ClockSeqFunction extends LongUnaryOperator {
 		 * @param value a value to be checked in the pool.
 		 * @return true if the value is used.
 		 */
-		public synchronized boolean isUsed(int value) {
-
-			final int byteIndex = value / 8;
-			final int bitIndex = value % 8;
-
-			final int mask = (0x00000001 << bitIndex);
-			boolean clear = (pool[byteIndex] & mask) == 0;
-
-			return !clear;
+		public boolean isUsed(int value) {
+			return (pool.get(value >>> 6) & (1L << (value & 63))) != 0;
 		}
 
 		/**
@@ -188,7 +196,7 @@ public interface ClockSeqFunction extends LongUnaryOperator {
 		 * @param value a value to be checked in the pool.
 		 * @return true if the value is free.
 		 */
-		public synchronized boolean isFree(int value) {
+		public boolean isFree(int value) {
 			return !this.isUsed(value);
 		}
 
@@ -197,12 +205,10 @@ public interface ClockSeqFunction extends LongUnaryOperator {
 		 * 
 		 * @return the count of used values.
 		 */
-		public synchronized int countUsed() {
+		public int countUsed() {
 			int counter = 0;
-			for (int i = 0; i < POOL_SIZE; i++) {
-				if (this.isUsed(i)) {
-					counter++;
-				}
+			for (int i = 0; i < WORD_COUNT; i++) {
+				counter += Long.bitCount(pool.get(i));
 			}
 			return counter;
 		}
@@ -212,18 +218,18 @@ public interface ClockSeqFunction extends LongUnaryOperator {
 		 * 
 		 * @return the count of free values.
 		 */
-		public synchronized int countFree() {
+		public int countFree() {
 			return POOL_SIZE - this.countUsed();
 		}
 
 		/**
-		 * Clear all bits of the byte array that represents the pool.
+		 * Clear all bits of the array that represents the pool.
 		 * 
 		 * This corresponds to marking all pool values as free.
 		 */
-		public synchronized void clearPool() {
-			for (int i = 0; i < pool.length; i++) {
-				pool[i] = 0;
+		public void clearPool() {
+			for (int i = 0; i < WORD_COUNT; i++) {
+				pool.set(i, 0L);
 			}
 		}
 	}
@@ -54,6 +54,34 @@ import com.github.f4b6a3.uuid.util.UuidTime;
 @FunctionalInterface
 public interface TimeFunction extends LongSupplier {
 
+	/**
+	 * The value returned by {@link #tryGetAsLong()} when the caller must wait for
+	 * the time to advance.
+	 * 
+	 * It is about 29 thousand years before 1970, so it is never a valid timestamp.
+	 */
+	public static final long NOT_READY = Long.MIN_VALUE;
+
+	/**
+	 * Returns the timestamp, or {@link #NOT_READY} if no unique timestamp can be
+	 * returned before the time advances.
+	 * 
+	 * The factories call this method while holding their lock. If it returns
+	 * {@link #NOT_READY}, they release the lock, wait a little and call it again,
+	 * so that other threads are not blocked while the time doesn't advance. So a
+	 * batch, such as a {@code fill()}, may be interleaved with the UUIDs of other
+	 * threads while it waits.
+	 * 
+	 * The default implementation never asks to wait: it returns
+	 * {@link #getAsLong()}.
+	 * 
+	 * @return a number of 100-nanoseconds since 1970-01-01 (Unix epoch), or
+	 *         {@link #NOT_READY}
+	 */
+	public default long tryGetAsLong() {
+		return getAsLong();
+	}
+
 	/**
 	 * Converts an instant to a number of 100-nanoseconds since 1970-01-01 (Unix
 	 * epoch).
@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.github.f4b6a3.uuid.factory.function.RandomFunction;
+import com.github.f4b6a3.uuid.util.internal.RandomUtil;
+
+/**
+ * Random function that hands out slices of a per-thread block of random bytes.
+ * 
+ * Each thread has its own block, which is refilled with a single call to
+ * {@link Random#nextBytes(byte[])} when it runs out. So the cost of the
+ * underlying generator, usually a lock and sometimes a system call, is paid
+ * once per block instead of once per UUID.
+ * 
+ * The bytes handed out are wiped from the block, so that they are not kept in
+ * memory after use. The remaining bytes of the current thread can also be wiped
+ * on demand by calling {@link BufferedRandomFunction#wipe()}.
+ * 
+ * When given to a factory builder as a random function, the factory calls
+ * {@link BufferedRandomFunction#nextLong()}, which doesn't create any object
+ * between refills.
+ * 
+ * Example:
+ * 
+ * <pre>
+ * RandomFunction function = new BufferedRandomFunction(16 * 1024);
+ * TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withRandomFunction(function).build();
+ * </pre>
+ */
+public final class BufferedRandomFunction implements RandomFunction {
+
+	private final Random random;
+	private final int blockSize;
+	private final ThreadLocal<Block> blocks;
+
+	public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+	// at least the size of a UUID
+	public static final int MIN_BLOCK_SIZE = 16;
+
+	/**
+	 * Creates a function with blocks of 4 KiB and a new
+	 * {@link java.security.SecureRandom}.
+	 */
+	public BufferedRandomFunction() {
+		this(DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Creates a function with a new {@link java.security.SecureRandom}.
+	 * 
+	 * @param blockSize the number of bytes in each block
+	 * @throws IllegalArgumentException if the block size is less than 16
+	 */
+	public BufferedRandomFunction(int blockSize) {
+		this(RandomUtil.getSecureRandom(), blockSize);
+	}
+
+	/**
+	 * Creates a function.
+	 * 
+	 * The random generator is shared by all threads, but it is only called to
+	 * refill the blocks.
+	 * 
+	 * @param random    a random generator
+	 * @param blockSize the number of bytes in each block
+	 * @throws IllegalArgumentException if the block size is less than 16
+	 */
+	public BufferedRandomFunction(Random random, int blockSize) {
+		if (random == null) {
+			throw new IllegalArgumentException("Null random generator");
+		}
+		if (blockSize < MIN_BLOCK_SIZE) {
+			throw new IllegalArgumentException(String.format("Block size must be at least %s bytes", MIN_BLOCK_SIZE));
+		}
+		this.random = random;
+		this.blockSize = blockSize;
+		this.blocks = ThreadLocal.withInitial(() -> new Block(this.blockSize));
+	}
+
+	/**
+	 * Returns a new array of random bytes.
+	 * 
+	 * @param length the number of bytes
+	 * @return an array of random bytes
+	 */
+	@Override
+	public byte[] apply(final int length) {
+		final byte[] bytes = new byte[length];
+		nextBytes(bytes, 0, length);
+		return bytes;
+	}
+
+	/**
+	 * Fills a region of an array with random bytes.
+	 * 
+	 * @param bytes  an array to receive the bytes
+	 * @param offset the index of the first byte
+	 * @param length the number of bytes
+	 */
+	public void nextBytes(final byte[] bytes, final int offset, final int length) {
+		final Block block = this.blocks.get();
+		int copied = 0;
+		while (copied < length) {
+			if (block.position == block.bytes.length) {
+				refill(block);
+			}
+			final int size = Math.min(length - copied, block.bytes.length - block.position);
+			System.arraycopy(block.bytes, block.position, bytes, offset + copied, size);
+			Arrays.fill(block.bytes, block.position, block.position + size, (byte) 0); // wipe
+			block.position += size;
+			copied += size;
+		}
+	}
+
+	/**
+	 * Returns a random number.
+	 * 
+	 * No object is created, except by the random generator when the block is
+	 * refilled.
+	 * 
+	 * @return a random number
+	 */
+	public long nextLong() {
+		final Block block = this.blocks.get();
+		if (block.bytes.length - block.position < Long.BYTES) {
+			wipe(block);
+			refill(block);
+		}
+		long number = 0;
+		for (int i = 0; i < Long.BYTES; i++) {
+			number = (number << 8) | (block.bytes[block.position] & 0xffL);
+			block.bytes[block.position++] = 0; // wipe
+		}
+		return number;
+	}
+
+	/**
+	 * Wipes the random bytes that were not handed out to the current thread yet.
+	 */
+	public void wipe() {
+		wipe(this.blocks.get());
+	}
+
+	/**
+	 * Returns the number of bytes in each block.
+	 * 
+	 * @return the block size
+	 */
+	public int getBlockSize() {
+		return this.blockSize;
+	}
+
+	private void refill(final Block block) {
+		this.random.nextBytes(block.bytes);
+		block.position = 0;
+	}
+
+	private static void wipe(final Block block) {
+		Arrays.fill(block.bytes, block.position, block.bytes.length, (byte) 0);
+		block.position = block.bytes.length;
+	}
+
+	private static final class Block {
+
+		private final byte[] bytes;
+		private int position;
+
+		private Block(int size) {
+			this.bytes = new byte[size];
+			this.position = size; // empty until the first use
+		}
+	}
+}
@@ -27,8 +27,12 @@ package com.github.f4b6a3.uuid.factory.function.impl;
 import static com.github.f4b6a3.uuid.factory.function.ClockSeqFunction.ClockSeqPool.POOL_MIN;
 import static com.github.f4b6a3.uuid.factory.function.ClockSeqFunction.ClockSeqPool.POOL_MAX;
 
+import static com.github.f4b6a3.uuid.util.UuidTime.TICKS_PER_MILLI;
+
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
 
+import com.github.f4b6a3.uuid.factory.StateStore;
 import com.github.f4b6a3.uuid.factory.function.ClockSeqFunction;
 
 public final class DefaultClockSeqFunction implements ClockSeqFunction {
@@ -36,11 +40,44 @@ public final class DefaultClockSeqFunction implements ClockSeqFunction {
 	private AtomicInteger sequence;
 	private long lastTimestamp = -1;
 
+	private final StateStore store; // optional
+
 	protected static final ClockSeqPool POOL = new ClockSeqPool();
 
+	// created once, so that changing the clock sequence creates no object
+	private static final IntUnaryOperator TAKE = POOL::take;
+
 	public DefaultClockSeqFunction() {
 		final int initial = POOL.random();
 		this.sequence = new AtomicInteger(initial);
+		this.store = null;
+	}
+
+	/**
+	 * Creates a function that restores the clock sequence and the last timestamp
+	 * from a state store, and keeps them up to date.
+	 * 
+	 * ### RFC-4122 - 4.2.1. Basic Algorithm
+	 * 
+	 * If the state was unavailable (e.g., non-existent or corrupted), or the saved
+	 * node ID is different than the current node ID, generate a random clock
+	 * sequence value.
+	 * 
+	 * If the state was available, but the saved timestamp is later than the
+	 * current timestamp, increment the clock sequence value.
+	 * 
+	 * @param store a state store
+	 */
+	public DefaultClockSeqFunction(StateStore store) {
+		final long saved = store.getClockSeq();
+		final int initial = saved >= 0 ? POOL.take((int) ClockSeqFunction.toExpectedRange(saved)) : POOL.random();
+		this.sequence = new AtomicInteger(initial);
+		this.store = store;
+		this.store.setClockSeq(initial);
+		if (saved >= 0) {
+			// the saved timestamp is a high-water mark
+			this.lastTimestamp = store.getTime() * TICKS_PER_MILLI;
+		}
 	}
 
 	/**
@@ -60,6 +97,9 @@ public final class DefaultClockSeqFunction implements ClockSeqFunction {
 	 */
 	@Override
 	public long applyAsLong(final long timestamp) {
+		if (this.store != null) {
+			this.store.advance(timestamp / TICKS_PER_MILLI);
+		}
 		if (timestamp > this.lastTimestamp) {
 			this.lastTimestamp = timestamp;
 			return this.sequence.get();
@@ -72,6 +112,10 @@ public final class DefaultClockSeqFunction implements ClockSeqFunction {
 		if (this.sequence.incrementAndGet() > POOL_MAX) {
 			this.sequence.set(POOL_MIN);
 		}
-		return this.sequence.updateAndGet(POOL::take);
+		final int next = this.sequence.updateAndGet(TAKE);
+		if (this.store != null) {
+			this.store.setClockSeq(next);
+		}
+		return next;
 	}
 }
@@ -24,15 +24,41 @@
 
 package com.github.f4b6a3.uuid.factory.function.impl;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.github.f4b6a3.uuid.factory.function.RandomFunction;
 import com.github.f4b6a3.uuid.util.internal.RandomUtil;
 
+/**
+ * Random function that uses one {@link java.security.SecureRandom} per platform
+ * thread.
+ * 
+ * Each platform thread has its own instance, created the first time the thread
+ * asks for random bytes. So platform threads never share an instance, and they
+ * don't contend on its lock.
+ * 
+ * Virtual threads (JDK 21+) are usually short-lived and very numerous, often
+ * one per request, so creating and seeding an instance for each of them would
+ * cost more than the random bytes. Instead, they share a bounded pool of
+ * stripes, with twice as many stripes as processors, which is the default
+ * number of carrier threads. Consecutive thread IDs map to different stripes,
+ * and no more virtual threads than carriers run at the same time, so a stripe
+ * is rarely contended. The stripes are created lazily and published safely.
+ */
 public final class DefaultRandomFunction implements RandomFunction {
 
-	private static final int POOL_SIZE = processors();
-	private static final Random[] POOL = new Random[POOL_SIZE];
+	private static final ThreadLocal<Random> LOCAL = ThreadLocal.withInitial(RandomUtil::getSecureRandom);
+
+	// a power of 2 no less than twice the number of processors
+	static final int STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1);
+	private static final AtomicReferenceArray<Random> POOL = new AtomicReferenceArray<>(STRIPES);
+
+	// `Thread.isVirtual()`, which only exists in JDK 21+
+	private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
 
 	@Override
 	public byte[] apply(final int length) {
@@ -41,33 +67,45 @@ public final class DefaultRandomFunction implements RandomFunction {
 		return bytes;
 	}
 
-	private static Random current() {
+	static Random current() {
+		final Thread thread = Thread.currentThread();
+		if (isVirtual(thread)) {
+			return stripe(thread.getId());
+		}
+		return LOCAL.get();
+	}
+
+	static Random stripe(final long threadId) {
 
-		// calculate the pool index given the current thread ID
-		final int index = (int) Thread.currentThread().getId() % POOL_SIZE;
+		final int index = (int) (threadId & (STRIPES - 1));
 
 		// lazy loading instance
-		if (POOL[index] == null) {
-			POOL[index] = RandomUtil.getSecureRandom();
+		Random random = POOL.get(index);
+		if (random == null) {
+			POOL.compareAndSet(index, null, RandomUtil.getSecureRandom());
+			random = POOL.get(index);
 		}
 
-		return POOL[index];
+		return random;
 	}
 
-	private static int processors() {
-
-		final int min = 1;
-		final int max = 16;
-
-		// get the number of processors from the runtime
-		final int processors = Runtime.getRuntime().availableProcessors();
-
-		if (processors < min) {
-			return min;
-		} else if (processors > max) {
-			return max;
+	private static boolean isVirtual(final Thread thread) {
+		if (IS_VIRTUAL == null) {
+			return false;
 		}
+		try {
+			return (boolean) IS_VIRTUAL.invokeExact(thread);
+		} catch (Throwable e) {
+			return false;
+		}
+	}
 
-		return processors;
+	private static MethodHandle isVirtualHandle() {
+		try {
+			return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual",
+					MethodType.methodType(boolean.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
 	}
-}
\ No newline at end of file
+}
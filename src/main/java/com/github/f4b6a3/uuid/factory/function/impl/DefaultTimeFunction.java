@@ -27,6 +27,7 @@ package com.github.f4b6a3.uuid.factory.function.impl;
 import static com.github.f4b6a3.uuid.util.UuidTime.TICKS_PER_MILLI;
 
 import java.time.Clock;
+import java.util.concurrent.locks.LockSupport;
 
 import com.github.f4b6a3.uuid.factory.function.TimeFunction;
 import com.github.f4b6a3.uuid.util.internal.RandomUtil;
@@ -37,6 +38,9 @@ public final class DefaultTimeFunction implements TimeFunction {
 
 	private long lastTime = -1;
 
+	// pause between clock readings while waiting for the time to advance
+	private static final long WAIT_NANOS = 100_000; // 0.1ms
+
 	// start the counter with a random number between 0 and 9,999
 	private long counter = Math.abs(RandomUtil.nextLong() % TICKS_PER_MILLI);
 	// start the counter limit with a number between 10,000 and 19,999
@@ -54,31 +58,44 @@ public final class DefaultTimeFunction implements TimeFunction {
 	 * Returns the timestamp.
 	 * 
 	 * It can be up to 1ms ahead of system time due to counter shift.
+	 * 
+	 * If the counter reaches its limit, it waits for the time to advance. The
+	 * thread is parked between clock readings instead of spinning, so a virtual
+	 * thread releases its carrier while it waits.
 	 */
 	@Override
 	public long getAsLong() {
+		long timestamp;
+		while ((timestamp = tryGetAsLong()) == NOT_READY) {
+			// wait the time to advance without spinning
+			LockSupport.parkNanos(WAIT_NANOS);
+		}
+		return timestamp;
+	}
 
-		counter++; // always increment
+	/**
+	 * Returns the timestamp, or {@link TimeFunction#NOT_READY} if the counter
+	 * reached its limit and the time didn't advance yet.
+	 * 
+	 * Nothing changes if it returns {@link TimeFunction#NOT_READY}, so the factory
+	 * can wait for the time to advance after releasing its lock.
+	 */
+	@Override
+	public long tryGetAsLong() {
 
 		// get the current time
-		long time = clock.millis();
+		final long time = clock.millis();
+
+		// if the time repeats and the counter would go beyond its limit,
+		// the caller must wait the time to advance
+		if (time == lastTime && counter + 1 >= counterMax) {
+			return NOT_READY;
+		}
+
+		counter++; // always increment
 
 		// check time change
-		if (time == lastTime) {
-			// if the time repeats,
-			// check the counter limit
-			if (counter >= counterMax) {
-				// if the counter goes beyond the limit,
-				while (time == lastTime) {
-					// wait the time to advance
-					time = clock.millis();
-				}
-				// reset to a number between 0 and 9,999
-				counter = counter % TICKS_PER_MILLI;
-				// reset to a number between 10,000 and 19,999
-				counterMax = counter + TICKS_PER_MILLI;
-			}
-		} else {
+		if (time != lastTime) {
 			// reset to a number between 0 and 9,999
 			counter = counter % TICKS_PER_MILLI;
 			// reset to a number between 10,000 and 19,999
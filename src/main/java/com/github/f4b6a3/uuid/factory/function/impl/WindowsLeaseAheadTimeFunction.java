@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import static com.github.f4b6a3.uuid.util.UuidTime.TICKS_PER_MILLI;
+
+import java.time.Clock;
+
+import com.github.f4b6a3.uuid.factory.function.TimeFunction;
+import com.github.f4b6a3.uuid.util.internal.RandomUtil;
+
+/**
+ * Time function that borrows ticks from the near future instead of waiting.
+ * 
+ * This function is for WINDOWS systems. It works like
+ * {@link LeaseAheadTimeFunction}, but borrows whole intervals of 16ms, like
+ * {@link WindowsTimeFunction}, because the typical system time granularity in
+ * WINDOWS is 15.625ms.
+ * 
+ * The current lead is returned by {@link #getLead()}.
+ */
+public final class WindowsLeaseAheadTimeFunction implements TimeFunction {
+
+	private final Clock clock;
+	private final long maxLead;
+
+	// the calculated time in use, which may be ahead of the clock
+	private volatile long lastTime = -1;
+
+	// arbitrary granularity greater than 15ms
+	private static final long GRANULARITY = 16;
+	private static final long TICKS_PER_GRANULARITY = TICKS_PER_MILLI * GRANULARITY;
+
+	// start the counter with a random number between 0 and 159,999
+	private long counter = Math.abs(RandomUtil.nextLong() % TICKS_PER_GRANULARITY);
+	// start the counter limit with a number between 160,000 and 319,999
+	private long counterMax = counter + TICKS_PER_GRANULARITY;
+
+	/**
+	 * Default maximum lead in milliseconds.
+	 */
+	public static final long DEFAULT_MAX_LEAD = 2 * GRANULARITY;
+
+	public WindowsLeaseAheadTimeFunction() {
+		this(Clock.systemUTC(), DEFAULT_MAX_LEAD);
+	}
+
+	public WindowsLeaseAheadTimeFunction(Clock clock) {
+		this(clock, DEFAULT_MAX_LEAD);
+	}
+
+	/**
+	 * @param clock   a custom clock
+	 * @param maxLead the maximum lead over the calculated time in milliseconds
+	 * @throws IllegalArgumentException if the maximum lead is negative
+	 */
+	public WindowsLeaseAheadTimeFunction(Clock clock, long maxLead) {
+		if (maxLead < 0) {
+			throw new IllegalArgumentException("Max lead must not be negative");
+		}
+		this.clock = clock;
+		this.maxLead = maxLead;
+	}
+
+	/**
+	 * Returns the timestamp.
+	 * 
+	 * It can be up to the maximum lead plus 48ms ahead of system time due to
+	 * borrowed intervals, time granularity and counter shift.
+	 */
+	@Override
+	public long getAsLong() {
+
+		counter++; // always increment
+
+		// get the calculated time
+		final long time = calculatedMillis();
+
+		long last = lastTime;
+
+		// check time change
+		if (time > last) {
+			// if the clock passed the time in use,
+			// follow the clock again
+			last = time;
+			// reset to a number between 0 and 159,999
+			counter = counter % TICKS_PER_GRANULARITY;
+			// reset to a number between 160,000 and 319,999
+			counterMax = counter + TICKS_PER_GRANULARITY;
+		} else if (counter >= counterMax) {
+			// if the counter goes beyond the limit,
+			if (last + GRANULARITY - time <= maxLead) {
+				// borrow the next interval
+				last = last + GRANULARITY;
+			} else {
+				// or go back to the clock if the lead is too long
+				last = time;
+			}
+			// reset to a number between 0 and 159,999
+			counter = counter % TICKS_PER_GRANULARITY;
+			// reset to a number between 160,000 and 319,999
+			counterMax = counter + TICKS_PER_GRANULARITY;
+		}
+
+		// save time for the next call
+		lastTime = last;
+
+		// RFC-4122 - 4.2.1.2 (P4):
+		// simulate a high resolution clock
+		return (last * TICKS_PER_MILLI) + counter;
+	}
+
+	/**
+	 * Returns how far the time in use is ahead of the calculated time.
+	 * 
+	 * It can be called from any thread.
+	 * 
+	 * @return the lead in milliseconds, or zero if it is not ahead
+	 */
+	public long getLead() {
+		return Math.max(0, lastTime - calculatedMillis());
+	}
+
+	/**
+	 * Returns the maximum lead over the calculated time.
+	 * 
+	 * @return the maximum lead in milliseconds
+	 */
+	public long getMaxLead() {
+		return this.maxLead;
+	}
+
+	/**
+	 * Returns the calculated time in milliseconds.
+	 * 
+	 * It can be 16ms ahead of system time due to time granularity.
+	 * 
+	 * @return the calculated time
+	 */
+	private long calculatedMillis() {
+		final long time = clock.millis();
+		return time + GRANULARITY - (time % GRANULARITY);
+	}
+}
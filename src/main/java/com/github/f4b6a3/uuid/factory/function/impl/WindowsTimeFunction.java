@@ -27,6 +27,7 @@ package com.github.f4b6a3.uuid.factory.function.impl;
 import static com.github.f4b6a3.uuid.util.UuidTime.TICKS_PER_MILLI;
 
 import java.time.Clock;
+import java.util.concurrent.locks.LockSupport;
 
 import com.github.f4b6a3.uuid.factory.function.TimeFunction;
 import com.github.f4b6a3.uuid.util.internal.RandomUtil;
@@ -43,6 +44,9 @@ public final class WindowsTimeFunction implements TimeFunction {
 
 	private long lastTime = -1;
 
+	// pause between clock readings while waiting for the time to advance
+	private static final long WAIT_NANOS = 100_000; // 0.1ms
+
 	// arbitrary granularity greater than 15ms
 	private static final long GRANULARITY = 16;
 	private static final long TICKS_PER_GRANULARITY = TICKS_PER_MILLI * GRANULARITY;
@@ -65,31 +69,44 @@ public final class WindowsTimeFunction implements TimeFunction {
 	 * 
 	 * It can be up to 48ms ahead of system time due to time granularity and counter
 	 * shift.
+	 * 
+	 * If the counter reaches its limit, it waits for the time to advance. The
+	 * thread is parked between clock readings instead of spinning, so a virtual
+	 * thread releases its carrier while it waits.
 	 */
 	@Override
 	public long getAsLong() {
+		long timestamp;
+		while ((timestamp = tryGetAsLong()) == NOT_READY) {
+			// wait the time to advance without spinning
+			LockSupport.parkNanos(WAIT_NANOS);
+		}
+		return timestamp;
+	}
 
-		counter++; // always increment
+	/**
+	 * Returns the timestamp, or {@link TimeFunction#NOT_READY} if the counter
+	 * reached its limit and the time didn't advance yet.
+	 * 
+	 * Nothing changes if it returns {@link TimeFunction#NOT_READY}, so the factory
+	 * can wait for the time to advance after releasing its lock.
+	 */
+	@Override
+	public long tryGetAsLong() {
 
 		// get the calculated time
-		long time = calculatedMillis();
+		final long time = calculatedMillis();
+
+		// if the time repeats and the counter would go beyond its limit,
+		// the caller must wait the time to advance
+		if (time == lastTime && counter + 1 >= counterMax) {
+			return NOT_READY;
+		}
+
+		counter++; // always increment
 
 		// check time change
-		if (time == lastTime) {
-			// if the time repeats,
-			// check the counter limit
-			if (counter >= counterMax) {
-				// if the counter goes beyond the limit,
-				while (time == lastTime) {
-					// wait the time to advance
-					time = calculatedMillis();
-				}
-				// reset to a number between 0 and 159,999
-				counter = counter % TICKS_PER_GRANULARITY;
-				// reset to a number between 160,000 and 319,999
-				counterMax = counter + TICKS_PER_GRANULARITY;
-			}
-		} else {
+		if (time != lastTime) {
 			// reset to a number between 0 and 159,999
 			counter = counter % TICKS_PER_GRANULARITY;
 			// reset to a number between 160,000 and 319,999
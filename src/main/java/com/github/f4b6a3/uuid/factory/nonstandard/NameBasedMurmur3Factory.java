@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.nonstandard;
+
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.enums.UuidNamespace;
+import com.github.f4b6a3.uuid.enums.UuidVersion;
+import com.github.f4b6a3.uuid.factory.AbstNameBasedFactory;
+import com.github.f4b6a3.uuid.factory.NameBasedCache;
+
+/**
+ * Factory that creates name-based UUIDs (MurmurHash3 x64 128).
+ * 
+ * The hash is not cryptographic. It is meant for deterministic identifiers of
+ * trusted names, for example keys derived from internal data, where version 3
+ * and 5 UUIDs would be too slow. Do not use it for names chosen by untrusted
+ * parties, since collisions can be produced on purpose.
+ * 
+ * The 128 bits of the hash are used as the UUID, except for the version and
+ * variant bits.
+ * 
+ * RFC-9562 version: 8.
+ */
+public final class NameBasedMurmur3Factory extends AbstNameBasedFactory {
+
+	public NameBasedMurmur3Factory() {
+		this((byte[]) null);
+	}
+
+	public NameBasedMurmur3Factory(UUID namespace) {
+		this(bytes(namespace));
+	}
+
+	public NameBasedMurmur3Factory(String namespace) {
+		this(bytes(namespace));
+	}
+
+	public NameBasedMurmur3Factory(UuidNamespace namespace) {
+		this(bytes(namespace));
+	}
+
+	public NameBasedMurmur3Factory(NameBasedCache cache) {
+		this((byte[]) null, cache);
+	}
+
+	public NameBasedMurmur3Factory(UUID namespace, NameBasedCache cache) {
+		this(bytes(namespace), cache);
+	}
+
+	public NameBasedMurmur3Factory(String namespace, NameBasedCache cache) {
+		this(bytes(namespace), cache);
+	}
+
+	public NameBasedMurmur3Factory(UuidNamespace namespace, NameBasedCache cache) {
+		this(bytes(namespace), cache);
+	}
+
+	private NameBasedMurmur3Factory(byte[] namespace) {
+		super(UuidVersion.VERSION_CUSTOM, ALGORITHM_MURMUR3, namespace);
+	}
+
+	private NameBasedMurmur3Factory(byte[] namespace, NameBasedCache cache) {
+		super(UuidVersion.VERSION_CUSTOM, ALGORITHM_MURMUR3, namespace, cache);
+	}
+}
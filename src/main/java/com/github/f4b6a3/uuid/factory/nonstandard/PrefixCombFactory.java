@@ -102,23 +102,59 @@ public final class PrefixCombFactory extends AbstCombFactory {
 	 * The creation millisecond is a PREFIX at the MOST significant bits.
 	 */
 	@Override
-	public synchronized UUID create() {
+	public UUID create() {
+		lock.lock();
+		try {
+			final long time = clock.millis();
+
+			if (this.random instanceof ByteRandom) {
+				final byte[] bytes = this.random.nextBytes(10);
+				final long long1 = ByteUtil.toNumber(bytes, 0, 2);
+				final long long2 = ByteUtil.toNumber(bytes, 2, 10);
+				return make(time, long1, long2);
+			} else {
+				final long long1 = this.random.nextLong();
+				final long long2 = this.random.nextLong();
+				return make(time, long1, long2);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Generates a sequence of Prefix COMB GUIDs.
+	 * 
+	 * The clock is read once for the whole sequence.
+	 */
+	@Override
+	protected void generate(final long[] msbs, final long[] lsbs, final int offset, final int length) {
 
 		final long time = clock.millis();
 
 		if (this.random instanceof ByteRandom) {
-			final byte[] bytes = this.random.nextBytes(10);
-			final long long1 = ByteUtil.toNumber(bytes, 0, 2);
-			final long long2 = ByteUtil.toNumber(bytes, 2, 10);
-			return make(time, long1, long2);
+			final byte[] bytes = this.random.nextBytes(10 * length);
+			for (int i = 0; i < length; i++) {
+				final long long1 = ByteUtil.toNumber(bytes, 10 * i, 10 * i + 2);
+				final long long2 = ByteUtil.toNumber(bytes, 10 * i + 2, 10 * i + 10);
+				msbs[offset + i] = toMsb(msb(time, long1));
+				lsbs[offset + i] = toLsb(long2);
+			}
 		} else {
-			final long long1 = this.random.nextLong();
-			final long long2 = this.random.nextLong();
-			return make(time, long1, long2);
+			for (int i = 0; i < length; i++) {
+				final long long1 = this.random.nextLong();
+				final long long2 = this.random.nextLong();
+				msbs[offset + i] = toMsb(msb(time, long1));
+				lsbs[offset + i] = toLsb(long2);
+			}
 		}
 	}
 
 	private UUID make(final long time, final long long1, final long long2) {
-		return toUuid((time << 16) | (long1 & 0x000000000000ffffL), long2);
+		return toUuid(msb(time, long1), long2);
+	}
+
+	private static long msb(final long time, final long long1) {
+		return (time << 16) | (long1 & 0x000000000000ffffL);
 	}
 }
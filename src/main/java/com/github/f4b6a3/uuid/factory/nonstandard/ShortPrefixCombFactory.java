@@ -126,24 +126,60 @@ public final class ShortPrefixCombFactory extends AbstCombFactory {
 	 * The prefix wraps around every ~45 days (2^16/60/24 = ~45).
 	 */
 	@Override
-	public synchronized UUID create() {
+	public UUID create() {
+		lock.lock();
+		try {
+			final long time = clock.millis() / interval;
+
+			if (this.random instanceof ByteRandom) {
+				final byte[] bytes = this.random.nextBytes(14);
+				final long long1 = ByteUtil.toNumber(bytes, 0, 6);
+				final long long2 = ByteUtil.toNumber(bytes, 6, 14);
+				return make(time, long1, long2);
+
+			} else {
+				final long long1 = this.random.nextLong();
+				final long long2 = this.random.nextLong();
+				return make(time, long1, long2);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Generates a sequence of Short Prefix COMB GUIDs.
+	 * 
+	 * The clock is read once for the whole sequence.
+	 */
+	@Override
+	protected void generate(final long[] msbs, final long[] lsbs, final int offset, final int length) {
 
 		final long time = clock.millis() / interval;
 
 		if (this.random instanceof ByteRandom) {
-			final byte[] bytes = this.random.nextBytes(14);
-			final long long1 = ByteUtil.toNumber(bytes, 0, 6);
-			final long long2 = ByteUtil.toNumber(bytes, 6, 14);
-			return make(time, long1, long2);
-
+			final byte[] bytes = this.random.nextBytes(14 * length);
+			for (int i = 0; i < length; i++) {
+				final long long1 = ByteUtil.toNumber(bytes, 14 * i, 14 * i + 6);
+				final long long2 = ByteUtil.toNumber(bytes, 14 * i + 6, 14 * i + 14);
+				msbs[offset + i] = toMsb(msb(time, long1));
+				lsbs[offset + i] = toLsb(long2);
+			}
 		} else {
-			final long long1 = this.random.nextLong();
-			final long long2 = this.random.nextLong();
-			return make(time, long1, long2);
+			for (int i = 0; i < length; i++) {
+				final long long1 = this.random.nextLong();
+				final long long2 = this.random.nextLong();
+				msbs[offset + i] = toMsb(msb(time, long1));
+				lsbs[offset + i] = toLsb(long2);
+			}
 		}
 	}
 
 	private UUID make(final long time, final long long1, final long long2) {
-		return toUuid((time << 48) | (long1 & 0x0000ffffffffffffL), long2);
+		return toUuid(msb(time, long1), long2);
+	}
+
+	private static long msb(final long time, final long long1) {
+		return (time << 48) | (long1 & 0x0000ffffffffffffL);
 	}
 }
@@ -126,24 +126,59 @@ public final class ShortSuffixCombFactory extends AbstCombFactory {
 	 * The suffix wraps around every ~45 days (2^16/60/24 = ~45).
 	 */
 	@Override
-	public synchronized UUID create() {
+	public UUID create() {
+		lock.lock();
+		try {
+			final long time = clock.millis() / interval;
+
+			if (this.random instanceof ByteRandom) {
+				final byte[] bytes = this.random.nextBytes(14);
+				final long long1 = ByteUtil.toNumber(bytes, 0, 8);
+				final long long2 = ByteUtil.toNumber(bytes, 8, 14);
+				return make(time, long1, long2);
+			} else {
+				final long long1 = this.random.nextLong();
+				final long long2 = this.random.nextLong();
+				return make(time, long1, long2);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Generates a sequence of Short Suffix COMB GUIDs.
+	 * 
+	 * The clock is read once for the whole sequence.
+	 */
+	@Override
+	protected void generate(final long[] msbs, final long[] lsbs, final int offset, final int length) {
 
 		final long time = clock.millis() / interval;
 
 		if (this.random instanceof ByteRandom) {
-			final byte[] bytes = this.random.nextBytes(14);
-			final long long1 = ByteUtil.toNumber(bytes, 0, 8);
-			final long long2 = ByteUtil.toNumber(bytes, 8, 14);
-			return make(time, long1, long2);
+			final byte[] bytes = this.random.nextBytes(14 * length);
+			for (int i = 0; i < length; i++) {
+				final long long1 = ByteUtil.toNumber(bytes, 14 * i, 14 * i + 8);
+				final long long2 = ByteUtil.toNumber(bytes, 14 * i + 8, 14 * i + 14);
+				msbs[offset + i] = toMsb(long1);
+				lsbs[offset + i] = toLsb(lsb(time, long2));
+			}
 		} else {
-			final long long1 = this.random.nextLong();
-			final long long2 = this.random.nextLong();
-			return make(time, long1, long2);
+			for (int i = 0; i < length; i++) {
+				final long long1 = this.random.nextLong();
+				final long long2 = this.random.nextLong();
+				msbs[offset + i] = toMsb(long1);
+				lsbs[offset + i] = toLsb(lsb(time, long2));
+			}
 		}
 	}
 
 	private UUID make(final long time, final long long1, final long long2) {
-		return toUuid(long1,
-				(((long2 & 0x0000ffff00000000L) << 16) | (time & 0xffffL) << 32) | (long2 & 0x00000000ffffffffL));
+		return toUuid(long1, lsb(time, long2));
+	}
+
+	private static long lsb(final long time, final long long2) {
+		return (((long2 & 0x0000ffff00000000L) << 16) | (time & 0xffffL) << 32) | (long2 & 0x00000000ffffffffL);
 	}
 }
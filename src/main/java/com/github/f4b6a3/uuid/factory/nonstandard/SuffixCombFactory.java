@@ -102,23 +102,59 @@ public final class SuffixCombFactory extends AbstCombFactory {
 	 * The creation millisecond is a SUFFIX at the LEAST significant bits.
 	 */
 	@Override
-	public synchronized UUID create() {
+	public UUID create() {
+		lock.lock();
+		try {
+			final long time = clock.millis();
+
+			if (this.random instanceof ByteRandom) {
+				final byte[] bytes = this.random.nextBytes(10);
+				final long long1 = ByteUtil.toNumber(bytes, 0, 8);
+				final long long2 = ByteUtil.toNumber(bytes, 8, 10);
+				return make(time, long1, long2);
+			} else {
+				final long long1 = this.random.nextLong();
+				final long long2 = this.random.nextLong();
+				return make(time, long1, long2);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Generates a sequence of Suffix COMB GUIDs.
+	 * 
+	 * The clock is read once for the whole sequence.
+	 */
+	@Override
+	protected void generate(final long[] msbs, final long[] lsbs, final int offset, final int length) {
 
 		final long time = clock.millis();
 
 		if (this.random instanceof ByteRandom) {
-			final byte[] bytes = this.random.nextBytes(10);
-			final long long1 = ByteUtil.toNumber(bytes, 0, 8);
-			final long long2 = ByteUtil.toNumber(bytes, 8, 10);
-			return make(time, long1, long2);
+			final byte[] bytes = this.random.nextBytes(10 * length);
+			for (int i = 0; i < length; i++) {
+				final long long1 = ByteUtil.toNumber(bytes, 10 * i, 10 * i + 8);
+				final long long2 = ByteUtil.toNumber(bytes, 10 * i + 8, 10 * i + 10);
+				msbs[offset + i] = toMsb(long1);
+				lsbs[offset + i] = toLsb(lsb(time, long2));
+			}
 		} else {
-			final long long1 = this.random.nextLong();
-			final long long2 = this.random.nextLong();
-			return make(time, long1, long2);
+			for (int i = 0; i < length; i++) {
+				final long long1 = this.random.nextLong();
+				final long long2 = this.random.nextLong();
+				msbs[offset + i] = toMsb(long1);
+				lsbs[offset + i] = toLsb(lsb(time, long2));
+			}
 		}
 	}
 
 	private UUID make(final long time, final long long1, final long long2) {
-		return toUuid(long1, (long2 << 48) | (time & 0x0000ffffffffffffL));
+		return toUuid(long1, lsb(time, long2));
+	}
+
+	private static long lsb(final long time, final long long2) {
+		return (long2 << 48) | (time & 0x0000ffffffffffffL);
 	}
 }
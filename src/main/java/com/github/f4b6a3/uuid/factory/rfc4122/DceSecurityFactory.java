@@ -24,12 +24,14 @@
 
 package com.github.f4b6a3.uuid.factory.rfc4122;
 
+import java.nio.ByteBuffer;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import com.github.f4b6a3.uuid.enums.UuidLocalDomain;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstTimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.function.BitsConsumer;
 
 /**
  * 
@@ -57,10 +59,19 @@ import com.github.f4b6a3.uuid.factory.AbstTimeBasedFactory;
  * Unix User identifier (UID): https://en.wikipedia.org/wiki/User_identifier
  * 
  * Unix group identifier (GID): https://en.wikipedia.org/wiki/Group_identifier
+ * 
+ * This factory takes no lock of its own. Each local domain has its own atomic
+ * counter, and the time-based bits come from the engine of
+ * {@link AbstTimeBasedFactory}, which is lock-free if the factory is built with
+ * {@link Builder#withLockFree()}.
  */
 public final class DceSecurityFactory extends AbstTimeBasedFactory {
 
-	private AtomicInteger counter;
+	// one counter per local domain
+	private final AtomicIntegerArray counters;
+
+	// buffers for the time-based bits, one per thread
+	private static final ThreadLocal<long[]> BITS = ThreadLocal.withInitial(() -> new long[2]);
 
 	private final byte localDomain;
 
@@ -71,7 +82,7 @@ public final class DceSecurityFactory extends AbstTimeBasedFactory {
 	private DceSecurityFactory(Builder builder) {
 		super(UuidVersion.VERSION_DCE_SECURITY, builder);
 		this.localDomain = builder != null ? builder.localDomain : 0;
-		this.counter = new AtomicInteger();
+		this.counters = new AtomicIntegerArray(256);
 	}
 
 	public static Builder builder() {
@@ -172,16 +183,18 @@ public final class DceSecurityFactory extends AbstTimeBasedFactory {
 	 * @param localIdentifier a local identifier
 	 * @return a DCE Security UUID
 	 */
-	public synchronized UUID create(byte localDomain, int localIdentifier) {
+	public UUID create(byte localDomain, int localIdentifier) {
 
 		// (1a) Create a Time-based UUID (version 1)
-		UUID uuid = super.create();
+		final long[] bits = BITS.get();
+		super.createInto(bits, 0);
 
 		// (2a) Insert the local identifier bits
-		long msb = setLocalIdentifierBits(uuid.getMostSignificantBits(), localIdentifier);
+		final long msb = setLocalIdentifierBits(bits[0], localIdentifier);
 
 		// (3a) Insert the local domain bits
-		long lsb = setLocalDomainBits(uuid.getLeastSignificantBits(), localDomain, this.counter.incrementAndGet());
+		final int counter = this.counters.incrementAndGet(localDomain & 0xff);
+		final long lsb = setLocalDomainBits(bits[1], localDomain, counter);
 
 		// (1b) set version 2
 		return toUuid(msb, lsb);
@@ -196,7 +209,7 @@ public final class DceSecurityFactory extends AbstTimeBasedFactory {
 	 * @param localIdentifier a local identifier
 	 * @return a DCE Security UUID
 	 */
-	public synchronized UUID create(UuidLocalDomain localDomain, int localIdentifier) {
+	public UUID create(UuidLocalDomain localDomain, int localIdentifier) {
 		return create(localDomain.getValue(), localIdentifier);
 	}
 
@@ -211,7 +224,7 @@ public final class DceSecurityFactory extends AbstTimeBasedFactory {
 	 * @param localIdentifier a local identifier
 	 * @return a DCE Security UUID
 	 */
-	public synchronized UUID create(int localIdentifier) {
+	public UUID create(int localIdentifier) {
 		return create(this.localDomain, localIdentifier);
 	}
 
@@ -223,7 +236,96 @@ public final class DceSecurityFactory extends AbstTimeBasedFactory {
 	 * @throws UnsupportedOperationException always
 	 */
 	@Override
-	public synchronized UUID create() {
+	public UUID create() {
+		throw new UnsupportedOperationException("Unsuported operation for DCE Security UUID factory");
+	}
+
+	/**
+	 * Throws an exception.
+	 * 
+	 * Overrides the fill(UUID[]) method from {@link AbstTimeBasedFactory}.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void fill(UUID[] uuids) {
+		throw new UnsupportedOperationException("Unsuported operation for DCE Security UUID factory");
+	}
+
+	/**
+	 * Throws an exception.
+	 * 
+	 * Overrides the fill(long[], long[]) method from {@link AbstTimeBasedFactory}.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void fill(long[] msbs, long[] lsbs) {
+		throw new UnsupportedOperationException("Unsuported operation for DCE Security UUID factory");
+	}
+
+	/**
+	 * Throws an exception.
+	 * 
+	 * Overrides the createInto(BitsConsumer) method from
+	 * {@link AbstTimeBasedFactory}.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void createInto(BitsConsumer consumer) {
+		throw new UnsupportedOperationException("Unsuported operation for DCE Security UUID factory");
+	}
+
+	/**
+	 * Throws an exception.
+	 * 
+	 * Overrides the createInto(long[], int) method from
+	 * {@link AbstTimeBasedFactory}.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void createInto(long[] dst, int offset) {
+		throw new UnsupportedOperationException("Unsuported operation for DCE Security UUID factory");
+	}
+
+	/**
+	 * Throws an exception.
+	 * 
+	 * Overrides the createInto(long[], long[], int) method from
+	 * {@link AbstTimeBasedFactory}.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void createInto(long[] msbs, long[] lsbs, int index) {
+		throw new UnsupportedOperationException("Unsuported operation for DCE Security UUID factory");
+	}
+
+	/**
+	 * Throws an exception.
+	 * 
+	 * Overrides the createInto(byte[], int) method from
+	 * {@link AbstTimeBasedFactory}.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void createInto(byte[] dst, int offset) {
+		throw new UnsupportedOperationException("Unsuported operation for DCE Security UUID factory");
+	}
+
+	/**
+	 * Throws an exception.
+	 * 
+	 * Overrides the createInto(ByteBuffer) method from
+	 * {@link AbstTimeBasedFactory}.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void createInto(ByteBuffer dst) {
 		throw new UnsupportedOperationException("Unsuported operation for DCE Security UUID factory");
 	}
 
@@ -29,6 +29,7 @@ import java.util.UUID;
 import com.github.f4b6a3.uuid.enums.UuidNamespace;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstNameBasedFactory;
+import com.github.f4b6a3.uuid.factory.NameBasedCache;
 
 public final class NameBasedMd5Factory extends AbstNameBasedFactory {
 
@@ -53,7 +54,27 @@ public final class NameBasedMd5Factory extends AbstNameBasedFactory {
 		this(bytes(namespace));
 	}
 
+	public NameBasedMd5Factory(NameBasedCache cache) {
+		this((byte[]) null, cache);
+	}
+
+	public NameBasedMd5Factory(UUID namespace, NameBasedCache cache) {
+		this(bytes(namespace), cache);
+	}
+
+	public NameBasedMd5Factory(String namespace, NameBasedCache cache) {
+		this(bytes(namespace), cache);
+	}
+
+	public NameBasedMd5Factory(UuidNamespace namespace, NameBasedCache cache) {
+		this(bytes(namespace), cache);
+	}
+
 	private NameBasedMd5Factory(byte[] namespace) {
 		super(UuidVersion.VERSION_NAME_BASED_MD5, ALGORITHM_MD5, namespace);
 	}
+
+	private NameBasedMd5Factory(byte[] namespace, NameBasedCache cache) {
+		super(UuidVersion.VERSION_NAME_BASED_MD5, ALGORITHM_MD5, namespace, cache);
+	}
 }
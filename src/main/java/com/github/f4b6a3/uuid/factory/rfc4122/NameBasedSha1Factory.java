@@ -29,6 +29,7 @@ import java.util.UUID;
 import com.github.f4b6a3.uuid.enums.UuidNamespace;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstNameBasedFactory;
+import com.github.f4b6a3.uuid.factory.NameBasedCache;
 
 public final class NameBasedSha1Factory extends AbstNameBasedFactory {
 
@@ -53,7 +54,27 @@ public final class NameBasedSha1Factory extends AbstNameBasedFactory {
 		this(bytes(namespace));
 	}
 
+	public NameBasedSha1Factory(NameBasedCache cache) {
+		this((byte[]) null, cache);
+	}
+
+	public NameBasedSha1Factory(UUID namespace, NameBasedCache cache) {
+		this(bytes(namespace), cache);
+	}
+
+	public NameBasedSha1Factory(String namespace, NameBasedCache cache) {
+		this(bytes(namespace), cache);
+	}
+
+	public NameBasedSha1Factory(UuidNamespace namespace, NameBasedCache cache) {
+		this(bytes(namespace), cache);
+	}
+
 	private NameBasedSha1Factory(byte[] namespace) {
 		super(UuidVersion.VERSION_NAME_BASED_SHA1, ALGORITHM_SHA1, namespace);
 	}
+
+	private NameBasedSha1Factory(byte[] namespace, NameBasedCache cache) {
+		super(UuidVersion.VERSION_NAME_BASED_SHA1, ALGORITHM_SHA1, namespace, cache);
+	}
 }
@@ -89,16 +89,37 @@ public final class RandomBasedFactory extends AbstRandomBasedFactory {
 	 * @return a random-based UUID
 	 */
 	@Override
-	public synchronized UUID create() {
+	public UUID create() {
+		lock.lock();
+		try {
+			if (this.random instanceof ByteRandom) {
+				final byte[] bytes = this.random.nextBytes(16);
+				final long msb = ByteUtil.toNumber(bytes, 0, 8);
+				final long lsb = ByteUtil.toNumber(bytes, 8, 16);
+				return toUuid(msb, lsb);
+			} else {
+				final long msb = this.random.nextLong();
+				final long lsb = this.random.nextLong();
+				return toUuid(msb, lsb);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	protected void generate(final long[] msbs, final long[] lsbs, final int offset, final int length) {
 		if (this.random instanceof ByteRandom) {
-			final byte[] bytes = this.random.nextBytes(16);
-			final long msb = ByteUtil.toNumber(bytes, 0, 8);
-			final long lsb = ByteUtil.toNumber(bytes, 8, 16);
-			return toUuid(msb, lsb);
+			final byte[] bytes = this.random.nextBytes(16 * length);
+			for (int i = 0; i < length; i++) {
+				msbs[offset + i] = toMsb(ByteUtil.toNumber(bytes, 16 * i, 16 * i + 8));
+				lsbs[offset + i] = toLsb(ByteUtil.toNumber(bytes, 16 * i + 8, 16 * i + 16));
+			}
 		} else {
-			final long msb = this.random.nextLong();
-			final long lsb = this.random.nextLong();
-			return toUuid(msb, lsb);
+			for (int i = 0; i < length; i++) {
+				msbs[offset + i] = toMsb(this.random.nextLong());
+				lsbs[offset + i] = toLsb(this.random.nextLong());
+			}
 		}
 	}
 }
@@ -24,14 +24,19 @@
 
 package com.github.f4b6a3.uuid.factory.rfc4122;
 
+import java.nio.ByteBuffer;
 import java.time.Clock;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntFunction;
 import java.util.function.LongSupplier;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstCombFactory;
+import com.github.f4b6a3.uuid.factory.SharedState;
+import com.github.f4b6a3.uuid.factory.StateStore;
+import com.github.f4b6a3.uuid.factory.function.BitsConsumer;
 import com.github.f4b6a3.uuid.util.internal.ByteUtil;
 
 /**
@@ -61,6 +66,43 @@ import com.github.f4b6a3.uuid.util.internal.ByteUtil;
  * MAX when the time repeats. If the value of MAX is not specified, MAX is 2^32.
  * This type of UUID is also like a Monotonic ULID.
  * 
+ * * Lock-free:
+ * 
+ * The UUID is divided in 3 components: time, counter and random. The 16-bit
+ * counter is stored together with the time in a single {@link AtomicLong} and
+ * advanced with compare-and-set, so that concurrent threads never block each
+ * other. The counter occupies the 12 bits of `rand_a` and the 4 most
+ * significant bits of `rand_b`. It starts with a random value between 0 and
+ * 2^15-1 and is incremented by 1 when the time repeats. If it overflows, the
+ * time component is incremented, just like in the default type.
+ * 
+ * The lock-free type requires a thread-safe random function. It can't be
+ * combined with the Plus 1 or Plus N types.
+ * 
+ * * Leases:
+ * 
+ * A range of consecutive UUIDs can be reserved with {@link #lease(int)}, so
+ * that a worker can expand it into UUIDs without further synchronization. The
+ * UUIDs of a lease are ordered with all other UUIDs of the same factory.
+ * 
+ * * Shared state:
+ * 
+ * With {@link Builder#withSharedState(SharedState)}, the time and counter of
+ * the lock-free type live in a memory-mapped file shared by all the processes
+ * of a host. Each reservation locks the file, so the UUIDs of all the processes
+ * that share the file are unique and strictly ordered in the order of their
+ * reservations. A reservation costs a pair of system calls to lock and unlock
+ * the file, so it is slower than the lock-free type in a single process. A
+ * batch created with {@link #fill(UUID[])} or {@link #lease(int)} takes only
+ * one reservation per chunk.
+ * 
+ * * State store:
+ * 
+ * With {@link Builder#withStateStore(StateStore)}, the time of the last UUID is
+ * restored at startup from a memory-mapped file, so that the UUIDs created after
+ * a restart are greater than the UUIDs created before it, even if the clock is
+ * behind the last time used (up to the clock drift tolerance).
+ * 
  * RFC-4122 version: 7 (proposed).
  * 
  * IETF Draft:
@@ -70,11 +112,26 @@ import com.github.f4b6a3.uuid.util.internal.ByteUtil;
 public final class TimeOrderedEpochFactory extends AbstCombFactory {
 
 	private long lastTime;
-	private UUID lastUuid;
+	private long lastMsb;
+	private long lastLsb;
+
+	// buffers for single UUIDs, guarded by `lock`
+	private final long[] msb = new long[1];
+	private final long[] lsb = new long[1];
 
 	private final int incrementType;
 	private final LongSupplier incrementSupplier;
 
+	// time and counter packed as `(time << 16) | counter`
+	private final AtomicLong state; // lock-free type
+	private final SharedState shared; // shared state type
+	private final boolean packed; // either of them
+
+	private final StateStore store; // optional
+
+	// buffers for single UUIDs passed to consumers in the lock-free type
+	private static final ThreadLocal<long[]> BITS = ThreadLocal.withInitial(() -> new long[2]);
+
 	private static final int INCREMENT_TYPE_DEFAULT = 0; // add 2^48 to `rand_b`
 	private static final int INCREMENT_TYPE_PLUS_1 = 1; // add 1 to `rand_b`
 	private static final int INCREMENT_TYPE_PLUS_N = 2; // add n to `rand_b`, where 1 <= n <= 2^32-1
@@ -84,6 +141,11 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 	// system clock jumps back by 1 second due to leap second.
 	protected static final int CLOCK_DRIFT_TOLERANCE = 10_000;
 
+	/**
+	 * Maximum number of UUIDs in a lease.
+	 */
+	public static final int MAX_LEASE_SIZE = 65_536;
+
 	public TimeOrderedEpochFactory() {
 		this(builder());
 	}
@@ -120,12 +182,22 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 		super(UuidVersion.VERSION_TIME_ORDERED_EPOCH, builder);
 		this.incrementType = builder.getIncrementType();
 		this.incrementSupplier = builder.getIncrementSupplier();
+		this.shared = builder.getSharedState();
+		this.state = builder.isLockFree() && this.shared == null ? new AtomicLong() : null;
+		this.packed = this.state != null || this.shared != null;
+		this.store = builder.getStateStore();
+		if (this.store != null) {
+			restore(this.store.getTime());
+		}
 	}
 
 	public static class Builder extends AbstCombFactory.Builder<TimeOrderedEpochFactory, Builder> {
 
 		private Integer incrementType;
 		private Long incrementMax;
+		private boolean lockFree;
+		private StateStore stateStore;
+		private SharedState sharedState;
 
 		public Builder withIncrementPlus1() {
 			this.incrementType = INCREMENT_TYPE_PLUS_1;
@@ -145,6 +217,58 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 			return this;
 		}
 
+		/**
+		 * Enables the lock-free type.
+		 * 
+		 * The random function must be thread-safe because it is called concurrently.
+		 * 
+		 * @return the builder
+		 */
+		public Builder withLockFree() {
+			this.lockFree = true;
+			return this;
+		}
+
+		protected boolean isLockFree() {
+			return this.lockFree;
+		}
+
+		/**
+		 * Restores the time of the last UUID from a state store at startup, and keeps
+		 * it up to date.
+		 * 
+		 * @param stateStore a state store
+		 * @return the builder
+		 */
+		public Builder withStateStore(StateStore stateStore) {
+			this.stateStore = stateStore;
+			return this;
+		}
+
+		protected StateStore getStateStore() {
+			return this.stateStore;
+		}
+
+		/**
+		 * Enables the shared state type.
+		 * 
+		 * The time and counter are kept in a memory-mapped file shared by all the
+		 * processes of a host. The random function must be thread-safe because it is
+		 * called concurrently. The state is already persistent, so it can't be
+		 * combined with a state store.
+		 * 
+		 * @param sharedState a shared state
+		 * @return the builder
+		 */
+		public Builder withSharedState(SharedState sharedState) {
+			this.sharedState = sharedState;
+			return this;
+		}
+
+		protected SharedState getSharedState() {
+			return this.sharedState;
+		}
+
 		protected int getIncrementType() {
 			if (this.incrementType == null) {
 				this.incrementType = INCREMENT_TYPE_DEFAULT;
@@ -199,6 +323,15 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 
 		@Override
 		public TimeOrderedEpochFactory build() {
+			if (this.lockFree && getIncrementType() != INCREMENT_TYPE_DEFAULT) {
+				throw new IllegalArgumentException("The lock-free type only supports the default increment");
+			}
+			if (this.sharedState != null && getIncrementType() != INCREMENT_TYPE_DEFAULT) {
+				throw new IllegalArgumentException("The shared state type only supports the default increment");
+			}
+			if (this.sharedState != null && this.stateStore != null) {
+				throw new IllegalArgumentException("The shared state type doesn't support a state store");
+			}
 			return new TimeOrderedEpochFactory(this);
 		}
 	}
@@ -208,36 +341,442 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 	}
 
 	@Override
-	public synchronized UUID create() {
+	public UUID create() {
+		if (this.packed) {
+			return createLockFree();
+		}
+		return createSynchronized();
+	}
 
-		// get the current time
-		long time = clock.millis();
+	/**
+	 * Fills an array with UUIDs.
+	 * 
+	 * The clock is read once per chunk of UUIDs. In the lock-free type, a range of
+	 * counter values is reserved for each chunk with a single compare-and-set.
+	 * 
+	 * @param uuids an array to be filled
+	 */
+	@Override
+	public void fill(final UUID[] uuids) {
+		if (!this.packed) {
+			super.fill(uuids);
+			return;
+		}
+		final int size = Math.min(uuids.length, CHUNK_SIZE);
+		final long[] msbs = new long[size];
+		final long[] lsbs = new long[size];
+		for (int i = 0; i < uuids.length; i += size) {
+			final int length = Math.min(size, uuids.length - i);
+			generateLockFree(msbs, lsbs, 0, length);
+			for (int j = 0; j < length; j++) {
+				uuids[i + j] = new UUID(msbs[j], lsbs[j]);
+			}
+		}
+	}
 
-		// Check if the current time is the same as the previous time or has moved
-		// backwards after a small system clock adjustment or after a leap second.
-		// Drift tolerance = (previous_time - 10s) < current_time <= previous_time
-		if ((time > this.lastTime - CLOCK_DRIFT_TOLERANCE) && (time <= this.lastTime)) {
-			this.lastUuid = increment(this.lastUuid);
+	/**
+	 * Fills two arrays with the most and least significant bits of UUIDs.
+	 * 
+	 * The clock is read once per chunk of UUIDs. In the lock-free type, a range of
+	 * counter values is reserved for each chunk with a single compare-and-set.
+	 * 
+	 * @param msbs an array to be filled with the most significant bits
+	 * @param lsbs an array to be filled with the least significant bits
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	@Override
+	public void fill(final long[] msbs, final long[] lsbs) {
+		if (!this.packed) {
+			super.fill(msbs, lsbs);
+			return;
+		}
+		validate(msbs, lsbs);
+		for (int i = 0; i < msbs.length; i += CHUNK_SIZE) {
+			generateLockFree(msbs, lsbs, i, Math.min(CHUNK_SIZE, msbs.length - i));
+		}
+	}
+
+	/**
+	 * Creates a UUID and passes its bits to a consumer.
+	 * 
+	 * No object is created if the random function is a {@link LongSupplier} that
+	 * doesn't create objects.
+	 * 
+	 * @param consumer a consumer of the most and least significant bits
+	 */
+	@Override
+	public void createInto(final BitsConsumer consumer) {
+		if (!this.packed) {
+			super.createInto(consumer);
+			return;
+		}
+		final long[] bits = BITS.get();
+		createLockFree(bits, 0, bits, 1);
+		consumer.accept(bits[0], bits[1]);
+	}
+
+	/**
+	 * Creates a UUID and writes its bits into an array.
+	 * 
+	 * No object is created if the random function is a {@link LongSupplier} that
+	 * doesn't create objects.
+	 * 
+	 * @param dst    an array to receive the bits
+	 * @param offset the index of the most significant bits
+	 */
+	@Override
+	public void createInto(final long[] dst, final int offset) {
+		if (!this.packed) {
+			super.createInto(dst, offset);
+			return;
+		}
+		validate(dst, offset);
+		createLockFree(dst, offset, dst, offset + 1);
+	}
+
+	/**
+	 * Creates a UUID and writes its bits into two arrays at the same index.
+	 * 
+	 * No object is created if the random function is a {@link LongSupplier} that
+	 * doesn't create objects.
+	 * 
+	 * @param msbs  an array to receive the most significant bits
+	 * @param lsbs  an array to receive the least significant bits
+	 * @param index the index of the UUID
+	 */
+	@Override
+	public void createInto(final long[] msbs, final long[] lsbs, final int index) {
+		if (!this.packed) {
+			super.createInto(msbs, lsbs, index);
+			return;
+		}
+		validate(msbs, lsbs, index);
+		createLockFree(msbs, index, lsbs, index);
+	}
+
+	/**
+	 * Creates a UUID and writes its 16 bytes into an array in big-endian order.
+	 * 
+	 * No object is created if the random function is a {@link LongSupplier} that
+	 * doesn't create objects.
+	 * 
+	 * @param dst    an array to receive the bytes
+	 * @param offset the index of the first byte
+	 */
+	@Override
+	public void createInto(final byte[] dst, final int offset) {
+		if (!this.packed) {
+			super.createInto(dst, offset);
+			return;
+		}
+		validate(dst, offset);
+		final long[] bits = BITS.get();
+		createLockFree(bits, 0, bits, 1);
+		ByteUtil.toBytes(bits[0], bits[1], dst, offset);
+	}
+
+	/**
+	 * Creates a UUID and writes its 16 bytes into a buffer in big-endian order.
+	 * 
+	 * No object is created if the random function is a {@link LongSupplier} that
+	 * doesn't create objects.
+	 * 
+	 * @param dst a heap or direct buffer to receive the bytes
+	 */
+	@Override
+	public void createInto(final ByteBuffer dst) {
+		if (!this.packed) {
+			super.createInto(dst);
+			return;
+		}
+		validate(dst);
+		final long[] bits = BITS.get();
+		createLockFree(bits, 0, bits, 1);
+		ByteUtil.toBytes(bits[0], bits[1], dst);
+	}
+
+	/**
+	 * Reserves a range of consecutive UUIDs.
+	 * 
+	 * The range is reserved under one lock acquisition, or with one
+	 * compare-and-set in the lock-free type. The random bits of all the UUIDs are
+	 * fetched at once, so the lease can be expanded into UUIDs by any thread
+	 * without further synchronization.
+	 * 
+	 * The UUIDs of a lease are greater than the UUIDs created before it and less
+	 * than the UUIDs created after it by the same factory. In the Plus N type, the
+	 * UUIDs of a lease are incremented by 1.
+	 * 
+	 * @param size the number of UUIDs, from 1 to {@link #MAX_LEASE_SIZE}
+	 * @return a lease
+	 * @throws IllegalArgumentException if the size is out of range
+	 */
+	public Lease lease(final int size) {
+
+		if (size < 1 || size > MAX_LEASE_SIZE) {
+			throw new IllegalArgumentException("Invalid lease size: " + size);
+		}
+
+		if (this.packed) {
+			// get the current time
+			final long time = clock.millis();
+			final long long1 = this.random instanceof ByteRandom //
+					? ByteUtil.toNumber(this.random.nextBytes(2), 0, 2)
+					: this.random.nextLong();
+			final long[] randoms = nextRandoms(size, 8);
+			final long first = reserve(time, long1, size);
+			return new Lease(this.versionMask, size, first, 0L, 0, randoms, true);
+		}
+
+		lock.lock();
+		try {
+			// the first UUID follows the last one created
+			generateSynchronized(this.msb, this.lsb, 0, 1);
+
+			final Lease lease;
+			if (INCREMENT_TYPE_DEFAULT == this.incrementType) {
+				lease = new Lease(this.versionMask, size, this.lastMsb, this.lastLsb, 48, nextRandoms(size, 6), false);
+			} else {
+				lease = new Lease(this.versionMask, size, this.lastMsb, this.lastLsb, 0, null, false);
+			}
+
+			// the next UUID follows the last one of the lease
+			this.lastMsb = lease.getMostSignificantBits(size - 1);
+			this.lastLsb = lease.getLeastSignificantBits(size - 1);
+
+			if (this.store != null) {
+				this.store.advance(this.lastMsb >>> 16);
+			}
+
+			return lease;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns random numbers with the given number of bytes each.
+	 * 
+	 * The bytes of all numbers are fetched in one call.
+	 * 
+	 * @param size  the amount of numbers
+	 * @param bytes the number of bytes per number
+	 * @return an array of random numbers
+	 */
+	private long[] nextRandoms(final int size, final int bytes) {
+		final long[] randoms = new long[size];
+		if (this.random instanceof ByteRandom) {
+			final byte[] buffer = this.random.nextBytes(bytes * size);
+			for (int i = 0; i < size; i++) {
+				randoms[i] = ByteUtil.toNumber(buffer, bytes * i, bytes * i + bytes);
+			}
 		} else {
+			final long mask = -1L >>> (64 - 8 * bytes);
+			for (int i = 0; i < size; i++) {
+				randoms[i] = this.random.nextLong() & mask;
+			}
+		}
+		return randoms;
+	}
 
-			this.lastTime = time;
+	@Override
+	protected void generate(final long[] msbs, final long[] lsbs, final int offset, final int length) {
+		if (this.packed) {
+			generateLockFree(msbs, lsbs, offset, length);
+		} else {
+			generateSynchronized(msbs, lsbs, offset, length);
+		}
+	}
 
-			if (this.random instanceof ByteRandom) {
-				final byte[] bytes = this.random.nextBytes(10);
-				final long long1 = ByteUtil.toNumber(bytes, 0, 2);
-				final long long2 = ByteUtil.toNumber(bytes, 2, 10);
-				this.lastUuid = make(time, long1, long2);
+	private UUID createSynchronized() {
+		lock.lock();
+		try {
+			generateSynchronized(this.msb, this.lsb, 0, 1);
+			return new UUID(this.msb[0], this.lsb[0]);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Generates a sequence of UUIDs.
+	 * 
+	 * It must be called by the thread that holds the lock of the factory.
+	 */
+	private void generateSynchronized(final long[] msbs, final long[] lsbs, final int offset,
+			final int length) {
+		// get the current time
+		final long time = clock.millis();
+
+		// get the random bits of all increments at once
+		final byte[] bytes = INCREMENT_TYPE_DEFAULT == this.incrementType && this.random instanceof ByteRandom
+				? this.random.nextBytes(6 * length)
+				: null;
+
+		for (int i = 0; i < length; i++) {
+
+			// Check if the current time is the same as the previous time or has moved
+			// backwards after a small system clock adjustment or after a leap second.
+			// Drift tolerance = (previous_time - 10s) < current_time <= previous_time
+			if ((time > this.lastTime - CLOCK_DRIFT_TOLERANCE) && (time <= this.lastTime)) {
+				increment(bytes != null ? ByteUtil.toNumber(bytes, 6 * i, 6 * i + 6) : nextRandom48());
 			} else {
-				final long long1 = this.random.nextLong();
-				final long long2 = this.random.nextLong();
-				this.lastUuid = make(time, long1, long2);
+
+				this.lastTime = time;
+
+				if (this.random instanceof ByteRandom) {
+					final byte[] seed = this.random.nextBytes(10);
+					final long long1 = ByteUtil.toNumber(seed, 0, 2);
+					final long long2 = ByteUtil.toNumber(seed, 2, 10);
+					make(time, long1, long2);
+				} else {
+					final long long1 = this.random.nextLong();
+					final long long2 = this.random.nextLong();
+					make(time, long1, long2);
+				}
 			}
+
+			msbs[offset + i] = this.lastMsb;
+			lsbs[offset + i] = this.lastLsb;
 		}
 
-		return copy(this.lastUuid);
+		if (this.store != null) {
+			this.store.advance(this.lastMsb >>> 16);
+		}
 	}
 
-	private synchronized UUID increment(UUID uuid) {
+	private UUID createLockFree() {
+
+		// get the current time
+		final long time = clock.millis();
+
+		// get the random bits before entering the loop
+		final long long1;
+		final long long2;
+		if (this.random instanceof ByteRandom) {
+			final byte[] bytes = this.random.nextBytes(10);
+			long1 = ByteUtil.toNumber(bytes, 0, 2);
+			long2 = ByteUtil.toNumber(bytes, 2, 10);
+		} else {
+			long1 = this.random.nextLong();
+			long2 = this.random.nextLong();
+		}
+
+		final long next = reserve(time, long1, 1);
+		return toUuid(msb(next), lsb(next, long2));
+	}
+
+	private void createLockFree(final long[] msbs, final int msbIndex, final long[] lsbs, final int lsbIndex) {
+
+		// get the current time
+		final long time = clock.millis();
+
+		// get the random bits before entering the loop
+		final long long1;
+		final long long2;
+		if (this.random instanceof ByteRandom) {
+			final byte[] bytes = this.random.nextBytes(10);
+			long1 = ByteUtil.toNumber(bytes, 0, 2);
+			long2 = ByteUtil.toNumber(bytes, 2, 10);
+		} else {
+			long1 = this.random.nextLong();
+			long2 = this.random.nextLong();
+		}
+
+		final long next = reserve(time, long1, 1);
+		msbs[msbIndex] = toMsb(msb(next));
+		lsbs[lsbIndex] = toLsb(lsb(next, long2));
+	}
+
+	private void generateLockFree(final long[] msbs, final long[] lsbs, final int offset, final int length) {
+
+		// get the current time
+		final long time = clock.millis();
+
+		// get all the random bits before entering the loop
+		if (this.random instanceof ByteRandom) {
+			final byte[] bytes = this.random.nextBytes(2 + 8 * length);
+			final long long1 = ByteUtil.toNumber(bytes, 0, 2);
+			final long first = reserve(time, long1, length);
+			for (int i = 0; i < length; i++) {
+				final long long2 = ByteUtil.toNumber(bytes, 2 + 8 * i, 10 + 8 * i);
+				msbs[offset + i] = toMsb(msb(first + i));
+				lsbs[offset + i] = toLsb(lsb(first + i, long2));
+			}
+		} else {
+			final long long1 = this.random.nextLong();
+			final long first = reserve(time, long1, length);
+			for (int i = 0; i < length; i++) {
+				msbs[offset + i] = toMsb(msb(first + i));
+				lsbs[offset + i] = toLsb(lsb(first + i, this.random.nextLong()));
+			}
+		}
+	}
+
+	/**
+	 * Reserves a range of consecutive states with a single compare-and-set, or
+	 * with a single lock of the shared state.
+	 * 
+	 * @param time  the current time
+	 * @param long1 the random bits used to seed the counter
+	 * @param count the number of states
+	 * @return the first state of the range
+	 */
+	private long reserve(final long time, final long long1, final int count) {
+		long next;
+		if (this.shared != null) {
+			next = this.shared.update(last -> next(last, time, long1, count));
+		} else {
+			long last;
+			do {
+				last = this.state.get();
+				next = next(last, time, long1, count);
+			} while (!this.state.compareAndSet(last, next));
+		}
+		if (this.store != null) {
+			this.store.advance(next >>> 16);
+		}
+		return next - count + 1;
+	}
+
+	/**
+	 * Returns the last state of a range of consecutive states that follows a
+	 * state.
+	 * 
+	 * @param last  the last state reserved
+	 * @param time  the current time
+	 * @param long1 the random bits used to seed the counter
+	 * @param count the number of states
+	 * @return the last state of the range
+	 */
+	private static long next(final long last, final long time, final long long1, final int count) {
+		final long lastTime = last >>> 16;
+		// Same drift tolerance of the synchronized types:
+		// (previous_time - 10s) < current_time <= previous_time
+		if ((time > lastTime - CLOCK_DRIFT_TOLERANCE) && (time <= lastTime)) {
+			return last + count; // may overflow into the time component
+		}
+		return ((time << 16) | (long1 & 0x7fffL)) + count - 1;
+	}
+
+	private static long msb(final long state) {
+		// time and the 12 upper bits of the counter
+		return (state & 0xffffffffffff0000L) | ((state & 0xffffL) >>> 4);
+	}
+
+	private static long lsb(final long state, final long long2) {
+		// the 4 lower bits of the counter and random bits
+		return ((state & 0xfL) << 58) | (long2 & 0x03ffffffffffffffL);
+	}
+
+	private long nextRandom48() {
+		if (INCREMENT_TYPE_DEFAULT == this.incrementType) {
+			return this.random.nextLong() & 0x0000ffffffffffffL;
+		}
+		return 0L; // not used
+	}
+
+	private void increment(final long random) {
 
 		// Used to check if an overflow occurred.
 		final long overflow = 0x0000000000000000L;
@@ -246,8 +785,8 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 		final long versionMask = 0x000000000000f000L;
 		final long variantMask = 0xc000000000000000L;
 
-		long msb = (uuid.getMostSignificantBits() | versionMask);
-		long lsb = (uuid.getLeastSignificantBits() | variantMask) + incrementSupplier.getAsLong();
+		long msb = (this.lastMsb | versionMask);
+		long lsb = (this.lastLsb | variantMask) + incrementSupplier.getAsLong();
 
 		if (INCREMENT_TYPE_DEFAULT == this.incrementType) {
 
@@ -261,7 +800,7 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 
 			// And finally, randomize the lower 48 bits of the LSB.
 			lsb &= clearMask; // Clear the random before randomize.
-			lsb |= ByteUtil.toNumber(this.random.nextBytes(6));
+			lsb |= random;
 
 		} else {
 			// If the 62 bits of the monotonic random overflow,
@@ -270,14 +809,139 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 			}
 		}
 
-		return toUuid(msb, lsb);
+		this.lastMsb = toMsb(msb);
+		this.lastLsb = toLsb(lsb);
+	}
+
+	/**
+	 * Continues from the time restored from a state store.
+	 * 
+	 * The restored time is a high-water mark, greater than the time of any UUID
+	 * created before, so the next UUID is created as if the clock had moved
+	 * backwards from it.
+	 * 
+	 * @param time the restored time
+	 */
+	private void restore(final long time) {
+		if (time <= 0) {
+			return; // nothing stored yet
+		}
+		final long long1 = this.random.nextLong();
+		if (this.state != null) {
+			this.state.set((time << 16) | (long1 & 0x7fffL));
+		} else {
+			this.lastTime = time;
+			make(time, long1, this.random.nextLong());
+		}
 	}
 
-	private UUID make(final long time, final long long1, final long long2) {
-		return toUuid((time << 16) | (long1 & 0x000000000000ffffL), long2);
+	private void make(final long time, final long long1, final long long2) {
+		this.lastMsb = toMsb((time << 16) | (long1 & 0x000000000000ffffL));
+		this.lastLsb = toLsb(long2);
 	}
 
-	private synchronized UUID copy(UUID uuid) {
-		return toUuid(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	/**
+	 * A range of consecutive UUIDs reserved by {@link TimeOrderedEpochFactory#lease(int)}.
+	 * 
+	 * A lease is immutable and can be expanded into UUIDs by any thread without
+	 * synchronization. The UUIDs are ordered by index.
+	 */
+	public static final class Lease {
+
+		private final long versionMask;
+		private final int size;
+
+		// the first UUID as a pair of numbers, or as a state in the lock-free type
+		private final long msb;
+		private final long lsb;
+
+		// the position of the counter in the least significant bits
+		private final int shift;
+
+		// the random bits of each UUID, or null if not needed
+		private final long[] randoms;
+
+		private final boolean packed;
+
+		private Lease(long versionMask, int size, long msb, long lsb, int shift, long[] randoms, boolean packed) {
+			this.versionMask = versionMask;
+			this.size = size;
+			// set the version bits to 1 to propagate carries through them
+			this.msb = packed ? msb : msb | 0x000000000000f000L;
+			// clear the variant bits
+			this.lsb = packed ? lsb : lsb & 0x3fffffffffffffffL;
+			this.shift = shift;
+			this.randoms = randoms;
+			this.packed = packed;
+		}
+
+		/**
+		 * Returns the number of UUIDs in the lease.
+		 * 
+		 * @return the number of UUIDs
+		 */
+		public int size() {
+			return this.size;
+		}
+
+		/**
+		 * Returns a UUID of the lease.
+		 * 
+		 * @param index the index of the UUID
+		 * @return a UUID
+		 * @throws IndexOutOfBoundsException if the index is out of range
+		 */
+		public UUID get(final int index) {
+			return new UUID(getMostSignificantBits(index), getLeastSignificantBits(index));
+		}
+
+		/**
+		 * Returns the most significant bits of a UUID of the lease.
+		 * 
+		 * @param index the index of the UUID
+		 * @return the most significant bits
+		 * @throws IndexOutOfBoundsException if the index is out of range
+		 */
+		public long getMostSignificantBits(final int index) {
+			check(index);
+			final long msb;
+			if (this.packed) {
+				msb = TimeOrderedEpochFactory.msb(this.msb + index);
+			} else {
+				// add the carry of the counter
+				msb = this.msb + (((this.lsb >>> this.shift) + index) >>> (62 - this.shift));
+			}
+			return (msb & 0xffffffffffff0fffL) | this.versionMask; // set version
+		}
+
+		/**
+		 * Returns the least significant bits of a UUID of the lease.
+		 * 
+		 * @param index the index of the UUID
+		 * @return the least significant bits
+		 * @throws IndexOutOfBoundsException if the index is out of range
+		 */
+		public long getLeastSignificantBits(final int index) {
+			check(index);
+			long lsb;
+			if (this.packed) {
+				lsb = TimeOrderedEpochFactory.lsb(this.msb + index, this.randoms[index]);
+			} else {
+				// add the index to the counter
+				final long counter = (this.lsb >>> this.shift) + index;
+				lsb = (counter << this.shift) | (this.lsb & ((1L << this.shift) - 1));
+				if (this.randoms != null) {
+					// randomize the lower 48 bits
+					lsb = (lsb & 0xffff000000000000L) | this.randoms[index];
+				}
+			}
+			return (lsb & 0x3fffffffffffffffL) | 0x8000000000000000L; // set variant
+		}
+
+		private void check(final int index) {
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException("Index out of range: " + index);
+			}
+		}
 	}
 }
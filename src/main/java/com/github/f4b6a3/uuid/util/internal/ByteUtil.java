@@ -24,6 +24,10 @@
 
 package com.github.f4b6a3.uuid.util.internal;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
  * Class that contains many static methods for byte handling.
  */
@@ -58,6 +62,56 @@ public final class ByteUtil {
 		return result;
 	}
 
+	/**
+	 * Put the 16 bytes of a UUID into an array of bytes in big-endian order.
+	 * 
+	 * Nothing is written if the array is too short.
+	 * 
+	 * @param msb    the most significant bits
+	 * @param lsb    the least significant bits
+	 * @param bytes  a byte array
+	 * @param offset the index of the first byte
+	 * @throws IndexOutOfBoundsException if there is no room for 16 bytes
+	 */
+	public static void toBytes(final long msb, final long lsb, final byte[] bytes, final int offset) {
+
+		if (offset < 0 || offset > bytes.length - 16) {
+			throw new IndexOutOfBoundsException("No room for 16 bytes at offset " + offset);
+		}
+
+		for (int i = 0; i < 8; i++) {
+			bytes[offset + i] = (byte) (msb >>> (56 - (i << 3)));
+			bytes[offset + 8 + i] = (byte) (lsb >>> (56 - (i << 3)));
+		}
+	}
+
+	/**
+	 * Put the 16 bytes of a UUID into a buffer in big-endian order.
+	 * 
+	 * The bytes are written at the current position, which is then incremented by
+	 * 16. The byte order of the buffer is ignored and left unchanged. Nothing is
+	 * written if the buffer is too short.
+	 * 
+	 * @param msb    the most significant bits
+	 * @param lsb    the least significant bits
+	 * @param buffer a heap or direct buffer
+	 * @throws BufferOverflowException if there are less than 16 bytes remaining
+	 */
+	public static void toBytes(final long msb, final long lsb, final ByteBuffer buffer) {
+
+		if (buffer.remaining() < 16) {
+			throw new BufferOverflowException();
+		}
+
+		if (buffer.order() == ByteOrder.BIG_ENDIAN) {
+			buffer.putLong(msb);
+			buffer.putLong(lsb);
+		} else {
+			buffer.putLong(Long.reverseBytes(msb));
+			buffer.putLong(Long.reverseBytes(lsb));
+		}
+	}
+
 	/**
 	 * Get a hexadecimal string from given array of bytes.
 	 *
@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.f4b6a3.uuid.util.internal;
+
+import java.security.MessageDigest;
+
+/**
+ * MurmurHash3 x64 128-bit as a {@link MessageDigest}.
+ * 
+ * It is a fast non-cryptographic hash. It is NOT collision resistant against
+ * crafted input, so it must only be used for names that are not chosen by an
+ * adversary.
+ * 
+ * The digest is the 16 bytes produced by the reference implementation on
+ * little-endian machines, the same bytes returned by other libraries. The
+ * method {@link #hash(byte[], byte[])} computes it without allocating.
+ * 
+ * Instances are NOT thread-safe.
+ * 
+ * Reference: https://github.com/aappleby/smhasher
+ */
+public final class Murmur3Digest extends MessageDigest {
+
+	public static final String ALGORITHM = "MURMUR3-128";
+
+	private static final long C1 = 0x87c37b91114253d5L;
+	private static final long C2 = 0x4cf5ad432745937fL;
+
+	private final long seed;
+
+	private long h1;
+	private long h2;
+	private long length;
+
+	// pending bytes of an incomplete block
+	private final byte[] tail = new byte[16];
+	private int tailLength;
+
+	// result of the last call to hash()
+	private long msb;
+	private long lsb;
+
+	public Murmur3Digest() {
+		this(0);
+	}
+
+	/**
+	 * Creates a digest with a seed.
+	 * 
+	 * @param seed an unsigned 32-bit seed
+	 */
+	public Murmur3Digest(int seed) {
+		super(ALGORITHM);
+		this.seed = seed & 0xffffffffL;
+		engineReset();
+	}
+
+	/**
+	 * Computes the hash of a prefix followed by a name, without allocating.
+	 * 
+	 * The state of the digest is reset. The result is read with
+	 * {@link #getMostSignificantBits()} and {@link #getLeastSignificantBits()}.
+	 * 
+	 * @param prefix a byte array (optional)
+	 * @param name   a byte array
+	 */
+	public void hash(final byte[] prefix, final byte[] name) {
+		engineReset();
+		if (prefix != null) {
+			engineUpdate(prefix, 0, prefix.length);
+		}
+		engineUpdate(name, 0, name.length);
+		finish();
+		msb = Long.reverseBytes(h1);
+		lsb = Long.reverseBytes(h2);
+		engineReset();
+	}
+
+	/**
+	 * Returns the first 8 bytes of the last hash as a number.
+	 * 
+	 * @return a number
+	 */
+	public long getMostSignificantBits() {
+		return this.msb;
+	}
+
+	/**
+	 * Returns the next 8 bytes of the last hash as a number.
+	 * 
+	 * @return a number
+	 */
+	public long getLeastSignificantBits() {
+		return this.lsb;
+	}
+
+	@Override
+	protected int engineGetDigestLength() {
+		return 16;
+	}
+
+	@Override
+	protected void engineReset() {
+		h1 = seed;
+		h2 = seed;
+		length = 0;
+		tailLength = 0;
+	}
+
+	@Override
+	protected void engineUpdate(final byte input) {
+		tail[tailLength++] = input;
+		length++;
+		if (tailLength == 16) {
+			block(tail, 0);
+			tailLength = 0;
+		}
+	}
+
+	@Override
+	protected void engineUpdate(final byte[] input, int offset, int len) {
+
+		length += len;
+
+		// complete the pending block
+		if (tailLength > 0) {
+			final int n = Math.min(16 - tailLength, len);
+			System.arraycopy(input, offset, tail, tailLength, n);
+			tailLength += n;
+			offset += n;
+			len -= n;
+			if (tailLength < 16) {
+				return;
+			}
+			block(tail, 0);
+			tailLength = 0;
+		}
+
+		// whole blocks straight from the input
+		final int end = offset + (len & ~15);
+		for (; offset < end; offset += 16) {
+			block(input, offset);
+		}
+
+		// keep the remainder
+		tailLength = len & 15;
+		System.arraycopy(input, end, tail, 0, tailLength);
+	}
+
+	@Override
+	protected byte[] engineDigest() {
+		finish();
+		final byte[] digest = new byte[16];
+		for (int i = 0; i < 8; i++) {
+			digest[i] = (byte) (h1 >>> (i << 3));
+			digest[i + 8] = (byte) (h2 >>> (i << 3));
+		}
+		engineReset();
+		return digest;
+	}
+
+	private void block(final byte[] bytes, final int offset) {
+
+		long k1 = getLongLittleEndian(bytes, offset);
+		long k2 = getLongLittleEndian(bytes, offset + 8);
+
+		k1 *= C1;
+		k1 = Long.rotateLeft(k1, 31);
+		k1 *= C2;
+		h1 ^= k1;
+
+		h1 = Long.rotateLeft(h1, 27);
+		h1 += h2;
+		h1 = h1 * 5 + 0x52dce729;
+
+		k2 *= C2;
+		k2 = Long.rotateLeft(k2, 33);
+		k2 *= C1;
+		h2 ^= k2;
+
+		h2 = Long.rotateLeft(h2, 31);
+		h2 += h1;
+		h2 = h2 * 5 + 0x38495ab5;
+	}
+
+	private void finish() {
+
+		long k1 = 0;
+		long k2 = 0;
+		for (int i = tailLength - 1; i >= 8; i--) {
+			k2 = (k2 << 8) | (tail[i] & 0xffL);
+		}
+		for (int i = Math.min(tailLength, 8) - 1; i >= 0; i--) {
+			k1 = (k1 << 8) | (tail[i] & 0xffL);
+		}
+
+		if (tailLength > 8) {
+			k2 *= C2;
+			k2 = Long.rotateLeft(k2, 33);
+			k2 *= C1;
+			h2 ^= k2;
+		}
+		if (tailLength > 0) {
+			k1 *= C1;
+			k1 = Long.rotateLeft(k1, 31);
+			k1 *= C2;
+			h1 ^= k1;
+		}
+
+		h1 ^= length;
+		h2 ^= length;
+
+		h1 += h2;
+		h2 += h1;
+
+		h1 = fmix(h1);
+		h2 = fmix(h2);
+
+		h1 += h2;
+		h2 += h1;
+	}
+
+	private static long fmix(long k) {
+		k ^= k >>> 33;
+		k *= 0xff51afd7ed558ccdL;
+		k ^= k >>> 33;
+		k *= 0xc4ceb9fe1a85ec53L;
+		k ^= k >>> 33;
+		return k;
+	}
+
+	private static long getLongLittleEndian(final byte[] bytes, final int i) {
+		return (bytes[i] & 0xffL) | ((bytes[i + 1] & 0xffL) << 8) | ((bytes[i + 2] & 0xffL) << 16)
+				| ((bytes[i + 3] & 0xffL) << 24) | ((bytes[i + 4] & 0xffL) << 32) | ((bytes[i + 5] & 0xffL) << 40)
+				| ((bytes[i + 6] & 0xffL) << 48) | ((bytes[i + 7] & 0xffL) << 56);
+	}
+}
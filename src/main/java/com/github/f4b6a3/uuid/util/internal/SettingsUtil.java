@@ -34,6 +34,14 @@ package com.github.f4b6a3.uuid.util.internal;
  * - uuidcreator.node
  * 
  * - UUIDCREATOR_NODE
+ * 
+ * - uuidcreator.namebased.cache.size
+ * 
+ * - UUIDCREATOR_NAMEBASED_CACHE_SIZE
+ * 
+ * - uuidcreator.namebased.cache.eviction
+ * 
+ * - UUIDCREATOR_NAMEBASED_CACHE_EVICTION
  */
 public final class SettingsUtil {
 
@@ -41,6 +49,8 @@ public final class SettingsUtil {
 
 	public static final String PROPERTY_NODE = "node";
 	public static final String PROPERTY_SECURERANDOM = "securerandom";
+	public static final String PROPERTY_NAMEBASED_CACHE_SIZE = "namebased.cache.size";
+	public static final String PROPERTY_NAMEBASED_CACHE_EVICTION = "namebased.cache.eviction";
 
 	protected SettingsUtil() {
 	}
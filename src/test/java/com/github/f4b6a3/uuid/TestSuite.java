@@ -15,12 +15,26 @@ import com.github.f4b6a3.uuid.codec.other.DotNetGuid4CodecTest;
 import com.github.f4b6a3.uuid.codec.other.NcnameCodecTest;
 import com.github.f4b6a3.uuid.codec.other.SlugCodecTest;
 import com.github.f4b6a3.uuid.codec.other.TimeOrderedCodecTest;
+import com.github.f4b6a3.uuid.factory.AbstNameBasedFactoryTest;
 import com.github.f4b6a3.uuid.factory.AbstRandomBasedFactoryTest;
 import com.github.f4b6a3.uuid.factory.AbstTimeBasedFactoryTest;
+import com.github.f4b6a3.uuid.factory.NameBasedCacheTest;
+import com.github.f4b6a3.uuid.factory.SharedStateTest;
+import com.github.f4b6a3.uuid.factory.StateStoreTest;
+import com.github.f4b6a3.uuid.factory.StripedFactoryTest;
+import com.github.f4b6a3.uuid.factory.UuidPoolTest;
+import com.github.f4b6a3.uuid.factory.UuidPublisherTest;
+import com.github.f4b6a3.uuid.factory.UuidSpliteratorTest;
+import com.github.f4b6a3.uuid.factory.VirtualThreadTest;
 import com.github.f4b6a3.uuid.factory.function.ClockSeqPoolTest;
+import com.github.f4b6a3.uuid.factory.function.impl.BufferedRandomFunctionTest;
 import com.github.f4b6a3.uuid.factory.function.impl.DefaultClockSeqFunctionTest;
+import com.github.f4b6a3.uuid.factory.function.impl.DefaultRandomFunctionTest;
 import com.github.f4b6a3.uuid.factory.function.impl.DefaultTimeFunctionTest;
+import com.github.f4b6a3.uuid.factory.function.impl.LeaseAheadTimeFunctionTest;
+import com.github.f4b6a3.uuid.factory.function.impl.WindowsLeaseAheadTimeFunctionTest;
 import com.github.f4b6a3.uuid.factory.function.impl.WindowsTimeFunctionTest;
+import com.github.f4b6a3.uuid.factory.nonstandard.NameBasedMurmur3FactoryTest;
 import com.github.f4b6a3.uuid.factory.nonstandard.PrefixCombFactoryTest;
 import com.github.f4b6a3.uuid.factory.nonstandard.ShortPrefixCombFactoryTest;
 import com.github.f4b6a3.uuid.factory.nonstandard.ShortSuffixCombFactoryTest;
@@ -37,6 +51,7 @@ import com.github.f4b6a3.uuid.codec.StringCodecTest;
 import com.github.f4b6a3.uuid.codec.UriCodecTest;
 import com.github.f4b6a3.uuid.codec.UrnCodecTest;
 import com.github.f4b6a3.uuid.util.internal.ByteUtilTest;
+import com.github.f4b6a3.uuid.util.internal.Murmur3DigestTest;
 import com.github.f4b6a3.uuid.util.internal.SettingsUtilTest;
 import com.github.f4b6a3.uuid.util.CombUtilTest;
 import com.github.f4b6a3.uuid.util.UuidComparatorTest;
@@ -47,6 +62,7 @@ import com.github.f4b6a3.uuid.util.UuidValidatorTest;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 	AbstTimeBasedFactoryTest.class,
+	AbstNameBasedFactoryTest.class,
 	AbstRandomBasedFactoryTest.class,
 	BaseNCodec1Test.class,
 	BaseNCodec2SamplesTest.class,
@@ -55,24 +71,33 @@ import com.github.f4b6a3.uuid.util.UuidValidatorTest;
 	BaseNRemainderEncoderTest.class,
 	BaseNTest.class,
 	BinaryCodecTest.class,
+	BufferedRandomFunctionTest.class,
 	ByteUtilTest.class,
 	ClockSeqPoolTest.class,
 	CombUtilTest.class,
 	DceSecurityFactoryTest.class,
 	DefaultClockSeqFunctionTest.class,
+	DefaultRandomFunctionTest.class,
 	DefaultTimeFunctionTest.class,
 	DotNetGuid1CodecTest.class,
 	DotNetGuid4CodecTest.class,
+	LeaseAheadTimeFunctionTest.class,
+	Murmur3DigestTest.class,
+	NameBasedCacheTest.class,
 	NameBasedMd5FactoryTest.class,
+	NameBasedMurmur3FactoryTest.class,
 	NameBasedSha1FactoryTest.class,
 	NcnameCodecTest.class,
 	PrefixCombFactoryTest.class,
 	RandomBasedFactoryTest.class,
 	SettingsUtilTest.class,
+	SharedStateTest.class,
 	ShortPrefixCombFactoryTest.class,
 	ShortSuffixCombFactoryTest.class,
 	SlugCodecTest.class,
+	StateStoreTest.class,
 	StringCodecTest.class,
+	StripedFactoryTest.class,
 	SuffixCombFactoryTest.class,
 	TimeBasedFactoryTest.class,
 	TimeOrderedCodecTest.class,
@@ -81,9 +106,14 @@ import com.github.f4b6a3.uuid.util.UuidValidatorTest;
 	UriCodecTest.class,
 	UrnCodecTest.class,
 	UuidComparatorTest.class,
+	UuidPoolTest.class,
+	UuidPublisherTest.class,
+	UuidSpliteratorTest.class,
 	UuidTimeTest.class,
 	UuidUtilTest.class,
 	UuidValidatorTest.class,
+	VirtualThreadTest.class,
+	WindowsLeaseAheadTimeFunctionTest.class,
 	WindowsTimeFunctionTest.class,
 })
 
@@ -3,7 +3,10 @@ package com.github.f4b6a3.uuid.codec;
 import static org.junit.Assert.*;
 import org.junit.Test;
 
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.UuidCreator;
@@ -81,6 +84,67 @@ public class BinaryCodecTest {
 		}
 	}
 
+	@Test
+	public void testEncodeIntoArray() {
+
+		BinaryCodec codec = new BinaryCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			byte[] bytes = new byte[16 + i];
+			codec.encode(uuid, bytes, i);
+			assertArrayEquals(codec.encode(uuid), Arrays.copyOfRange(bytes, i, i + 16));
+			for (int j = 0; j < i; j++) {
+				assertEquals("Bytes before the offset were changed", 0, bytes[j]);
+			}
+		}
+
+		try {
+			codec.encode(UUID.randomUUID(), new byte[20], 5);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testEncodeIntoBuffer() {
+
+		BinaryCodec codec = new BinaryCodec();
+
+		ByteBuffer[] buffers = { ByteBuffer.allocate(16 * DEFAULT_LOOP_LIMIT),
+				ByteBuffer.allocateDirect(16 * DEFAULT_LOOP_LIMIT),
+				ByteBuffer.allocate(16 * DEFAULT_LOOP_LIMIT).order(ByteOrder.LITTLE_ENDIAN),
+				ByteBuffer.allocateDirect(16 * DEFAULT_LOOP_LIMIT).order(ByteOrder.LITTLE_ENDIAN) };
+
+		for (ByteBuffer buffer : buffers) {
+
+			ByteOrder order = buffer.order();
+			UUID[] uuids = new UUID[DEFAULT_LOOP_LIMIT];
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				uuids[i] = UUID.randomUUID();
+				codec.encode(uuids[i], buffer);
+				assertEquals(16 * (i + 1), buffer.position());
+			}
+			assertEquals("The byte order was changed", order, buffer.order());
+
+			// always big-endian
+			buffer.flip();
+			buffer.order(ByteOrder.BIG_ENDIAN);
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				assertEquals(uuids[i], new UUID(buffer.getLong(), buffer.getLong()));
+			}
+
+			try {
+				buffer.clear().position(buffer.limit() - 15);
+				codec.encode(UUID.randomUUID(), buffer);
+				fail("Should throw exception");
+			} catch (BufferOverflowException e) {
+				assertEquals("Nothing should be written", buffer.limit() - 15, buffer.position());
+			}
+		}
+	}
+
 	@Test
 	public void testEncodeInvalidUuidException() {
 
@@ -0,0 +1,277 @@
+package com.github.f4b6a3.uuid.factory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.github.f4b6a3.uuid.enums.UuidNamespace;
+import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedMd5Factory;
+import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedSha1Factory;
+
+public class AbstNameBasedFactoryTest extends UuidFactoryTest {
+
+	private static final UUID NAMESPACE = UuidNamespace.NAMESPACE_URL.getValue();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testCreateAll() {
+
+		NameBasedSha1Factory factory = new NameBasedSha1Factory();
+		String[] names = names(DEFAULT_LOOP_MAX);
+		UUID[] expected = expected(factory, NAMESPACE, names);
+
+		ForkJoinPool pool = new ForkJoinPool(THREAD_TOTAL);
+		try {
+			assertArrayEquals(expected, factory.createAll(NAMESPACE, names));
+			assertArrayEquals(expected, factory.createAll(NAMESPACE, names, pool));
+			assertArrayEquals(expected, factory.createAll(NAMESPACE, Arrays.asList(names)));
+			assertArrayEquals(expected, factory.createAll(NAMESPACE, new ArrayList<>(Arrays.asList(names)), pool));
+			assertArrayEquals(expected, factory.createAll(NAMESPACE, new LinkedList<>(Arrays.asList(names)), pool));
+			assertArrayEquals(expected, factory.createAll(NAMESPACE, Arrays.stream(names), pool));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testCreateAllWithoutNamespace() {
+
+		NameBasedMd5Factory factory = new NameBasedMd5Factory();
+		String[] names = names(DEFAULT_LOOP_MAX);
+
+		UUID[] expected = expected(factory, null, names);
+		assertArrayEquals(expected, factory.createAll(null, names));
+
+		// the default namespace of the factory is not used
+		NameBasedMd5Factory other = new NameBasedMd5Factory(UuidNamespace.NAMESPACE_DNS);
+		assertArrayEquals(expected, other.createAll(null, names));
+	}
+
+	@Test
+	public void testCreateAllIntoArrays() {
+
+		NameBasedSha1Factory factory = new NameBasedSha1Factory();
+		String[] names = names(DEFAULT_LOOP_MAX);
+		UUID[] expected = expected(factory, NAMESPACE, names);
+
+		long[] msbs = new long[names.length];
+		long[] lsbs = new long[names.length];
+		factory.createAll(NAMESPACE, names, msbs, lsbs, ForkJoinPool.commonPool());
+		check(expected, msbs, lsbs);
+
+		List<String> list = Arrays.asList(names);
+		msbs = new long[names.length];
+		lsbs = new long[names.length];
+		factory.createAll(NAMESPACE, list, msbs, lsbs, ForkJoinPool.commonPool());
+		check(expected, msbs, lsbs);
+
+		try {
+			factory.createAll(NAMESPACE, names, new long[10], new long[10], ForkJoinPool.commonPool());
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testCreateAllEmpty() {
+		NameBasedSha1Factory factory = new NameBasedSha1Factory();
+		assertEquals(0, factory.createAll(NAMESPACE, new String[0]).length);
+		assertEquals(0, factory.createAll(NAMESPACE, new ArrayList<String>()).length);
+	}
+
+	@Test
+	public void testCreateAllWithNullName() {
+		NameBasedSha1Factory factory = new NameBasedSha1Factory();
+		String[] names = names(DEFAULT_LOOP_MAX);
+		names[names.length / 2] = null;
+		try {
+			factory.createAll(NAMESPACE, names);
+			fail("Should throw an exception");
+		} catch (NullPointerException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testCreateWithCharSequenceAndByteBuffer() {
+
+		String[] names = { "", "www.example.com", "caf\u00e9 \u65e5\u672c \ud83d\ude00", // BMP and supplementary
+				"\ud83d", "a\ude00b", "\ud83d\ud83d\ude00", // unpaired surrogates
+				new String(new char[1000]).replace('\0', '\u00e9') }; // longer than the encoding buffer
+
+		for (AbstNameBasedFactory factory : new AbstNameBasedFactory[] { new NameBasedMd5Factory(),
+				new NameBasedSha1Factory() }) {
+			for (String name : names) {
+				checkCharSequence(factory, name);
+				checkByteBuffer(factory, name.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+	}
+
+	private static void checkCharSequence(AbstNameBasedFactory factory, String name) {
+
+		UuidNamespace namespace = UuidNamespace.NAMESPACE_DNS;
+
+		assertEquals(factory.create(name), factory.create(new StringBuilder(name)));
+		assertEquals(factory.create(namespace, name), factory.create(namespace, new StringBuilder(name)));
+		assertEquals(factory.create(namespace.getValue(), name),
+				factory.create(namespace.getValue(), new StringBuilder(name)));
+		assertEquals(factory.create(namespace.getValue().toString(), name),
+				factory.create(namespace.getValue().toString(), new StringBuilder(name)));
+	}
+
+	private static void checkByteBuffer(AbstNameBasedFactory factory, byte[] bytes) {
+
+		UUID expected = factory.create(bytes);
+
+		// heap buffer
+		ByteBuffer heap = ByteBuffer.wrap(bytes);
+		assertEquals(expected, factory.create(heap));
+		assertEquals(0, heap.position());
+
+		// direct buffer slice
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 10);
+		direct.position(5);
+		direct.put(bytes);
+		direct.position(5).limit(5 + bytes.length);
+		ByteBuffer slice = direct.slice();
+		assertEquals(expected, factory.create(slice));
+		assertEquals(expected, factory.create(direct));
+		assertEquals(5, direct.position());
+		assertEquals(factory.create(NAMESPACE, bytes), factory.create(NAMESPACE, slice));
+		assertEquals(factory.create(NAMESPACE.toString(), bytes), factory.create(NAMESPACE.toString(), slice));
+		assertEquals(factory.create(UuidNamespace.NAMESPACE_URL, bytes),
+				factory.create(UuidNamespace.NAMESPACE_URL, slice));
+	}
+
+	private static String[] names(int size) {
+		String[] names = new String[size];
+		for (int i = 0; i < size; i++) {
+			names[i] = "https://example.com/" + i;
+		}
+		return names;
+	}
+
+	private static UUID[] expected(AbstNameBasedFactory factory, UUID namespace, String[] names) {
+		UUID[] expected = new UUID[names.length];
+		for (int i = 0; i < names.length; i++) {
+			expected[i] = factory.create(namespace, names[i]);
+		}
+		return expected;
+	}
+
+	private static void check(UUID[] expected, long[] msbs, long[] lsbs) {
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], new UUID(msbs[i], lsbs[i]));
+		}
+	}
+
+	@Test
+	public void testCreateFromContent() throws IOException {
+
+		NameBasedSha1Factory factory = new NameBasedSha1Factory(UuidNamespace.NAMESPACE_URL);
+		Random random = new Random();
+
+		// empty, small, and larger than the read buffer
+		int[] sizes = { 0, 1, AbstNameBasedFactory.READ_BUFFER_SIZE, AbstNameBasedFactory.READ_BUFFER_SIZE + 1,
+				1_000_000 };
+
+		for (int size : sizes) {
+
+			byte[] bytes = new byte[size];
+			random.nextBytes(bytes);
+			UUID expected = factory.create(bytes);
+
+			assertEquals(expected, factory.create(new ByteArrayInputStream(bytes)));
+			assertEquals(expected, factory.create(Channels.newChannel(new ByteArrayInputStream(bytes))));
+
+			Path file = folder.newFile().toPath();
+			Files.write(file, bytes);
+			assertEquals(expected, factory.create(file));
+			assertEquals(factory.create(NAMESPACE, bytes), factory.create(NAMESPACE, file));
+			try (FileChannel channel = FileChannel.open(file)) {
+				assertEquals(expected, factory.create(channel));
+			}
+			try (InputStream stream = Files.newInputStream(file)) {
+				assertEquals(factory.create(NAMESPACE, bytes), factory.create(NAMESPACE, stream));
+			}
+		}
+	}
+
+	@Test
+	public void testCreateFromLargeFile() throws IOException {
+
+		NameBasedMd5Factory factory = new NameBasedMd5Factory();
+
+		// a sparse file with more than one mapped region
+		Path file = folder.newFile().toPath();
+		try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+			raf.setLength(AbstNameBasedFactory.MAPPED_REGION_SIZE + 12345);
+			raf.seek(AbstNameBasedFactory.MAPPED_REGION_SIZE - 1);
+			raf.write(new byte[] { 1, 2, 3 }); // across the boundary
+		}
+
+		try (InputStream stream = Files.newInputStream(file)) {
+			assertEquals(factory.create(stream), factory.create(file));
+		}
+	}
+
+	@Test
+	public void testCreateAllFromDirectory() throws IOException {
+
+		NameBasedSha1Factory factory = new NameBasedSha1Factory();
+
+		Path root = folder.newFolder().toPath();
+		Path child = Files.createDirectory(root.resolve("child"));
+		Files.write(root.resolve("a.txt"), "a".getBytes());
+		Files.write(root.resolve("b.txt"), "b".getBytes());
+		Files.write(child.resolve("c.txt"), new byte[AbstNameBasedFactory.READ_BUFFER_SIZE * 2]);
+		Files.write(child.resolve("empty"), new byte[0]);
+
+		ForkJoinPool pool = new ForkJoinPool(THREAD_TOTAL);
+		try {
+			Map<Path, UUID> map = factory.createAll(NAMESPACE, root, pool);
+			assertEquals(4, map.size());
+			for (Map.Entry<Path, UUID> entry : map.entrySet()) {
+				assertEquals(factory.create(NAMESPACE, Files.readAllBytes(entry.getKey())), entry.getValue());
+			}
+			assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(new TreeSet<>(map.keySet())));
+		} finally {
+			pool.shutdown();
+		}
+
+		try {
+			factory.createAll(NAMESPACE, root.resolve("missing"), ForkJoinPool.commonPool());
+			fail("Should throw an exception");
+		} catch (IOException e) {
+			// success
+		}
+	}
+}
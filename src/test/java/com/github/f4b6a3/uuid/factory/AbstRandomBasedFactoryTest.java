@@ -5,19 +5,26 @@ import com.github.f4b6a3.uuid.factory.nonstandard.ShortPrefixCombFactory;
 import com.github.f4b6a3.uuid.factory.nonstandard.ShortSuffixCombFactory;
 import com.github.f4b6a3.uuid.factory.nonstandard.SuffixCombFactory;
 import com.github.f4b6a3.uuid.factory.rfc4122.RandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.util.UuidUtil;
 
 import static org.junit.Assert.assertEquals;
 
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 
 import org.junit.Test;
 
@@ -299,4 +306,118 @@ public class AbstRandomBasedFactoryTest extends UuidFactoryTest {
 		}
 	}
 
+	@Test
+	public void testCreateInto() {
+		checkCreateInto(new RandomBasedFactory(), 4);
+		checkCreateInto(new PrefixCombFactory(), 4);
+		checkCreateInto(new SuffixCombFactory(), 4);
+		checkCreateInto(new ShortPrefixCombFactory(), 4);
+		checkCreateInto(new ShortSuffixCombFactory(), 4);
+		checkCreateInto(new TimeOrderedEpochFactory(), 7);
+		checkCreateInto(TimeOrderedEpochFactory.builder().withIncrementPlus1().build(), 7);
+		checkCreateInto(TimeOrderedEpochFactory.builder().withLockFree().build(), 7);
+	}
+
+	@Test
+	public void testCreateIntoOutOfBounds() {
+		checkCreateIntoOutOfBounds(new RandomBasedFactory());
+		checkCreateIntoOutOfBounds(new PrefixCombFactory());
+		checkCreateIntoOutOfBounds(new TimeOrderedEpochFactory());
+		checkCreateIntoOutOfBounds(TimeOrderedEpochFactory.builder().withLockFree().build());
+	}
+
+	@Test
+	public void testCreateIntoOutOfBoundsLosesNothing() {
+
+		Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+		TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withClock(clock).withIncrementPlus1()
+				.build();
+
+		UUID uuid1 = factory.create();
+		try {
+			factory.createInto(new byte[15], 0);
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+		UUID uuid2 = factory.create();
+
+		// the counter is not incremented by the failed call
+		assertEquals(uuid1.getLeastSignificantBits() + 1, uuid2.getLeastSignificantBits());
+	}
+
+	@Test
+	public void testCreateIntoOutOfBoundsDefaultsLoseNothing() {
+
+		// a factory that only implements create(), so the defaults are used
+		final AtomicInteger created = new AtomicInteger();
+		final NoArgsFactory factory = () -> {
+			created.incrementAndGet();
+			return UUID.randomUUID();
+		};
+
+		checkCreateIntoOutOfBounds(factory);
+		assertEquals("A UUID was created before the bounds check", 0, created.get());
+	}
+
+	@Test
+	public void testCreateIntoWithoutAllocation() {
+
+		// the random function must not create objects
+		final SplittableRandom random = new SplittableRandom();
+		final LongSupplier randomFunction = random::nextLong;
+
+		checkCreateIntoWithoutAllocation(new RandomBasedFactory(randomFunction));
+		checkCreateIntoWithoutAllocation(new PrefixCombFactory(randomFunction));
+		checkCreateIntoWithoutAllocation(new SuffixCombFactory(randomFunction));
+		checkCreateIntoWithoutAllocation(new ShortPrefixCombFactory(randomFunction));
+		checkCreateIntoWithoutAllocation(new ShortSuffixCombFactory(randomFunction));
+		checkCreateIntoWithoutAllocation(new TimeOrderedEpochFactory(randomFunction));
+		checkCreateIntoWithoutAllocation(
+				TimeOrderedEpochFactory.builder().withRandomFunction(randomFunction).withIncrementPlus1().build());
+		checkCreateIntoWithoutAllocation(
+				TimeOrderedEpochFactory.builder().withRandomFunction(randomFunction).withIncrementPlusN().build());
+		checkCreateIntoWithoutAllocation(
+				TimeOrderedEpochFactory.builder().withRandomFunction(randomFunction).withLockFree().build());
+	}
+
+	@Test
+	public void testGenerateWithCreateOnly() {
+
+		// a subclass that implements only create(), like the ones written before
+		// generate() was added to this class
+		final AtomicInteger calls = new AtomicInteger();
+		AbstRandomBasedFactory factory = new CreateOnlyFactory(calls);
+
+		UUID[] uuids = new UUID[DEFAULT_LOOP_MAX];
+		factory.fill(uuids);
+		checkNotNull(uuids);
+		checkVersion(uuids, UuidVersion.VERSION_RANDOM_BASED.getValue());
+		checkUniqueness(uuids);
+		assertEquals(DEFAULT_LOOP_MAX, calls.get());
+
+		checkCreateInto(factory, UuidVersion.VERSION_RANDOM_BASED.getValue());
+	}
+
+	private static class CreateOnlyFactory extends AbstRandomBasedFactory {
+
+		private final AtomicInteger calls;
+
+		private CreateOnlyFactory(AtomicInteger calls) {
+			super(UuidVersion.VERSION_RANDOM_BASED, new CreateOnlyBuilder());
+			this.calls = calls;
+		}
+
+		private static class CreateOnlyBuilder extends Builder<CreateOnlyFactory, CreateOnlyBuilder> {
+			@Override
+			public CreateOnlyFactory build() {
+				throw new UnsupportedOperationException();
+			}
+		}
+
+		@Override
+		public UUID create() {
+			calls.incrementAndGet();
+			return toUuid(random.nextLong(), random.nextLong());
+		}
+	}
 }
@@ -1,17 +1,26 @@
 package com.github.f4b6a3.uuid.factory;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 
 import com.github.f4b6a3.uuid.factory.function.NodeIdFunction;
+import com.github.f4b6a3.uuid.factory.function.TimeFunction;
 import com.github.f4b6a3.uuid.factory.function.impl.DefaultNodeIdFunction;
 import com.github.f4b6a3.uuid.factory.function.impl.HashNodeIdFunction;
 import com.github.f4b6a3.uuid.factory.function.impl.MacNodeIdFunction;
 import com.github.f4b6a3.uuid.factory.function.impl.RandomNodeIdFunction;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedFactory;
 import com.github.f4b6a3.uuid.util.internal.SettingsUtil;
 
 public class AbstTimeBasedFactoryTest extends UuidFactoryTest {
@@ -54,4 +63,101 @@ public class AbstTimeBasedFactoryTest extends UuidFactoryTest {
 			fail("It should use Default node identifier supplier");
 		}
 	}
+
+	@Test
+	public void testCreateInto() {
+		checkCreateInto(new TimeBasedFactory(), 1);
+		checkCreateInto(TimeBasedFactory.builder().withLockFree().build(), 1);
+		checkCreateInto(new TimeOrderedFactory(), 6);
+		checkCreateInto(TimeOrderedFactory.builder().withLockFree().build(), 6);
+	}
+
+	@Test
+	public void testCreateIntoOutOfBounds() {
+		checkCreateIntoOutOfBounds(new TimeBasedFactory());
+		checkCreateIntoOutOfBounds(TimeBasedFactory.builder().withLockFree().build());
+		checkCreateIntoOutOfBounds(new TimeOrderedFactory());
+		checkCreateIntoOutOfBounds(TimeOrderedFactory.builder().withLockFree().build());
+	}
+
+	@Test
+	public void testCreateIntoWithoutAllocation() {
+		checkCreateIntoWithoutAllocation(new TimeBasedFactory());
+		checkCreateIntoWithoutAllocation(TimeBasedFactory.builder().withLockFree().build());
+		checkCreateIntoWithoutAllocation(new TimeOrderedFactory());
+		checkCreateIntoWithoutAllocation(TimeOrderedFactory.builder().withLockFree().build());
+	}
+
+	@Test
+	public void testWaitOutsideTheLock() throws InterruptedException {
+
+		// a time function that asks to wait until it is released
+		final AtomicBoolean ready = new AtomicBoolean();
+		final TimeFunction function = new TimeFunction() {
+			@Override
+			public long getAsLong() {
+				return System.currentTimeMillis() * 10_000;
+			}
+
+			@Override
+			public long tryGetAsLong() {
+				return ready.get() ? getAsLong() : NOT_READY;
+			}
+		};
+
+		final TimeBasedFactory factory = TimeBasedFactory.builder().withTimeFunction(function).build();
+		final AtomicReference<UUID> uuid = new AtomicReference<>();
+
+		Thread thread = new Thread(() -> uuid.set(factory.create()));
+		thread.start();
+
+		// the waiting thread must not keep the lock
+		boolean released = false;
+		for (int i = 0; i < 1000 && !released; i++) {
+			if (factory.lock.tryLock()) {
+				factory.lock.unlock();
+				released = true;
+			} else {
+				Thread.sleep(1);
+			}
+		}
+
+		ready.set(true);
+		thread.join();
+
+		assertTrue("The lock should be released while waiting", released);
+		assertEquals(1, uuid.get().version());
+	}
+
+	@Test
+	public void testWaitWhileTheLockIsHeldTwice() {
+
+		// a time function that asks to wait a few times
+		final AtomicInteger waits = new AtomicInteger(3);
+		final TimeFunction function = new TimeFunction() {
+			@Override
+			public long getAsLong() {
+				return System.currentTimeMillis() * 10_000;
+			}
+
+			@Override
+			public long tryGetAsLong() {
+				return waits.getAndDecrement() > 0 ? NOT_READY : getAsLong();
+			}
+		};
+
+		final TimeBasedFactory factory = TimeBasedFactory.builder().withTimeFunction(function).build();
+
+		// the caller already holds the lock, so it must not be released
+		factory.lock.lock();
+		try {
+			UUID[] uuids = new UUID[2];
+			factory.fill(uuids);
+			assertEquals(1, uuids[1].version());
+			assertEquals(1, factory.lock.getHoldCount());
+		} finally {
+			factory.lock.unlock();
+		}
+		assertFalse(factory.lock.isLocked());
+	}
 }
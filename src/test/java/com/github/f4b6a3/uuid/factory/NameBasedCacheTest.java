@@ -0,0 +1,207 @@
+package com.github.f4b6a3.uuid.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.enums.UuidNamespace;
+import com.github.f4b6a3.uuid.factory.NameBasedCache.Eviction;
+import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedMd5Factory;
+import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedSha1Factory;
+import com.github.f4b6a3.uuid.util.internal.SettingsUtil;
+
+public class NameBasedCacheTest extends UuidFactoryTest {
+
+	@Test
+	public void testCreate() {
+
+		// large enough for the entries of every segment
+		NameBasedCache cache = new NameBasedCache(DEFAULT_LOOP_MAX * 2);
+
+		// the same cache is shared by factories of different versions
+		NameBasedMd5Factory md5 = new NameBasedMd5Factory(UuidNamespace.NAMESPACE_URL);
+		NameBasedSha1Factory sha1 = new NameBasedSha1Factory(UuidNamespace.NAMESPACE_URL);
+		NameBasedMd5Factory cachedMd5 = new NameBasedMd5Factory(UuidNamespace.NAMESPACE_URL, cache);
+		NameBasedSha1Factory cachedSha1 = new NameBasedSha1Factory(UuidNamespace.NAMESPACE_URL, cache);
+
+		for (int round = 0; round < 3; round++) {
+			for (int i = 0; i < DEFAULT_LOOP_MAX / 2; i++) {
+				String name = "https://example.com/" + i;
+				assertEquals(md5.create(name), cachedMd5.create(name));
+				assertEquals(sha1.create(name), cachedSha1.create(name));
+			}
+		}
+
+		assertEquals(DEFAULT_LOOP_MAX, cache.getMisses());
+		assertEquals(DEFAULT_LOOP_MAX * 2, cache.getHits());
+		assertEquals(2.0 / 3.0, cache.getHitRate(), 0.0);
+		assertEquals(DEFAULT_LOOP_MAX, cache.size());
+		assertEquals(0, cache.getEvictions());
+	}
+
+	@Test
+	public void testCreateWithNamespaces() {
+
+		NameBasedCache cache = new NameBasedCache(DEFAULT_LOOP_MAX);
+		NameBasedSha1Factory factory = new NameBasedSha1Factory();
+		NameBasedSha1Factory cached = new NameBasedSha1Factory(cache);
+
+		// the same name with different namespaces
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			UUID namespace = UUID.randomUUID();
+			assertEquals(factory.create(namespace, "name"), cached.create(namespace, "name"));
+		}
+		assertEquals(factory.create("name"), cached.create("name"));
+		assertEquals(0, cache.getHits());
+
+		// character sequences and byte buffers share the entries of the same bytes
+		assertEquals(factory.create("name"), cached.create(new StringBuilder("name")));
+		assertEquals(factory.create("name"), cached.create(ByteBuffer.wrap("name".getBytes())));
+		assertEquals(2, cache.getHits());
+	}
+
+	@Test
+	public void testCreateWithReusedArray() {
+
+		NameBasedCache cache = new NameBasedCache(DEFAULT_LOOP_MAX);
+		NameBasedSha1Factory factory = new NameBasedSha1Factory();
+		NameBasedSha1Factory cached = new NameBasedSha1Factory(cache);
+
+		// the cache must not keep a reference to the caller's array
+		byte[] name = new byte[] { 1, 2, 3 };
+		UUID first = cached.create(name);
+		name[0] = 9;
+		assertEquals(factory.create(name), cached.create(name));
+		assertNotEquals(first, cached.create(name));
+	}
+
+	@Test
+	public void testEvictionLru() {
+		// the hot name is used before each insertion, so it is never evicted
+		assertEquals(1, hotMisses(Eviction.LRU));
+	}
+
+	@Test
+	public void testEvictionFifo() {
+		// the hot name is evicted when its segment is full, no matter how often it
+		// is used
+		assertTrue(hotMisses(Eviction.FIFO) > 1);
+	}
+
+	private long hotMisses(Eviction eviction) {
+
+		final int capacity = 64;
+		NameBasedCache cache = new NameBasedCache(capacity, eviction);
+		NameBasedMd5Factory factory = new NameBasedMd5Factory(cache);
+
+		long hotMisses = 0;
+		for (int i = 0; i < DEFAULT_LOOP_MAX * 10; i++) {
+			long misses = cache.getMisses();
+			factory.create("hot");
+			hotMisses += cache.getMisses() - misses;
+			factory.create("cold" + i);
+		}
+
+		assertTrue(cache.size() <= capacity);
+		assertTrue(cache.getEvictions() > 0);
+		return hotMisses;
+	}
+
+	@Test
+	public void testCreateInParallel() throws InterruptedException {
+
+		final NameBasedCache cache = new NameBasedCache(DEFAULT_LOOP_MAX / 2);
+		final NameBasedSha1Factory factory = new NameBasedSha1Factory();
+		final NameBasedSha1Factory cached = new NameBasedSha1Factory(cache);
+		final AtomicInteger errors = new AtomicInteger();
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < DEFAULT_LOOP_MAX * 10; j++) {
+					String name = "name" + (j % DEFAULT_LOOP_MAX);
+					if (!factory.create(name).equals(cached.create(name))) {
+						errors.incrementAndGet();
+					}
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(0, errors.get());
+		assertEquals(THREAD_TOTAL * DEFAULT_LOOP_MAX * 10, cache.getHits() + cache.getMisses());
+		assertTrue(cache.size() <= cache.capacity());
+	}
+
+	@Test
+	public void testClear() {
+
+		NameBasedCache cache = new NameBasedCache(DEFAULT_LOOP_MAX);
+		NameBasedMd5Factory factory = new NameBasedMd5Factory(cache);
+
+		factory.create("name");
+		factory.create("name");
+		cache.clear();
+		factory.create("name");
+
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+	}
+
+	@Test
+	public void testInvalidCapacity() {
+		try {
+			new NameBasedCache(0);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testFromSettings() {
+
+		assertNull(NameBasedCache.fromSettings());
+		assertNull(new NameBasedSha1Factory().getCache());
+
+		try {
+			SettingsUtil.setProperty(SettingsUtil.PROPERTY_NAMEBASED_CACHE_SIZE, "1000");
+			SettingsUtil.setProperty(SettingsUtil.PROPERTY_NAMEBASED_CACHE_EVICTION, "fifo");
+
+			NameBasedCache cache = NameBasedCache.fromSettings();
+			assertEquals(1000, cache.capacity());
+			assertEquals(Eviction.FIFO, cache.getEviction());
+
+			SettingsUtil.setProperty(SettingsUtil.PROPERTY_NAMEBASED_CACHE_EVICTION, "random");
+			try {
+				NameBasedCache.fromSettings();
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		} finally {
+			SettingsUtil.clearProperty(SettingsUtil.PROPERTY_NAMEBASED_CACHE_SIZE);
+			SettingsUtil.clearProperty(SettingsUtil.PROPERTY_NAMEBASED_CACHE_EVICTION);
+		}
+	}
+
+	@Test
+	public void testSharedFromSettings() {
+		// the settings are read once for all the factories
+		assertSame(NameBasedCache.shared(), new NameBasedSha1Factory().getCache());
+		assertSame(new NameBasedMd5Factory().getCache(), new NameBasedSha1Factory().getCache());
+	}
+}
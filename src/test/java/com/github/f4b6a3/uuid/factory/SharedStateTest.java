@@ -0,0 +1,221 @@
+package com.github.f4b6a3.uuid.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+import com.github.f4b6a3.uuid.util.UuidComparator;
+
+public class SharedStateTest {
+
+	private static final int DEFAULT_LOOP_MAX = 10_000;
+	private static final int PROCESS_TOTAL = 2;
+	private static final int THREAD_TOTAL = 4;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testUpdateAndReopen() throws IOException {
+
+		Path file = folder.getRoot().toPath().resolve("uuid.shared");
+
+		try (SharedState state = new SharedState(file)) {
+			assertEquals(0L, state.get());
+			assertEquals(5L, state.update(x -> x + 5));
+			assertEquals(5L, state.get());
+		}
+
+		try (SharedState state = new SharedState(file)) {
+			assertEquals(5L, state.get());
+		}
+	}
+
+	@Test
+	public void testUpdateWithTwoInstances() throws IOException {
+
+		Path file = folder.getRoot().toPath().resolve("uuid.shared");
+
+		try (SharedState state = new SharedState(file); SharedState other = new SharedState(file)) {
+			assertEquals(0L, state.get());
+			assertEquals(5L, state.update(x -> x + 5));
+			assertEquals(6L, other.update(x -> x + 1));
+			assertEquals(6L, state.get());
+		}
+		assertTrue("Process lock not removed", SharedState.LOCKS.isEmpty());
+
+		try (SharedState state = new SharedState(file)) {
+			assertEquals(6L, state.get());
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testNotASharedStateFile() throws IOException {
+		Path file = folder.newFile().toPath();
+		Files.write(file, "not a shared state file".getBytes(StandardCharsets.UTF_8));
+		new SharedState(file).close();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testClosed() throws IOException {
+		SharedState state = new SharedState(folder.newFile().toPath());
+		state.close();
+		state.get();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIncrementPlus1() throws IOException {
+		try (SharedState state = new SharedState(folder.newFile().toPath())) {
+			TimeOrderedEpochFactory.builder().withIncrementPlus1().withSharedState(state).build();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testStateStore() throws IOException {
+		try (SharedState state = new SharedState(folder.newFile().toPath());
+				StateStore store = new StateStore(folder.newFile().toPath())) {
+			TimeOrderedEpochFactory.builder().withStateStore(store).withSharedState(state).build();
+		}
+	}
+
+	@Test
+	public void testSharedStateInstances() throws Exception {
+
+		Path file = folder.newFile().toPath();
+
+		// each thread has its own state and factory, like a process
+		final UUID[][] lists = new UUID[THREAD_TOTAL][DEFAULT_LOOP_MAX];
+		final SharedState[] states = new SharedState[THREAD_TOTAL];
+		Thread[] threads = new Thread[THREAD_TOTAL];
+
+		for (int t = 0; t < THREAD_TOTAL; t++) {
+			states[t] = new SharedState(file);
+			final UUID[] list = lists[t];
+			final TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withSharedState(states[t])
+					.build();
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < list.length; i += 100) {
+					if (i % 200 == 0) {
+						list[i] = factory.create();
+						for (int j = 1; j < 100; j++) {
+							list[i + j] = factory.create();
+						}
+					} else {
+						// a batch takes one reservation
+						UUID[] batch = new UUID[100];
+						factory.fill(batch);
+						System.arraycopy(batch, 0, list, i, 100);
+					}
+				}
+			});
+			threads[t].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		for (SharedState state : states) {
+			state.close();
+		}
+		assertTrue("Process lock not removed", SharedState.LOCKS.isEmpty());
+
+		List<UUID> all = new ArrayList<>();
+		for (UUID[] list : lists) {
+			checkOrdered(list);
+			for (UUID uuid : list) {
+				all.add(uuid);
+			}
+		}
+		assertEquals("Duplicate UUID", all.size(), new HashSet<>(all).size());
+	}
+
+	@Test
+	public void testSharedStateProcesses() throws Exception {
+
+		Path file = folder.newFile().toPath();
+
+		// start other processes that share the state file
+		String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+		String classpath = System.getProperty("java.class.path");
+		List<Process> processes = new ArrayList<>();
+		for (int p = 0; p < PROCESS_TOTAL; p++) {
+			processes.add(new ProcessBuilder(java, "-cp", classpath, SharedStateTest.class.getName(),
+					file.toString(), String.valueOf(DEFAULT_LOOP_MAX)).redirectError(ProcessBuilder.Redirect.INHERIT)
+							.start());
+		}
+
+		// create UUIDs in this process at the same time
+		List<UUID[]> lists = new ArrayList<>();
+		lists.add(create(file, DEFAULT_LOOP_MAX));
+
+		for (Process process : processes) {
+			UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+				for (int i = 0; i < list.length; i++) {
+					list[i] = UUID.fromString(reader.readLine());
+				}
+			}
+			assertEquals(0, process.waitFor());
+			lists.add(list);
+		}
+
+		List<UUID> all = new ArrayList<>();
+		for (UUID[] list : lists) {
+			checkOrdered(list);
+			for (UUID uuid : list) {
+				all.add(uuid);
+			}
+		}
+		assertEquals("Duplicate UUID", all.size(), new HashSet<>(all).size());
+	}
+
+	private static UUID[] create(Path file, int count) throws IOException {
+		UUID[] list = new UUID[count];
+		try (SharedState state = new SharedState(file)) {
+			TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withSharedState(state).build();
+			for (int i = 0; i < count; i++) {
+				list[i] = factory.create();
+			}
+		}
+		return list;
+	}
+
+	private static void checkOrdered(UUID[] list) {
+		for (int i = 1; i < list.length; i++) {
+			assertTrue("Not ordered", UuidComparator.opaqueCompare(list[i - 1], list[i]) < 0);
+		}
+	}
+
+	/**
+	 * Creates UUIDs in another process and writes them to the standard output.
+	 * 
+	 * @param args the shared state file and the number of UUIDs
+	 * @throws IOException if the file can't be used
+	 */
+	public static void main(String[] args) throws IOException {
+		StringBuilder output = new StringBuilder();
+		for (UUID uuid : create(new File(args[0]).toPath(), Integer.parseInt(args[1]))) {
+			output.append(uuid).append('\n');
+		}
+		System.out.print(output);
+		System.out.flush();
+	}
+}
@@ -0,0 +1,198 @@
+package com.github.f4b6a3.uuid.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+import com.github.f4b6a3.uuid.util.UuidComparator;
+import com.github.f4b6a3.uuid.util.UuidUtil;
+
+public class StateStoreTest {
+
+	private static final int DEFAULT_LOOP_MAX = 1_000;
+
+	private static final long TIME = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testNewFile() throws IOException {
+		Path file = folder.getRoot().toPath().resolve("uuid.state");
+		try (StateStore store = new StateStore(file)) {
+			assertEquals(0L, store.getTime());
+			assertEquals(-1L, store.getClockSeq());
+		}
+	}
+
+	@Test
+	public void testAdvanceAndRestore() throws IOException {
+
+		Path file = folder.newFile().toPath();
+
+		try (StateStore store = new StateStore(file, 100)) {
+
+			store.advance(TIME);
+			assertEquals(TIME + 100, store.getTime());
+
+			// within the window, nothing changes
+			store.advance(TIME + 99);
+			assertEquals(TIME + 100, store.getTime());
+
+			// the window is written ahead of the time
+			store.advance(TIME + 100);
+			assertEquals(TIME + 200, store.getTime());
+
+			store.setClockSeq(1234);
+		}
+
+		try (StateStore store = new StateStore(file)) {
+			assertEquals(TIME + 200, store.getTime());
+			assertEquals(1234, store.getClockSeq());
+		}
+	}
+
+	@Test
+	public void testInvalidWindow() throws IOException {
+		Path file = folder.newFile().toPath();
+		for (long window : new long[] { 0, -1, StateStore.MAX_WINDOW + 1 }) {
+			try {
+				new StateStore(file, window).close();
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		}
+	}
+
+	@Test
+	public void testFileInUse() throws IOException {
+		Path file = folder.newFile().toPath();
+		StateStore store = new StateStore(file);
+		try {
+			new StateStore(file).close();
+			fail("Should throw an exception");
+		} catch (IOException e) {
+			// success
+		} finally {
+			store.close();
+		}
+		// released after closing
+		new StateStore(file).close();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testClosed() throws IOException {
+		StateStore store = new StateStore(folder.newFile().toPath());
+		store.close();
+		store.advance(TIME);
+	}
+
+	@Test
+	public void testTimeOrderedEpochAfterRestart() throws IOException {
+		checkTimeOrderedEpochAfterRestart(false);
+		checkTimeOrderedEpochAfterRestart(true);
+	}
+
+	private void checkTimeOrderedEpochAfterRestart(boolean lockFree) throws IOException {
+
+		Path file = folder.newFile().toPath();
+
+		UUID last = null;
+		try (StateStore store = new StateStore(file)) {
+			TimeOrderedEpochFactory factory = builder(lockFree).withClock(clock(TIME)).withStateStore(store).build();
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				last = factory.create();
+			}
+		}
+
+		// the clock is behind the last time after the restart
+		try (StateStore store = new StateStore(file)) {
+			TimeOrderedEpochFactory factory = builder(lockFree).withClock(clock(TIME - 500)).withStateStore(store)
+					.build();
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				UUID uuid = factory.create();
+				assertTrue("Not ordered after restart", UuidComparator.opaqueCompare(last, uuid) < 0);
+				last = uuid;
+			}
+			assertTrue(store.getTime() > UuidUtil.getInstant(last).toEpochMilli());
+		}
+	}
+
+	@Test
+	public void testTimeBasedAfterRestart() throws IOException {
+
+		Path file = folder.newFile().toPath();
+
+		UUID last;
+		try (StateStore store = new StateStore(file)) {
+			TimeBasedFactory factory = TimeBasedFactory.builder().withInstant(Instant.ofEpochMilli(TIME))
+					.withStateStore(store).build();
+			last = factory.create();
+			assertEquals(UuidUtil.getClockSequence(last), store.getClockSeq());
+		}
+
+		// the clock is behind the saved timestamp: the clock sequence changes
+		try (StateStore store = new StateStore(file)) {
+			TimeBasedFactory factory = TimeBasedFactory.builder().withInstant(Instant.ofEpochMilli(TIME - 500))
+					.withStateStore(store).build();
+			UUID uuid = factory.create();
+			assertNotEquals(UuidUtil.getClockSequence(last), UuidUtil.getClockSequence(uuid));
+			assertEquals(UuidUtil.getClockSequence(uuid), store.getClockSeq());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTimeBasedLockFree() throws IOException {
+		try (StateStore store = new StateStore(folder.newFile().toPath())) {
+			TimeBasedFactory.builder().withLockFree().withStateStore(store).build();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTimeBasedWithClockSeqFunction() throws IOException {
+		try (StateStore store = new StateStore(folder.newFile().toPath())) {
+			TimeBasedFactory.builder().withClockSeq(42).withStateStore(store).build();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTimeBasedWithClockSeqFunctionAfterStore() throws IOException {
+		try (StateStore store = new StateStore(folder.newFile().toPath())) {
+			TimeBasedFactory.builder().withStateStore(store).withClockSeqFunction(x -> 42).build();
+		}
+	}
+
+	@Test
+	public void testTimeBasedBuilderReused() throws IOException {
+		try (StateStore store = new StateStore(folder.newFile().toPath())) {
+			TimeBasedFactory.Builder builder = TimeBasedFactory.builder().withStateStore(store);
+			assertNotNull(builder.build().create());
+			assertNotNull(builder.build().create());
+		}
+	}
+
+	private static TimeOrderedEpochFactory.Builder builder(boolean lockFree) {
+		TimeOrderedEpochFactory.Builder builder = TimeOrderedEpochFactory.builder();
+		return lockFree ? builder.withLockFree() : builder;
+	}
+
+	private static Clock clock(long millis) {
+		return Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,202 @@
+package com.github.f4b6a3.uuid.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.factory.rfc4122.RandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+
+public class StripedFactoryTest extends UuidFactoryTest {
+
+	@Test
+	public void testCreate() {
+		StripedFactory factory = new StripedFactory(TimeOrderedEpochFactory::new);
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			list[i] = factory.create();
+		}
+
+		checkNotNull(list);
+		checkVersion(list, 7);
+		checkUniqueness(list);
+		assertEquals(1, factory.stripes());
+	}
+
+	@Test
+	public void testFill() {
+		StripedFactory factory = new StripedFactory(TimeOrderedEpochFactory::new);
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		factory.fill(list);
+
+		long[] msbs = new long[DEFAULT_LOOP_MAX];
+		long[] lsbs = new long[DEFAULT_LOOP_MAX];
+		factory.fill(msbs, lsbs);
+
+		UUID[] all = Arrays.copyOf(list, 2 * DEFAULT_LOOP_MAX);
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			all[DEFAULT_LOOP_MAX + i] = new UUID(msbs[i], lsbs[i]);
+		}
+
+		checkNotNull(all);
+		checkVersion(all, 7);
+		checkUniqueness(all);
+		assertEquals(1, factory.stripes());
+	}
+
+	@Test
+	public void testOneStripePerThread() throws InterruptedException {
+
+		List<NoArgsFactory> created = new ArrayList<>();
+		StripedFactory factory = new StripedFactory(() -> {
+			NoArgsFactory stripe = new RandomBasedFactory();
+			synchronized (created) {
+				created.add(stripe);
+			}
+			return stripe;
+		});
+
+		factory.create();
+		factory.create();
+		assertEquals("The same thread should use the same stripe", 1, created.size());
+
+		Thread thread = new Thread(factory::create);
+		thread.start();
+		thread.join();
+
+		assertEquals("Another thread should use another stripe", 2, created.size());
+		assertNotSame(created.get(0), created.get(1));
+		assertEquals(2, factory.stripes());
+	}
+
+	@Test
+	public void testReclaim() throws InterruptedException {
+
+		AtomicInteger counter = new AtomicInteger();
+		StripedFactory factory = new StripedFactory(() -> {
+			counter.incrementAndGet();
+			return new TimeBasedFactory();
+		});
+
+		Thread thread1 = new Thread(factory::create);
+		thread1.start();
+		thread1.join();
+
+		assertEquals(1, factory.stripes());
+		assertEquals("The stripe of a dead thread should be reclaimed", 1, factory.reclaim());
+		assertEquals(0, factory.stripes());
+		assertEquals("Nothing left to reclaim", 0, factory.reclaim());
+
+		Thread thread2 = new Thread(factory::create);
+		thread2.start();
+		thread2.join();
+
+		assertEquals("The reclaimed stripe should be reused", 1, counter.get());
+	}
+
+	@Test
+	public void testReclaimedStripeIsReused() throws InterruptedException {
+
+		List<NoArgsFactory> created = new ArrayList<>();
+		StripedFactory factory = new StripedFactory(() -> {
+			NoArgsFactory stripe = new TimeOrderedEpochFactory();
+			created.add(stripe);
+			return stripe;
+		});
+
+		// the current thread is alive, so its stripe is never reclaimed
+		factory.create();
+
+		for (int i = 0; i < 10; i++) {
+			Thread thread = new Thread(factory::create);
+			thread.start();
+			thread.join();
+		}
+
+		assertEquals("Stripes of dead threads should be reused", 2, created.size());
+		factory.reclaim();
+		assertEquals(1, factory.stripes());
+	}
+
+	@Test
+	public void testStripesAreBounded() throws InterruptedException {
+
+		final int live = 4;
+		AtomicInteger counter = new AtomicInteger();
+		StripedFactory factory = new StripedFactory(() -> {
+			counter.incrementAndGet();
+			return new RandomBasedFactory();
+		});
+
+		// threads that stay alive until the end of the test
+		CountDownLatch done = new CountDownLatch(1);
+		Thread[] threads = new Thread[live];
+		for (int i = 0; i < live; i++) {
+			threads[i] = new Thread(() -> {
+				factory.create();
+				try {
+					done.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			threads[i].start();
+		}
+
+		// short-lived threads whose stripes are reclaimed in batches
+		for (int i = 0; i < 100; i++) {
+			Thread thread = new Thread(factory::create);
+			thread.start();
+			thread.join();
+		}
+
+		done.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertTrue("Stripes should not grow with dead threads", factory.stripes() <= 2 * (live + 1));
+		assertTrue("Stripes of dead threads should be reused", counter.get() <= 2 * (live + 1));
+	}
+
+	@Test
+	public void testCreateInParallel() throws InterruptedException {
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		TestThread.clearHashSet();
+
+		// All threads share the same striped factory
+		StripedFactory factory = new StripedFactory(TimeBasedFactory::new);
+
+		// Instantiate and start many threads
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new TestThread(factory, DEFAULT_LOOP_MAX);
+			threads[i].start();
+		}
+
+		// Wait all the threads to finish
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// Check if the quantity of unique UUIDs is correct
+		assertEquals(DUPLICATE_UUID_MSG, TestThread.hashSet.size(), (DEFAULT_LOOP_MAX * THREAD_TOTAL));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testNullSupplier() {
+		new StripedFactory(null);
+	}
+}
@@ -3,20 +3,32 @@ package com.github.f4b6a3.uuid.factory;
 import com.github.f4b6a3.uuid.UuidCreator;
 import com.github.f4b6a3.uuid.codec.BinaryCodec;
 import com.github.f4b6a3.uuid.codec.UuidCodec;
+import com.github.f4b6a3.uuid.factory.function.BitsConsumer;
 import com.github.f4b6a3.uuid.factory.function.NodeIdFunction;
 import com.github.f4b6a3.uuid.util.UuidUtil;
 
 import static org.junit.Assert.*;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.IntConsumer;
+
+import org.junit.Assume;
 
 public abstract class UuidFactoryTest {
 
 	protected static final int DEFAULT_LOOP_MAX = 10_000;
 
+	// bytes that may be allocated regardless of the number of calls
+	protected static final int ALLOCATION_TOLERANCE = 1024;
+
 	protected static final String DUPLICATE_UUID_MSG = "A duplicate UUID was created";
 
 	private static final UuidCodec<byte[]> bytesCodec = new BinaryCodec();
@@ -85,6 +97,122 @@ public abstract class UuidFactoryTest {
 		assertEquals("There are duplicated UUIDs", set.size(), list.length);
 	}
 
+	protected void checkCreateInto(NoArgsFactory factory, int version) {
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		long[] bits = new long[2];
+		long[] msbs = new long[1];
+		long[] lsbs = new long[1];
+
+		byte[] bytes = new byte[17];
+		ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			final int index = i;
+			switch (i % 5) {
+			case 0:
+				factory.createInto((msb, lsb) -> list[index] = new UUID(msb, lsb));
+				break;
+			case 1:
+				factory.createInto(bits, 0);
+				list[i] = new UUID(bits[0], bits[1]);
+				break;
+			case 2:
+				factory.createInto(msbs, lsbs, 0);
+				list[i] = new UUID(msbs[0], lsbs[0]);
+				break;
+			case 3:
+				factory.createInto(bytes, 1);
+				list[i] = bytesCodec.decode(Arrays.copyOfRange(bytes, 1, 17));
+				break;
+			default:
+				buffer.clear();
+				factory.createInto(buffer);
+				buffer.flip();
+				list[i] = new UUID(buffer.getLong(), buffer.getLong());
+			}
+		}
+
+		checkNotNull(list);
+		checkVersion(list, version);
+		checkUniqueness(list);
+	}
+
+	protected void checkCreateIntoOutOfBounds(NoArgsFactory factory) {
+
+		final long[] bits = new long[2];
+		final byte[] bytes = new byte[16];
+
+		assertThrows(IndexOutOfBoundsException.class, () -> factory.createInto(bits, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> factory.createInto(bits, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> factory.createInto(bits, new long[1], 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> factory.createInto(bits, bits, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> factory.createInto(bytes, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> factory.createInto(bytes, -1));
+		assertThrows(BufferOverflowException.class, () -> factory.createInto(ByteBuffer.allocate(15)));
+		assertThrows(ReadOnlyBufferException.class,
+				() -> factory.createInto(ByteBuffer.allocate(16).asReadOnlyBuffer()));
+
+		// nothing is written if there is no room
+		assertArrayEquals(new long[2], bits);
+		assertArrayEquals(new byte[16], bytes);
+	}
+
+	protected void checkCreateIntoWithoutAllocation(NoArgsFactory factory) {
+
+		final long[] bits = new long[2];
+		final long[] msbs = new long[DEFAULT_LOOP_MAX];
+		final long[] lsbs = new long[DEFAULT_LOOP_MAX];
+		final byte[] bytes = new byte[16];
+		final ByteBuffer heap = ByteBuffer.allocate(16);
+		final ByteBuffer direct = ByteBuffer.allocateDirect(16);
+		final BitsConsumer consumer = (msb, lsb) -> bits[0] ^= msb ^ lsb;
+
+		final IntConsumer action = (count) -> {
+			for (int i = 0; i < count; i++) {
+				factory.createInto(consumer);
+				factory.createInto(bits, 0);
+				factory.createInto(msbs, lsbs, i % DEFAULT_LOOP_MAX);
+				factory.createInto(bytes, 0);
+				heap.clear();
+				factory.createInto(heap);
+				direct.clear();
+				factory.createInto(direct);
+			}
+		};
+
+		// the allocation must not grow with the number of calls
+		long allocated1 = allocatedBytes(action, DEFAULT_LOOP_MAX);
+		long allocated2 = allocatedBytes(action, DEFAULT_LOOP_MAX * 2);
+		assertTrue("Allocated " + allocated1 + " and " + allocated2 + " bytes",
+				allocated2 - allocated1 < ALLOCATION_TOLERANCE);
+	}
+
+	/**
+	 * Returns the number of bytes allocated by the current thread while running an
+	 * action a number of times. The action is run twice as many times before the
+	 * measurement to warm up.
+	 */
+	protected static long allocatedBytes(IntConsumer action, int count) {
+
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+		Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+
+		final long id = Thread.currentThread().getId();
+		threadBean.getThreadAllocatedBytes(id);
+		action.accept(count * 2); // warm up
+
+		final long before = threadBean.getThreadAllocatedBytes(id);
+		action.accept(count);
+		final long after = threadBean.getThreadAllocatedBytes(id);
+
+		return after - before;
+	}
+
 	protected void testGetAbstractTimeBased(AbstTimeBasedFactory factory, boolean multicast) {
 
 		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
@@ -0,0 +1,137 @@
+package com.github.f4b6a3.uuid.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.factory.rfc4122.RandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+
+public class UuidPoolTest extends UuidFactoryTest {
+
+	@Test
+	public void testCreate() throws InterruptedException {
+		try (UuidPool pool = new UuidPool(new TimeOrderedEpochFactory())) {
+
+			awaitFull(pool);
+
+			UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				list[i] = pool.create();
+			}
+
+			checkNotNull(list);
+			checkVersion(list, 7);
+			checkUniqueness(list);
+			assertEquals(DEFAULT_LOOP_MAX, pool.getHits() + pool.getMisses());
+			assertTrue(pool.getHits() >= pool.capacity());
+		}
+	}
+
+	@Test
+	public void testCreateWithEmptyBuffer() throws InterruptedException {
+
+		// the refill thread is blocked
+		final CountDownLatch latch = new CountDownLatch(1);
+		final NoArgsFactory factory = new NoArgsFactory() {
+			private final RandomBasedFactory delegate = new RandomBasedFactory();
+
+			@Override
+			public UUID create() {
+				if (Thread.currentThread().getName().equals("UuidPool-refill")) {
+					try {
+						latch.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return delegate.create();
+			}
+		};
+
+		try (UuidPool pool = new UuidPool(factory, 16, 4)) {
+
+			for (int i = 0; i < 100; i++) {
+				assertEquals(4, pool.create().version());
+			}
+			assertEquals(0, pool.getHits());
+			assertEquals(100, pool.getMisses());
+
+			latch.countDown();
+			awaitFull(pool);
+
+			for (int i = 0; i < pool.capacity(); i++) {
+				pool.create();
+			}
+			assertEquals(pool.capacity(), pool.getHits());
+		}
+	}
+
+	@Test
+	public void testCreateInParallel() throws InterruptedException {
+
+		final Set<UUID> set = ConcurrentHashMap.newKeySet();
+
+		try (UuidPool pool = new UuidPool(new RandomBasedFactory(), 64, 16)) {
+
+			Thread[] threads = new Thread[THREAD_TOTAL];
+			for (int i = 0; i < THREAD_TOTAL; i++) {
+				threads[i] = new Thread(() -> {
+					for (int j = 0; j < DEFAULT_LOOP_MAX; j++) {
+						set.add(pool.create());
+					}
+				});
+				threads[i].start();
+			}
+
+			for (Thread thread : threads) {
+				thread.join();
+			}
+
+			assertEquals(DUPLICATE_UUID_MSG, (DEFAULT_LOOP_MAX * THREAD_TOTAL), set.size());
+			assertEquals(DEFAULT_LOOP_MAX * THREAD_TOTAL, pool.getHits() + pool.getMisses());
+		}
+	}
+
+	@Test
+	public void testCapacity() {
+		try (UuidPool pool = new UuidPool(new RandomBasedFactory(), 100, 10)) {
+			assertEquals(128, pool.capacity());
+		}
+	}
+
+	@Test
+	public void testCreateAfterClose() throws InterruptedException {
+		UuidPool pool = new UuidPool(new RandomBasedFactory(), 16, 4);
+		awaitFull(pool);
+		pool.close();
+		for (int i = 0; i < 100; i++) {
+			assertEquals(4, pool.create().version());
+		}
+		assertEquals(16, pool.getHits());
+		assertEquals(84, pool.getMisses());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCapacity() {
+		new UuidPool(new RandomBasedFactory(), 0, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidLowWater() {
+		new UuidPool(new RandomBasedFactory(), 16, 17);
+	}
+
+	private static void awaitFull(UuidPool pool) throws InterruptedException {
+		for (int i = 0; i < 1000 && pool.size() < pool.capacity(); i++) {
+			Thread.sleep(10);
+		}
+		assertEquals(pool.capacity(), pool.size());
+	}
+}
@@ -0,0 +1,221 @@
+package com.github.f4b6a3.uuid.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.factory.rfc4122.DceSecurityFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.RandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedFactory;
+
+public class UuidPublisherTest extends UuidFactoryTest {
+
+	@Test
+	public void testOrdering() {
+		testOrdering(new TimeOrderedEpochFactory());
+		testOrdering(TimeOrderedEpochFactory.builder().withIncrementPlus1().build());
+		testOrdering(TimeOrderedEpochFactory.builder().withLockFree().build());
+		testOrdering(new TimeOrderedFactory());
+	}
+
+	private void testOrdering(NoArgsFactory factory) {
+
+		// requests of different sizes, made in `onNext`
+		TestSubscriber subscriber = new TestSubscriber(1) {
+			@Override
+			public void onNext(UUID item) {
+				super.onNext(item);
+				if (items.size() == DEFAULT_LOOP_MAX) {
+					subscription.cancel();
+				} else if (items.size() % 7 == 0) {
+					request(items.size() % 1000 + 1);
+				} else if (items.size() == requested) {
+					request(1);
+				}
+			}
+		};
+		new UuidPublisher(factory).subscribe(subscriber);
+
+		UUID[] list = subscriber.items.toArray(new UUID[0]);
+		assertEquals(DEFAULT_LOOP_MAX, list.length);
+		checkNotNull(list);
+		checkUniqueness(list);
+		for (int i = 1; i < list.length; i++) {
+			assertTrue("The UUID list is not monotonic", list[i - 1].compareTo(list[i]) < 0);
+		}
+	}
+
+	@Test
+	public void testBackpressure() {
+		TestSubscriber subscriber = new TestSubscriber(10);
+		new UuidPublisher(new RandomBasedFactory()).subscribe(subscriber);
+		assertEquals(10, subscriber.items.size());
+
+		subscriber.request(5);
+		assertEquals(15, subscriber.items.size());
+		assertEquals(0, subscriber.completed);
+	}
+
+	@Test
+	public void testOneBatchPerRequest() {
+
+		final AtomicInteger calls = new AtomicInteger();
+		final NoArgsFactory factory = new NoArgsFactory() {
+			private final RandomBasedFactory delegate = new RandomBasedFactory();
+
+			@Override
+			public UUID create() {
+				return delegate.create();
+			}
+
+			@Override
+			public void fill(UUID[] uuids) {
+				calls.incrementAndGet();
+				delegate.fill(uuids);
+			}
+		};
+
+		TestSubscriber subscriber = new TestSubscriber(100);
+		new UuidPublisher(factory).subscribe(subscriber);
+		assertEquals(100, subscriber.items.size());
+		assertEquals(1, calls.get());
+
+		subscriber.request(UuidPublisher.MAX_BATCH_SIZE);
+		assertEquals(2, calls.get());
+
+		// larger requests are split
+		subscriber.request(2 * UuidPublisher.MAX_BATCH_SIZE + 1);
+		assertEquals(5, calls.get());
+		assertEquals(100 + 3 * UuidPublisher.MAX_BATCH_SIZE + 1, subscriber.items.size());
+	}
+
+	@Test
+	public void testCancel() {
+		TestSubscriber subscriber = new TestSubscriber(100) {
+			@Override
+			public void onNext(UUID item) {
+				super.onNext(item);
+				if (items.size() == 5) {
+					subscription.cancel();
+				}
+			}
+		};
+		new UuidPublisher(new RandomBasedFactory()).subscribe(subscriber);
+		assertEquals(5, subscriber.items.size());
+
+		// no more items after cancel
+		subscriber.request(100);
+		assertEquals(5, subscriber.items.size());
+		assertEquals(0, subscriber.completed);
+		assertNull(subscriber.error);
+	}
+
+	@Test
+	public void testComplete() {
+		TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+		new UuidPublisher(new RandomBasedFactory(), 1000).subscribe(subscriber);
+		assertEquals(1000, subscriber.items.size());
+		assertEquals(1, subscriber.completed);
+
+		subscriber.request(1);
+		assertEquals(1000, subscriber.items.size());
+		assertEquals(1, subscriber.completed);
+
+		// completes without demand
+		subscriber = new TestSubscriber(0);
+		new UuidPublisher(new RandomBasedFactory(), 0).subscribe(subscriber);
+		assertEquals(0, subscriber.items.size());
+		assertEquals(1, subscriber.completed);
+	}
+
+	@Test
+	public void testReentrantRequest() {
+		// one item at a time, requested in `onNext`, doesn't grow the call stack
+		TestSubscriber subscriber = new TestSubscriber(1) {
+			@Override
+			public void onNext(UUID item) {
+				super.onNext(item);
+				request(1);
+			}
+		};
+		new UuidPublisher(new RandomBasedFactory(), 100_000).subscribe(subscriber);
+		assertEquals(100_000, subscriber.items.size());
+		assertEquals(1, subscriber.completed);
+	}
+
+	@Test
+	public void testInvalidRequest() {
+		TestSubscriber subscriber = new TestSubscriber(0);
+		new UuidPublisher(new RandomBasedFactory()).subscribe(subscriber);
+		subscriber.request(0);
+		assertTrue(subscriber.error instanceof IllegalArgumentException);
+
+		subscriber.request(1);
+		assertEquals(0, subscriber.items.size());
+	}
+
+	@Test
+	public void testFactoryError() {
+		TestSubscriber subscriber = new TestSubscriber(1);
+		new UuidPublisher(new DceSecurityFactory()).subscribe(subscriber);
+		assertTrue(subscriber.error instanceof UnsupportedOperationException);
+		assertEquals(0, subscriber.items.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeCount() {
+		new UuidPublisher(new RandomBasedFactory(), -1);
+	}
+
+	private static class TestSubscriber implements UuidPublisher.Subscriber<UUID> {
+
+		protected final long initial;
+		protected long requested;
+		protected UuidPublisher.Subscription subscription;
+
+		protected final List<UUID> items = new ArrayList<>();
+		protected int completed;
+		protected Throwable error;
+
+		public TestSubscriber(long initial) {
+			this.initial = initial;
+		}
+
+		@Override
+		public void onSubscribe(UuidPublisher.Subscription subscription) {
+			this.subscription = subscription;
+			if (initial > 0) {
+				request(initial);
+			}
+		}
+
+		public void request(long n) {
+			requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+			subscription.request(n);
+		}
+
+		@Override
+		public void onNext(UUID item) {
+			assertTrue("More items than requested", items.size() < requested || requested == Long.MAX_VALUE);
+			items.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed++;
+		}
+	}
+}
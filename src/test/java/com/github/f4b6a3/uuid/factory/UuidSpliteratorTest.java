@@ -0,0 +1,113 @@
+package com.github.f4b6a3.uuid.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.github.f4b6a3.uuid.factory.rfc4122.RandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedFactory;
+
+public class UuidSpliteratorTest extends UuidFactoryTest {
+
+	@Test
+	public void testStream() {
+		UUID[] list = UuidCreator.stream(TimeOrderedEpochFactory::new, DEFAULT_LOOP_MAX).toArray(UUID[]::new);
+		assertEquals(DEFAULT_LOOP_MAX, list.length);
+		checkNotNull(list);
+		checkVersion(list, 7);
+		checkUniqueness(list);
+
+		// a sequential stream uses a single factory
+		checkOrdering(list);
+	}
+
+	@Test
+	public void testParallelStream() {
+		testParallelStream(RandomBasedFactory::new, 4);
+		testParallelStream(TimeBasedFactory::new, 1);
+		testParallelStream(TimeOrderedFactory::new, 6);
+		testParallelStream(TimeOrderedEpochFactory::new, 7);
+	}
+
+	private void testParallelStream(Supplier<? extends NoArgsFactory> supplier, int version) {
+		final int size = DEFAULT_LOOP_MAX * THREAD_TOTAL;
+		UUID[] list = UuidCreator.stream(supplier, size).parallel().toArray(UUID[]::new);
+		assertEquals(size, list.length);
+		checkNotNull(list);
+		checkVersion(list, version);
+		checkUniqueness(list);
+	}
+
+	@Test
+	public void testOneFactoryPerSplit() {
+
+		final AtomicInteger factories = new AtomicInteger();
+		final Supplier<NoArgsFactory> supplier = () -> {
+			factories.incrementAndGet();
+			return new TimeOrderedEpochFactory();
+		};
+
+		UuidSpliterator spliterator = new UuidSpliterator(supplier, 10_000);
+		Spliterator<UUID> split1 = spliterator.trySplit();
+		Spliterator<UUID> split2 = split1.trySplit();
+		assertNotNull(split2);
+		assertEquals(0, factories.get());
+
+		List<UUID> list = new ArrayList<>();
+		spliterator.forEachRemaining(list::add);
+		split1.forEachRemaining(list::add);
+		split2.forEachRemaining(list::add);
+
+		assertEquals(3, factories.get());
+		assertEquals(10_000, list.size());
+		checkUniqueness(list.toArray(new UUID[0]));
+	}
+
+	@Test
+	public void testSplit() {
+		UuidSpliterator spliterator = new UuidSpliterator(RandomBasedFactory::new, 10_000);
+		Spliterator<UUID> split = spliterator.trySplit();
+		assertEquals(5_000, spliterator.estimateSize());
+		assertEquals(5_000, split.estimateSize());
+		assertEquals(5_000, split.getExactSizeIfKnown());
+
+		// too small to split
+		assertNull(new UuidSpliterator(RandomBasedFactory::new, 100).trySplit());
+	}
+
+	@Test
+	public void testTryAdvance() {
+
+		UuidSpliterator spliterator = new UuidSpliterator(RandomBasedFactory::new, 1000);
+
+		// single and bulk traversals are mixed
+		List<UUID> list = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			spliterator.tryAdvance(list::add);
+		}
+		assertEquals(700, spliterator.estimateSize());
+		spliterator.forEachRemaining(list::add);
+
+		assertEquals(1000, list.size());
+		assertEquals(0, spliterator.estimateSize());
+		assertEquals(false, spliterator.tryAdvance(list::add));
+		checkUniqueness(list.toArray(new UUID[0]));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeSize() {
+		UuidCreator.stream(RandomBasedFactory::new, -1);
+	}
+}
@@ -0,0 +1,136 @@
+package com.github.f4b6a3.uuid.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.factory.nonstandard.PrefixCombFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.RandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedFactory;
+
+/**
+ * Runs 100k virtual threads that share a factory. Skipped before JDK 21.
+ * 
+ * Besides uniqueness, it checks with JFR that no virtual thread was pinned to
+ * its carrier while the factory was in use. The JFR API is used through
+ * reflection, so that this class compiles with JDK 8.
+ */
+public class VirtualThreadTest {
+
+	private static final int THREAD_TOTAL = 100_000;
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	@Test
+	public void testTimeBased() throws Exception {
+		check(new TimeBasedFactory());
+	}
+
+	@Test
+	public void testTimeOrdered() throws Exception {
+		check(new TimeOrderedFactory());
+	}
+
+	@Test
+	public void testTimeOrderedEpoch() throws Exception {
+		check(new TimeOrderedEpochFactory());
+	}
+
+	@Test
+	public void testTimeOrderedEpochLockFree() throws Exception {
+		check(TimeOrderedEpochFactory.builder().withLockFree().build());
+	}
+
+	@Test
+	public void testRandomBased() throws Exception {
+		check(new RandomBasedFactory());
+	}
+
+	@Test
+	public void testPrefixComb() throws Exception {
+		check(new PrefixCombFactory());
+	}
+
+	private static void check(final NoArgsFactory factory) throws Exception {
+
+		final Set<UUID> set = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		final Object recording = startPinningRecording();
+
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			executor.execute(() -> set.add(factory.create()));
+		}
+
+		executor.shutdown();
+		assertTrue("Virtual threads didn't finish", executor.awaitTermination(60, TimeUnit.SECONDS));
+		assertEquals("A duplicate UUID was created", THREAD_TOTAL, set.size());
+		assertEquals("A virtual thread was pinned", 0, stopPinningRecording(recording));
+	}
+
+	/**
+	 * Starts a JFR recording of every `jdk.VirtualThreadPinned` event, whatever
+	 * its duration.
+	 */
+	private static Object startPinningRecording() throws Exception {
+		final Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+		final Class<?> settingsClass = Class.forName("jdk.jfr.EventSettings");
+		final Object recording = recordingClass.getConstructor().newInstance();
+		final Object settings = recordingClass.getMethod("enable", String.class).invoke(recording, PINNED_EVENT);
+		settingsClass.getMethod("withThreshold", Duration.class).invoke(settings, Duration.ZERO);
+		recordingClass.getMethod("start").invoke(recording);
+		return recording;
+	}
+
+	/**
+	 * Stops a JFR recording and returns the number of pinning events.
+	 */
+	private static int stopPinningRecording(final Object recording) throws Exception {
+		final Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+		final Class<?> fileClass = Class.forName("jdk.jfr.consumer.RecordingFile");
+		final Class<?> eventClass = Class.forName("jdk.jfr.consumer.RecordedEvent");
+		final Class<?> typeClass = Class.forName("jdk.jfr.EventType");
+		final Path path = Files.createTempFile("uuid-creator-", ".jfr");
+		try {
+			recordingClass.getMethod("stop").invoke(recording);
+			recordingClass.getMethod("dump", Path.class).invoke(recording, path);
+			int count = 0;
+			for (Object event : (List<?>) fileClass.getMethod("readAllEvents", Path.class).invoke(null, path)) {
+				final Object type = eventClass.getMethod("getEventType").invoke(event);
+				if (PINNED_EVENT.equals(typeClass.getMethod("getName").invoke(type))) {
+					count++;
+				}
+			}
+			return count;
+		} finally {
+			recordingClass.getMethod("close").invoke(recording);
+			Files.deleteIfExists(path);
+		}
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+		final Method method;
+		try {
+			method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		} catch (NoSuchMethodException e) {
+			Assume.assumeTrue("Virtual threads require JDK 21+", false);
+			return null;
+		}
+		return (ExecutorService) method.invoke(null);
+	}
+}
@@ -3,6 +3,7 @@ package com.github.f4b6a3.uuid.factory.function;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -122,6 +123,68 @@ public class ClockSeqPoolTest {
 		assertEquals("Duplicate clock sequence", CLOCK_SEQUENCE_MAX, unique.size());
 	}
 
+	@Test
+	public void testClockSequencePool6() {
+
+		ClockSeqPool pool = new ClockSeqPool();
+
+		// Leave only a few values free in different words
+		int[] free = { 5, 64, 4100, 16383 };
+		for (int i = 0; i < CLOCK_SEQUENCE_MAX; i++) {
+			pool.take(i);
+		}
+		pool.clearPool();
+		for (int i = 0; i < CLOCK_SEQUENCE_MAX; i++) {
+			if (Arrays.binarySearch(free, i) < 0) {
+				pool.take(i);
+			}
+		}
+		assertEquals(free.length, pool.countFree());
+
+		// The search goes forward across words and wraps around
+		assertEquals(4100, pool.take(4097));
+		assertEquals(16383, pool.take(4101));
+		assertEquals(5, pool.take(16383));
+		assertEquals(64, pool.take(6));
+		assertEquals(0, pool.countFree());
+
+		// Negative values are taken as zero
+		pool.clearPool();
+		assertEquals(0, pool.take(-1));
+		assertEquals(1, pool.take(-100));
+	}
+
+	@Test
+	public void testClockSequencePool7() throws InterruptedException {
+
+		ClockSeqPool pool = new ClockSeqPool();
+		int[] taken = new int[CLOCK_SEQUENCE_MAX];
+		int share = CLOCK_SEQUENCE_MAX / THREAD_TOTAL;
+
+		// Many threads take values in the same words at the same time
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		for (int t = 0; t < THREAD_TOTAL; t++) {
+			final int offset = t * share;
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < share; i++) {
+					taken[offset + i] = pool.take(i);
+				}
+			});
+			threads[t].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		HashSet<Integer> unique = new HashSet<>();
+		for (int i = 0; i < share * THREAD_TOTAL; i++) {
+			assertTrue("Duplicate clock sequence", unique.add(taken[i]));
+			assertTrue("Value not used", pool.isUsed(taken[i]));
+		}
+		assertEquals(share * THREAD_TOTAL, pool.countUsed());
+	}
+
 	private static class TestThread extends Thread {
 
 		private int index;
@@ -140,4 +203,21 @@ public class ClockSeqPoolTest {
 			list[index] = pool.take(take);
 		}
 	}
+
+	@Test
+	public void testTakeOutOfRange() {
+
+		ClockSeqPool pool = new ClockSeqPool();
+
+		// negative values are taken as zero
+		assertEquals(0, pool.take(-1));
+		assertEquals(1, pool.take(-1));
+		assertEquals(2, pool.take(Integer.MIN_VALUE));
+		assertEquals(3, pool.take(-CLOCK_SEQUENCE_MAX));
+
+		// greater values are taken modulo the pool size
+		assertEquals(100, pool.take(CLOCK_SEQUENCE_MAX + 100));
+		assertEquals(ClockSeqPool.POOL_MAX, pool.take(Integer.MAX_VALUE));
+		assertEquals(6, pool.countUsed());
+	}
 }
@@ -0,0 +1,153 @@
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
+import com.github.f4b6a3.uuid.factory.rfc4122.RandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+
+public class BufferedRandomFunctionTest extends UuidFactoryTest {
+
+	@Test
+	public void testApply() {
+
+		final long seed = new Random().nextLong();
+		BufferedRandomFunction function = new BufferedRandomFunction(new Random(seed), 64);
+
+		// the slices are contiguous parts of the blocks
+		ByteBuffer buffer = ByteBuffer.allocate(64 * 10);
+		while (buffer.remaining() >= 10) {
+			buffer.put(function.apply(10));
+		}
+		buffer.put(function.apply(buffer.remaining()));
+
+		byte[] expected = new byte[64 * 10];
+		Random random = new Random(seed);
+		for (int i = 0; i < 10; i++) {
+			byte[] block = new byte[64];
+			random.nextBytes(block);
+			System.arraycopy(block, 0, expected, i * 64, 64);
+		}
+
+		assertArrayEquals(expected, buffer.array());
+	}
+
+	@Test
+	public void testRefillOncePerBlock() {
+
+		CountingRandom random = new CountingRandom();
+		BufferedRandomFunction function = new BufferedRandomFunction(random, 1024);
+
+		for (int i = 0; i < 1024; i++) {
+			function.apply(16);
+		}
+		assertEquals(16, random.blocks.size());
+
+		for (int i = 0; i < 1024; i++) {
+			function.nextLong();
+		}
+		assertEquals(24, random.blocks.size());
+	}
+
+	@Test
+	public void testWipeAfterUse() {
+
+		CountingRandom random = new CountingRandom();
+		BufferedRandomFunction function = new BufferedRandomFunction(random, 64);
+
+		function.apply(10);
+		function.nextLong();
+		byte[] block = random.blocks.get(0);
+		assertArrayEquals("Used bytes should be wiped", new byte[18], Arrays.copyOfRange(block, 0, 18));
+		assertNotEquals("Unused bytes should not be wiped yet", 0, block[63]);
+
+		function.wipe();
+		assertArrayEquals(new byte[64], block);
+
+		// a new block is used after the wipe
+		function.apply(1);
+		assertEquals(2, random.blocks.size());
+	}
+
+	@Test
+	public void testOneBlockPerThread() throws InterruptedException {
+
+		CountingRandom random = new CountingRandom();
+		BufferedRandomFunction function = new BufferedRandomFunction(random, 64);
+
+		function.nextLong();
+		Thread thread = new Thread(function::nextLong);
+		thread.start();
+		thread.join();
+		function.nextLong();
+
+		assertEquals(2, random.blocks.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBlockSizeTooSmall() {
+		new BufferedRandomFunction(BufferedRandomFunction.MIN_BLOCK_SIZE - 1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNullRandom() {
+		new BufferedRandomFunction(null, BufferedRandomFunction.DEFAULT_BLOCK_SIZE);
+	}
+
+	@Test
+	public void testFactories() {
+
+		BufferedRandomFunction function = new BufferedRandomFunction();
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withRandomFunction(function).build();
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			list[i] = factory.create();
+		}
+		checkVersion(list, 7);
+		checkOrdering(list);
+		checkUniqueness(list);
+
+		RandomBasedFactory randomBased = new RandomBasedFactory(function);
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			list[i] = randomBased.create();
+		}
+		checkVersion(list, 4);
+		checkUniqueness(list);
+	}
+
+	@Test
+	public void testFactoriesWithoutAllocation() {
+
+		// SecureRandom may create objects when a block is refilled, Random doesn't
+		BufferedRandomFunction function = new BufferedRandomFunction(new Random(), 4096);
+
+		checkCreateIntoWithoutAllocation(TimeOrderedEpochFactory.builder().withRandomFunction(function).build());
+		checkCreateIntoWithoutAllocation(new RandomBasedFactory(function));
+	}
+
+	private static class CountingRandom extends Random {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<byte[]> blocks = new ArrayList<>();
+
+		@Override
+		public synchronized void nextBytes(byte[] bytes) {
+			super.nextBytes(bytes);
+			bytes[bytes.length - 1] |= 1; // never zero
+			blocks.add(bytes);
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.factory.rfc4122.RandomBasedFactory;
+
+public class DefaultRandomFunctionTest {
+
+	@Test
+	public void testApply() {
+		DefaultRandomFunction function = new DefaultRandomFunction();
+		for (int i = 0; i < 64; i++) {
+			assertEquals(i, function.apply(i).length);
+		}
+	}
+
+	@Test
+	public void testSameThreadSameInstance() {
+		Random random = DefaultRandomFunction.current();
+		assertNotNull(random);
+		assertSame(random, DefaultRandomFunction.current());
+	}
+
+	@Test
+	public void testOtherThreadOtherInstance() throws InterruptedException {
+
+		final Random random = DefaultRandomFunction.current();
+		final AtomicReference<Random> other = new AtomicReference<>();
+
+		Thread thread = new Thread(() -> other.set(DefaultRandomFunction.current()));
+		thread.start();
+		thread.join();
+
+		assertNotNull(other.get());
+		assertNotSame(random, other.get());
+	}
+
+	@Test
+	public void testLiveThreadsNeverShare() throws InterruptedException {
+
+		// more threads than processors, all alive at the same time
+		final int threadCount = 2 * Runtime.getRuntime().availableProcessors() + 1;
+		final Set<Random> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+		final CountDownLatch ready = new CountDownLatch(threadCount);
+
+		Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			threads[i] = new Thread(() -> {
+				synchronized (instances) {
+					instances.add(DefaultRandomFunction.current());
+				}
+				ready.countDown();
+				try {
+					ready.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(threadCount, instances.size());
+	}
+
+	@Test
+	public void testStripesAreBounded() {
+
+		final Set<Random> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (long id = 0; id < 4 * DefaultRandomFunction.STRIPES; id++) {
+			Random random = DefaultRandomFunction.stripe(id);
+			assertNotNull(random);
+			assertSame(random, DefaultRandomFunction.stripe(id + DefaultRandomFunction.STRIPES));
+			instances.add(random);
+		}
+
+		// consecutive thread IDs use different stripes
+		assertEquals(DefaultRandomFunction.STRIPES, instances.size());
+		assertTrue(DefaultRandomFunction.STRIPES >= 2 * Runtime.getRuntime().availableProcessors());
+	}
+
+	@Test
+	public void testVirtualThreadsUseStripes() throws Exception {
+
+		final Method start;
+		try {
+			start = Thread.class.getMethod("startVirtualThread", Runnable.class);
+		} catch (NoSuchMethodException e) {
+			Assume.assumeTrue("Virtual threads require JDK 21+", false);
+			return;
+		}
+
+		final int threadCount = 10_000;
+		final Set<Random> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+		final Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			threads[i] = (Thread) start.invoke(null, (Runnable) () -> {
+				final Random random = DefaultRandomFunction.current();
+				synchronized (instances) {
+					instances.add(random);
+				}
+			});
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// no instance per virtual thread
+		assertTrue(instances.size() <= DefaultRandomFunction.STRIPES);
+	}
+
+	@Test
+	public void testConcurrentUse() throws InterruptedException {
+
+		final int threadCount = 8;
+		final RandomBasedFactory factory = new RandomBasedFactory(new DefaultRandomFunction());
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+
+		Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			threads[i] = new Thread(() -> {
+				try {
+					for (int j = 0; j < 1000; j++) {
+						assertEquals(4, factory.create().version());
+					}
+				} catch (Throwable e) {
+					error.set(e);
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertNull(error.get());
+	}
+}
@@ -9,6 +9,8 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.concurrent.ThreadLocalRandom;
 
+import com.github.f4b6a3.uuid.factory.function.TimeFunction;
+
 public class DefaultTimeFunctionTest {
 
 	private static final int DEFAULT_LOOP_MAX = 1_000_000;
@@ -59,4 +61,30 @@ public class DefaultTimeFunctionTest {
 			lastTs = ts;
 		}
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testTryGetAsLongNotReady() {
+
+		LeaseAheadTimeFunctionTest.AdjustableClock clock = new LeaseAheadTimeFunctionTest.AdjustableClock(
+				System.currentTimeMillis());
+		DefaultTimeFunction function = new DefaultTimeFunction(clock);
+
+		// the counter runs out while the time repeats
+		long last = 0;
+		int count = 0;
+		long timestamp;
+		while ((timestamp = function.tryGetAsLong()) != TimeFunction.NOT_READY) {
+			assertTrue("The timestamp should increase", timestamp > last);
+			last = timestamp;
+			count++;
+		}
+		assertTrue("Too many timestamps in the same time: " + count, count <= 10_000);
+
+		// nothing changes while the time doesn't advance
+		assertEquals(TimeFunction.NOT_READY, function.tryGetAsLong());
+		assertEquals(TimeFunction.NOT_READY, function.tryGetAsLong());
+
+		clock.millis.addAndGet(1);
+		assertTrue("The timestamp should increase", function.tryGetAsLong() > last);
+	}
+}
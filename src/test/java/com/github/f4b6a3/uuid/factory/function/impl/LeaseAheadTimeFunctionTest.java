@@ -0,0 +1,140 @@
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import static org.junit.Assert.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeBasedFactory;
+
+public class LeaseAheadTimeFunctionTest {
+
+	private static final int DEFAULT_LOOP_MAX = 1_000_000;
+	private static final long TICKS_PER_MILLI = 10_000;
+
+	@Test
+	public void testGetTimestampMillisecond() {
+		LeaseAheadTimeFunction function = new LeaseAheadTimeFunction();
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			long m1 = System.currentTimeMillis();
+			long ts = function.getAsLong() / TICKS_PER_MILLI;
+			// TS can be ahead due to borrowed milliseconds and counter shift
+			long m2 = System.currentTimeMillis() + function.getMaxLead() + 1;
+			assertTrue("The current timstamp millisecond is incorrect", ts >= m1 && ts <= m2);
+			assertTrue("The lead is too long", function.getLead() <= function.getMaxLead());
+		}
+	}
+
+	@Test
+	public void testBorrowWithFixedClock() {
+
+		final long millis = System.currentTimeMillis();
+		final long maxLead = 5;
+		Clock clock = Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+		LeaseAheadTimeFunction function = new LeaseAheadTimeFunction(clock, maxLead);
+
+		// never blocks, even if the clock doesn't advance
+		long lastTs = function.getAsLong();
+		long lastLead = function.getLead();
+		int resets = 0;
+		for (int i = 0; i < (maxLead + 2) * TICKS_PER_MILLI; i++) {
+			long ts = function.getAsLong();
+			if (ts <= lastTs) {
+				// goes back to the clock only when the lead is exhausted
+				assertEquals(maxLead, lastLead);
+				assertEquals(millis, ts / TICKS_PER_MILLI);
+				resets++;
+			}
+			lastLead = function.getLead();
+			assertTrue("The lead is too long", lastLead <= maxLead);
+			lastTs = ts;
+		}
+		assertEquals(1, resets);
+	}
+
+	@Test
+	public void testCatchUp() {
+
+		AdjustableClock clock = new AdjustableClock(System.currentTimeMillis());
+		LeaseAheadTimeFunction function = new LeaseAheadTimeFunction(clock);
+
+		for (int i = 0; i < 3 * TICKS_PER_MILLI; i++) {
+			function.getAsLong();
+		}
+		assertTrue(function.getLead() > 0);
+
+		// the clock passes the borrowed time
+		clock.millis.addAndGet(function.getMaxLead() + 1);
+		long ts = function.getAsLong();
+		assertEquals(0, function.getLead());
+		assertEquals(clock.millis(), ts / TICKS_PER_MILLI);
+	}
+
+	@Test
+	public void testGetTimestampMonotonicity() {
+		long lastTs = 0;
+		LeaseAheadTimeFunction function = new LeaseAheadTimeFunction();
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			// it goes back to the clock only if the lead is exhausted
+			long lead = function.getLead();
+			long ts = function.getAsLong();
+			if (lead < function.getMaxLead()) {
+				assertTrue("The current timstamp should be greater than the last one", ts > lastTs);
+			}
+			lastTs = ts;
+		}
+	}
+
+	@Test
+	public void testUniquenessWithFactory() {
+		Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+		TimeBasedFactory factory = TimeBasedFactory.builder().withTimeFunction(new LeaseAheadTimeFunction(clock))
+				.build();
+		Set<UUID> set = new HashSet<>();
+		for (int i = 0; i < DEFAULT_LOOP_MAX / 4; i++) {
+			assertTrue("A duplicate UUID was created", set.add(factory.create()));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeMaxLead() {
+		new LeaseAheadTimeFunction(Clock.systemUTC(), -1);
+	}
+
+	static class AdjustableClock extends Clock {
+
+		final AtomicLong millis;
+
+		AdjustableClock(long millis) {
+			this.millis = new AtomicLong(millis);
+		}
+
+		@Override
+		public long millis() {
+			return this.millis.get();
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis());
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+	}
+}
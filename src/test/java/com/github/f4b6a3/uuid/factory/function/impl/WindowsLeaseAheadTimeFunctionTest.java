@@ -0,0 +1,81 @@
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import static org.junit.Assert.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.factory.function.impl.LeaseAheadTimeFunctionTest.AdjustableClock;
+
+public class WindowsLeaseAheadTimeFunctionTest {
+
+	private static final int DEFAULT_LOOP_MAX = 1_000_000;
+	private static final long TICKS_PER_MILLI = 10_000;
+	private static final long GRANULARITY = 16;
+
+	@Test
+	public void testGetTimestampMillisecond() {
+		WindowsLeaseAheadTimeFunction function = new WindowsLeaseAheadTimeFunction();
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			long m1 = System.currentTimeMillis();
+			long ts = function.getAsLong() / TICKS_PER_MILLI;
+			// TS can be ahead due to borrowed intervals, time granularity and counter shift
+			long m2 = System.currentTimeMillis() + function.getMaxLead() + 48;
+			assertTrue("The current timstamp millisecond is incorrect", ts >= m1 && ts <= m2);
+			assertTrue("The lead is too long", function.getLead() <= function.getMaxLead());
+		}
+	}
+
+	@Test
+	public void testBorrowWithFixedClock() {
+
+		final long millis = GRANULARITY * (System.currentTimeMillis() / GRANULARITY);
+		final long calculated = millis + GRANULARITY;
+		final long maxLead = 3 * GRANULARITY;
+		Clock clock = Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+		WindowsLeaseAheadTimeFunction function = new WindowsLeaseAheadTimeFunction(clock, maxLead);
+
+		// never blocks, even if the clock doesn't advance
+		long lastTs = function.getAsLong();
+		long lastLead = function.getLead();
+		int resets = 0;
+		for (int i = 0; i < (maxLead + 2 * GRANULARITY) * TICKS_PER_MILLI; i++) {
+			long ts = function.getAsLong();
+			if (ts <= lastTs) {
+				// goes back to the clock only when the lead is exhausted
+				assertEquals(maxLead, lastLead);
+				assertEquals(calculated, ts / TICKS_PER_MILLI / GRANULARITY * GRANULARITY);
+				resets++;
+			}
+			lastLead = function.getLead();
+			assertTrue("The lead is too long", lastLead <= maxLead);
+			lastTs = ts;
+		}
+		assertEquals(1, resets);
+	}
+
+	@Test
+	public void testCatchUp() {
+
+		AdjustableClock clock = new AdjustableClock(System.currentTimeMillis());
+		WindowsLeaseAheadTimeFunction function = new WindowsLeaseAheadTimeFunction(clock);
+
+		for (int i = 0; i < 3 * GRANULARITY * TICKS_PER_MILLI; i++) {
+			function.getAsLong();
+		}
+		assertTrue(function.getLead() > 0);
+
+		// the clock passes the borrowed time
+		clock.millis.addAndGet(function.getMaxLead() + GRANULARITY);
+		function.getAsLong();
+		assertEquals(0, function.getLead());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeMaxLead() {
+		new WindowsLeaseAheadTimeFunction(Clock.systemUTC(), -1);
+	}
+}
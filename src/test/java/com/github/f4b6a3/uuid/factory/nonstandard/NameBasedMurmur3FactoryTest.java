@@ -0,0 +1,124 @@
+package com.github.f4b6a3.uuid.factory.nonstandard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.enums.UuidNamespace;
+import com.github.f4b6a3.uuid.enums.UuidVariant;
+import com.github.f4b6a3.uuid.enums.UuidVersion;
+import com.github.f4b6a3.uuid.factory.NameBasedCache;
+import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
+
+public class NameBasedMurmur3FactoryTest extends UuidFactoryTest {
+
+	private static final int DEFAULT_LOOP_MAX = 100;
+
+	private static final Charset UTF8 = StandardCharsets.UTF_8;
+
+	private static final UuidNamespace NAMESPACE_DNS_ENUM = UuidNamespace.NAMESPACE_DNS;
+	private static final UUID NAMESPACE_DNS_UUID = UuidNamespace.NAMESPACE_DNS.getValue();
+	private static final String NAMESPACE_DNS_STRING = UuidNamespace.NAMESPACE_DNS.getValue().toString();
+
+	/**
+	 * MurmurHash3 x64 128 of the namespace bytes followed by the name bytes,
+	 * computed with Guava's Hashing.murmur3_128(), with version and variant set.
+	 */
+	private static final String[][] LIST_DNS = { //
+			{ "2b74065f-c704-878d-9987-b68c0a8379a2", "www.example.com" }, //
+			{ "a922156c-5a0a-8f6b-bb84-13fd486170f5", "www.amazon.de" }, //
+			{ "266de4ca-89c6-8cdf-81d2-41444ccac213", "www.aol.com" }, //
+			{ "fa4695d2-31ad-8c2b-a255-20d15632addf", "www.dell.com" }, //
+	};
+
+	@Test
+	public void testNameBasedMurmur3() {
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		NameBasedMurmur3Factory factory = new NameBasedMurmur3Factory();
+
+		// Generate a list of UUIDs
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			String name = ("name" + i);
+			list[i] = factory.create(name);
+		}
+
+		// Check if the same inputs generate the same outputs
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			String name = ("name" + i);
+			assertEquals(list[i], factory.create(name));
+		}
+
+		// Check the list
+		checkNotNull(list);
+		checkUniqueness(list);
+		checkVersion(list, UuidVersion.VERSION_CUSTOM.getValue());
+
+		for (UUID uuid : list) {
+			assertEquals(UuidVariant.VARIANT_RFC_4122.getValue(), uuid.variant());
+		}
+	}
+
+	@Test
+	public void testNameBasedMurmur3WithNamespaceDns() {
+
+		NameBasedMurmur3Factory factory1 = new NameBasedMurmur3Factory(NAMESPACE_DNS_ENUM);
+		NameBasedMurmur3Factory factory2 = new NameBasedMurmur3Factory(NAMESPACE_DNS_UUID);
+		NameBasedMurmur3Factory factory3 = new NameBasedMurmur3Factory(NAMESPACE_DNS_STRING);
+		NameBasedMurmur3Factory factory4 = new NameBasedMurmur3Factory();
+		NameBasedMurmur3Factory factory5 = new NameBasedMurmur3Factory(NAMESPACE_DNS_ENUM, new NameBasedCache(64));
+
+		for (int i = 0; i < LIST_DNS.length; i++) {
+
+			UUID expected = UUID.fromString(LIST_DNS[i][0]);
+			String name = LIST_DNS[i][1];
+
+			assertEquals(expected, factory1.create(name));
+			assertEquals(expected, factory1.create(name.getBytes(UTF8)));
+			assertEquals(expected, factory2.create(name));
+			assertEquals(expected, factory3.create(name));
+			assertEquals(expected, factory4.create(NAMESPACE_DNS_ENUM, name));
+			assertEquals(expected, factory4.create(NAMESPACE_DNS_UUID, name));
+			assertEquals(expected, factory4.create(NAMESPACE_DNS_STRING, name));
+			assertEquals(expected, factory5.create(name));
+			assertEquals(expected, factory5.create(name)); // cached
+		}
+	}
+
+	@Test
+	public void testNameBasedMurmur3WithCharSequenceByteBufferAndStream() throws IOException {
+
+		NameBasedMurmur3Factory factory = new NameBasedMurmur3Factory(NAMESPACE_DNS_ENUM);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			// names of several blocks, with multibyte characters
+			String name = "name-ção-" + i + "-" + new String(new char[i]).replace('\0', 'x');
+			byte[] bytes = name.getBytes(UTF8);
+			UUID expected = factory.create(bytes);
+
+			assertEquals(expected, factory.create(new StringBuilder(name)));
+			assertEquals(expected, factory.create(ByteBuffer.wrap(bytes)));
+			assertEquals(expected, factory.create(NAMESPACE_DNS_UUID, new ByteArrayInputStream(bytes)));
+		}
+	}
+
+	@Test
+	public void testNameBasedMurmur3DiffersFromOtherNamespaces() {
+		NameBasedMurmur3Factory factory = new NameBasedMurmur3Factory();
+		UUID dns = factory.create(UuidNamespace.NAMESPACE_DNS, "www.example.com");
+		UUID url = factory.create(UuidNamespace.NAMESPACE_URL, "www.example.com");
+		UUID none = factory.create("www.example.com");
+		assertNotEquals(dns, url);
+		assertNotEquals(dns, none);
+		assertNotEquals(url, none);
+	}
+}
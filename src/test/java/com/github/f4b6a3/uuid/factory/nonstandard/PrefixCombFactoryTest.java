@@ -154,4 +154,41 @@ public class PrefixCombFactoryTest extends UuidFactoryTest {
 			assertEquals("The UUID list is not ordered", x, y);
 		}
 	}
+
+	@Test
+	public void testFillPrefixComb() {
+
+		long millis = ThreadLocalRandom.current().nextLong(1L << 48);
+		Clock clock = Clock.fixed(Instant.ofEpochMilli(millis), Clock.systemUTC().getZone());
+
+		PrefixCombFactory[] factories = { new PrefixCombFactory(clock), new PrefixCombFactory(new Random(), clock) };
+		for (PrefixCombFactory factory : factories) {
+
+			UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+			factory.fill(list);
+
+			long[] msbs = new long[DEFAULT_LOOP_MAX];
+			long[] lsbs = new long[DEFAULT_LOOP_MAX];
+			factory.fill(msbs, lsbs);
+			UUID[] other = new UUID[DEFAULT_LOOP_MAX];
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				other[i] = new UUID(msbs[i], lsbs[i]);
+			}
+
+			for (UUID[] array : Arrays.asList(list, other)) {
+				checkNotNull(array);
+				checkVersion(array, 4);
+				checkUniqueness(array);
+				for (UUID uuid : array) {
+					assertEquals(millis, CombUtil.getPrefix(uuid));
+				}
+			}
+		}
+
+		UUID[] list = UuidCreator.getPrefixComb(DEFAULT_LOOP_MAX);
+		assertEquals(DEFAULT_LOOP_MAX, list.length);
+		checkNotNull(list);
+		checkVersion(list, 4);
+		checkUniqueness(list);
+	}
 }
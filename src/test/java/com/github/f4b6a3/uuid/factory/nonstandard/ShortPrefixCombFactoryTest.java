@@ -9,6 +9,8 @@ import com.github.f4b6a3.uuid.factory.function.RandomFunction;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Random;
 import java.util.UUID;
@@ -157,4 +159,41 @@ public class ShortPrefixCombFactoryTest extends UuidFactoryTest {
 			assertEquals("The UUID list is not ordered", x, y);
 		}
 	}
+
+	@Test
+	public void testFillShortPrefixComb() {
+
+		long millis = ThreadLocalRandom.current().nextLong(1L << 48);
+		Clock clock = Clock.fixed(Instant.ofEpochMilli(millis), Clock.systemUTC().getZone());
+
+		ShortPrefixCombFactory[] factories = { new ShortPrefixCombFactory(clock), new ShortPrefixCombFactory(new Random(), clock) };
+		for (ShortPrefixCombFactory factory : factories) {
+
+			UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+			factory.fill(list);
+
+			long[] msbs = new long[DEFAULT_LOOP_MAX];
+			long[] lsbs = new long[DEFAULT_LOOP_MAX];
+			factory.fill(msbs, lsbs);
+			UUID[] other = new UUID[DEFAULT_LOOP_MAX];
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				other[i] = new UUID(msbs[i], lsbs[i]);
+			}
+
+			for (UUID[] array : Arrays.asList(list, other)) {
+				checkNotNull(array);
+				checkVersion(array, 4);
+				checkUniqueness(array);
+				for (UUID uuid : array) {
+					assertEquals((millis / DEFAULT_INTERVAL) & 0xffffL, uuid.getMostSignificantBits() >>> 48);
+				}
+			}
+		}
+
+		UUID[] list = UuidCreator.getShortPrefixComb(DEFAULT_LOOP_MAX);
+		assertEquals(DEFAULT_LOOP_MAX, list.length);
+		checkNotNull(list);
+		checkVersion(list, 4);
+		checkUniqueness(list);
+	}
 }
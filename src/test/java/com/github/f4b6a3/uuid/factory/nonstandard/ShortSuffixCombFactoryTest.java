@@ -9,6 +9,8 @@ import com.github.f4b6a3.uuid.factory.function.RandomFunction;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Random;
@@ -162,4 +164,41 @@ public class ShortSuffixCombFactoryTest extends UuidFactoryTest {
 	private long extractSuffix(UUID uuid) {
 		return (uuid.getLeastSignificantBits() & 0x0000ffffffffffffL) >>> 32;
 	}
+
+	@Test
+	public void testFillShortSuffixComb() {
+
+		long millis = ThreadLocalRandom.current().nextLong(1L << 48);
+		Clock clock = Clock.fixed(Instant.ofEpochMilli(millis), Clock.systemUTC().getZone());
+
+		ShortSuffixCombFactory[] factories = { new ShortSuffixCombFactory(clock), new ShortSuffixCombFactory(new Random(), clock) };
+		for (ShortSuffixCombFactory factory : factories) {
+
+			UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+			factory.fill(list);
+
+			long[] msbs = new long[DEFAULT_LOOP_MAX];
+			long[] lsbs = new long[DEFAULT_LOOP_MAX];
+			factory.fill(msbs, lsbs);
+			UUID[] other = new UUID[DEFAULT_LOOP_MAX];
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				other[i] = new UUID(msbs[i], lsbs[i]);
+			}
+
+			for (UUID[] array : Arrays.asList(list, other)) {
+				checkNotNull(array);
+				checkVersion(array, 4);
+				checkUniqueness(array);
+				for (UUID uuid : array) {
+					assertEquals((millis / DEFAULT_INTERVAL) & 0xffffL, extractSuffix(uuid));
+				}
+			}
+		}
+
+		UUID[] list = UuidCreator.getShortSuffixComb(DEFAULT_LOOP_MAX);
+		assertEquals(DEFAULT_LOOP_MAX, list.length);
+		checkNotNull(list);
+		checkVersion(list, 4);
+		checkUniqueness(list);
+	}
 }
@@ -156,4 +156,41 @@ public class SuffixCombFactoryTest extends UuidFactoryTest {
 	private long extractSuffix(UUID uuid) {
 		return uuid.getLeastSignificantBits() & 0x0000ffffffffffffL;
 	}
+
+	@Test
+	public void testFillSuffixComb() {
+
+		long millis = ThreadLocalRandom.current().nextLong(1L << 48);
+		Clock clock = Clock.fixed(Instant.ofEpochMilli(millis), Clock.systemUTC().getZone());
+
+		SuffixCombFactory[] factories = { new SuffixCombFactory(clock), new SuffixCombFactory(new Random(), clock) };
+		for (SuffixCombFactory factory : factories) {
+
+			UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+			factory.fill(list);
+
+			long[] msbs = new long[DEFAULT_LOOP_MAX];
+			long[] lsbs = new long[DEFAULT_LOOP_MAX];
+			factory.fill(msbs, lsbs);
+			UUID[] other = new UUID[DEFAULT_LOOP_MAX];
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				other[i] = new UUID(msbs[i], lsbs[i]);
+			}
+
+			for (UUID[] array : Arrays.asList(list, other)) {
+				checkNotNull(array);
+				checkVersion(array, 4);
+				checkUniqueness(array);
+				for (UUID uuid : array) {
+					assertEquals(millis, CombUtil.getSuffix(uuid));
+				}
+			}
+		}
+
+		UUID[] list = UuidCreator.getSuffixComb(DEFAULT_LOOP_MAX);
+		assertEquals(DEFAULT_LOOP_MAX, list.length);
+		checkNotNull(list);
+		checkVersion(list, 4);
+		checkUniqueness(list);
+	}
 }
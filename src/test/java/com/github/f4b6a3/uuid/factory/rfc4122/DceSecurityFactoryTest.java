@@ -54,4 +54,78 @@ public class DceSecurityFactoryTest extends UuidFactoryTest {
 			assertEquals(localIdentifier, localIdentifier2);
 		}
 	}
+
+	@Test
+	public void testGetDCESecurityLockFree() {
+
+		DceSecurityFactory factory = DceSecurityFactory.builder().withLockFree().build();
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			byte localDomain = (byte) i;
+			int localIdentifier = 1701 + i;
+
+			UUID uuid = factory.create(localDomain, localIdentifier);
+			assertEquals(2, uuid.version());
+			assertEquals(2, uuid.variant());
+			assertEquals(localDomain, UuidUtil.getLocalDomain(uuid));
+			assertEquals(localIdentifier, UuidUtil.getLocalIdentifier(uuid));
+		}
+	}
+
+	@Test
+	public void testGetDCESecurityCounterPerLocalDomain() {
+
+		DceSecurityFactory factory = new DceSecurityFactory();
+
+		long first = counter(factory.create((byte) 0, 1701));
+		for (int i = 0; i < 10; i++) {
+			factory.create((byte) 1, 1701);
+		}
+		long second = counter(factory.create((byte) 0, 1701));
+
+		// other domains don't advance the counter of a domain
+		assertEquals((first + 1) & 0x3f, second);
+	}
+
+	@Test
+	public void testGetDCESecurityConcurrently() throws InterruptedException {
+
+		// the counter has 6 bits: 64 unique UUIDs per domain, identifier and tick
+		final int total = 64;
+		final int share = total / THREAD_TOTAL;
+
+		for (DceSecurityFactory factory : new DceSecurityFactory[] { new DceSecurityFactory(),
+				DceSecurityFactory.builder().withLockFree().build() }) {
+
+			final UUID[] list = new UUID[share * THREAD_TOTAL];
+			Thread[] threads = new Thread[THREAD_TOTAL];
+
+			for (int t = 0; t < THREAD_TOTAL; t++) {
+				final int offset = t * share;
+				threads[t] = new Thread(() -> {
+					for (int i = 0; i < share; i++) {
+						list[offset + i] = factory.create((byte) 0, 1701);
+					}
+				});
+				threads[t].start();
+			}
+
+			for (Thread thread : threads) {
+				thread.join();
+			}
+
+			checkNotNull(list);
+			checkUniqueness(list);
+		}
+	}
+
+	private static long counter(UUID uuid) {
+		return (uuid.getLeastSignificantBits() >>> 56) & 0x3f;
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testFillDceSecurity() {
+		new DceSecurityFactory().fill(new UUID[1]);
+	}
 }
@@ -5,10 +5,12 @@ import org.junit.Test;
 import com.github.f4b6a3.uuid.UuidCreator;
 import com.github.f4b6a3.uuid.enums.UuidNamespace;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.factory.AbstNameBasedFactory;
 import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -498,4 +500,31 @@ public class NameBasedMd5FactoryTest extends UuidFactoryTest {
 			assertEquals(expected, actual2);
 		}
 	}
+
+	@Test
+	public void testGetNameBasedMd5WithStringNamespaces() {
+
+		NameBasedMd5Factory factory = new NameBasedMd5Factory();
+
+		// more namespaces than the cache holds
+		for (int i = 0; i < DEFAULT_LOOP_MAX * 10; i++) {
+
+			UUID namespace = UUID.randomUUID();
+			String name = namespace.toString();
+
+			UUID expected = factory.create(namespace, name);
+			UUID actual1 = factory.create(namespace.toString(), name);
+			UUID actual2 = factory.create(namespace.toString(), name);
+
+			assertEquals(expected, actual1);
+			assertEquals(expected, actual2);
+		}
+
+		try {
+			factory.create("not a namespace", "www.example.com");
+			fail("Should throw an exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+	}
 }
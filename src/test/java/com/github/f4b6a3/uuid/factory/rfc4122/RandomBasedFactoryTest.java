@@ -2,6 +2,7 @@ package com.github.f4b6a3.uuid.factory.rfc4122;
 
 import org.junit.Test;
 
+import com.github.f4b6a3.uuid.UuidCreator;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
 import com.github.f4b6a3.uuid.factory.function.RandomFunction;
@@ -85,4 +86,38 @@ public class RandomBasedFactoryTest extends UuidFactoryTest {
 		// Check if the quantity of unique UUIDs is correct
 		assertEquals(DUPLICATE_UUID_MSG, TestThread.hashSet.size(), (DEFAULT_LOOP_MAX * THREAD_TOTAL));
 	}
+
+	@Test
+	public void testFillRandomBased() {
+
+		RandomBasedFactory[] factories = { new RandomBasedFactory(), new RandomBasedFactory(new Random()) };
+		for (RandomBasedFactory factory : factories) {
+
+			UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+			factory.fill(list);
+			checkNotNull(list);
+			checkUniqueness(list);
+			checkVersion(list, UuidVersion.VERSION_RANDOM_BASED.getValue());
+
+			long[] msbs = new long[DEFAULT_LOOP_MAX];
+			long[] lsbs = new long[DEFAULT_LOOP_MAX];
+			factory.fill(msbs, lsbs);
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				list[i] = new UUID(msbs[i], lsbs[i]);
+			}
+			checkUniqueness(list);
+			checkVersion(list, UuidVersion.VERSION_RANDOM_BASED.getValue());
+		}
+
+		UUID[] list = UuidCreator.getRandomBased(DEFAULT_LOOP_MAX);
+		assertEquals(DEFAULT_LOOP_MAX, list.length);
+		checkNotNull(list);
+		checkUniqueness(list);
+		checkVersion(list, UuidVersion.VERSION_RANDOM_BASED.getValue());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFillRandomBasedWithDifferentLengths() {
+		new RandomBasedFactory().fill(new long[1], new long[2]);
+	}
 }
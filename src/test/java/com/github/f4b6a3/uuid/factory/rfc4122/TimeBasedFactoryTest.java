@@ -12,11 +12,16 @@ import com.github.f4b6a3.uuid.util.UuidTime;
 import com.github.f4b6a3.uuid.util.UuidUtil;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class TimeBasedFactoryTest extends UuidFactoryTest {
 
@@ -38,6 +43,160 @@ public class TimeBasedFactoryTest extends UuidFactoryTest {
 		testGetAbstractTimeBased(TimeBasedFactory.builder().withHashNodeId().build(), multicast);
 	}
 
+	@Test
+	public void testCreateTimeBasedLockFree() {
+		boolean multicast = true;
+		testGetAbstractTimeBased(TimeBasedFactory.builder().withLockFree().build(), multicast);
+	}
+
+	@Test
+	public void testGetTimeBasedLockFreeClockBackwards() {
+
+		final long start = UuidTime.toUnixTimestamp(Instant.parse("2022-02-22T22:22:22.222Z"));
+		AtomicLong time = new AtomicLong(start);
+		TimeBasedFactory factory = TimeBasedFactory.builder().withTimeFunction(time::get).withLockFree().build();
+
+		// the time repeats: the next ticks are reserved
+		UUID uuid1 = factory.create();
+		UUID uuid2 = factory.create();
+		assertEquals(UuidTime.toGregTimestamp(start), UuidUtil.getTimestamp(uuid1));
+		assertEquals(UuidUtil.getTimestamp(uuid1) + 1, UuidUtil.getTimestamp(uuid2));
+		assertEquals(UuidUtil.getClockSequence(uuid1), UuidUtil.getClockSequence(uuid2));
+
+		// the clock goes back within the tolerance: the ticks are still reserved
+		time.set(start - 5_000 * UuidTime.TICKS_PER_MILLI);
+		UUID uuid3 = factory.create();
+		assertEquals(UuidUtil.getTimestamp(uuid2) + 1, UuidUtil.getTimestamp(uuid3));
+		assertEquals(UuidUtil.getClockSequence(uuid1), UuidUtil.getClockSequence(uuid3));
+
+		// the clock goes back beyond the tolerance: the clock sequence changes
+		time.set(start - 60_000 * UuidTime.TICKS_PER_MILLI);
+		UUID uuid4 = factory.create();
+		assertEquals(UuidUtil.getTimestamp(uuid1) - 60_000 * UuidTime.TICKS_PER_MILLI, UuidUtil.getTimestamp(uuid4));
+		assertNotEquals(UuidUtil.getClockSequence(uuid1), UuidUtil.getClockSequence(uuid4));
+		assertEquals(UuidUtil.getNodeIdentifier(uuid1), UuidUtil.getNodeIdentifier(uuid4));
+	}
+
+	@Test
+	public void testGetTimeBasedLockFreeMaxLead() {
+
+		// the time doesn't change while much more than 10,000 UUIDs are created
+		final long timestamp = UuidTime.toUnixTimestamp(Instant.parse("2022-02-22T22:22:22.222Z"));
+		final long greg = UuidTime.toGregTimestamp(timestamp);
+		TimeBasedFactory factory = TimeBasedFactory.builder().withTimeFunction(() -> timestamp).withLockFree().build();
+
+		final int total = 10 * DEFAULT_LOOP_MAX;
+		UUID[] list = new UUID[total];
+		for (int i = 0; i < total / 2; i++) {
+			list[i] = factory.create();
+		}
+		UUID[] batch = new UUID[total / 2];
+		factory.fill(batch);
+		System.arraycopy(batch, 0, list, total / 2, batch.length);
+
+		checkUniqueness(list);
+
+		Set<Integer> clockSequences = new HashSet<>();
+		for (UUID uuid : list) {
+			// the ticks never get more than 1ms ahead of the clock
+			final long ticks = UuidUtil.getTimestamp(uuid);
+			assertTrue("The timestamp is too far ahead", ticks >= greg && ticks <= greg + UuidTime.TICKS_PER_MILLI);
+			clockSequences.add(UuidUtil.getClockSequence(uuid));
+		}
+
+		// the clock sequence changes every 10,000 UUIDs
+		assertTrue("The clock sequence should change", clockSequences.size() >= total / UuidTime.TICKS_PER_MILLI);
+	}
+
+	@Test
+	public void testGetTimeBasedLockFreeInParallel() throws InterruptedException {
+
+		// All threads share the same factory and the same timestamp
+		final long timestamp = UuidTime.toUnixTimestamp(Instant.now());
+		TimeBasedFactory factory = TimeBasedFactory.builder().withTimeFunction(() -> timestamp).withLockFree().build();
+		Set<UUID> set = ConcurrentHashMap.newKeySet();
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < DEFAULT_LOOP_MAX; j++) {
+					set.add(factory.create());
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(DUPLICATE_UUID_MSG, (DEFAULT_LOOP_MAX * THREAD_TOTAL), set.size());
+	}
+
+	@Test
+	public void testFillTimeBased() {
+		testFillTimeBased(new TimeBasedFactory());
+		testFillTimeBased(TimeBasedFactory.builder().withLockFree().build());
+	}
+
+	private void testFillTimeBased(TimeBasedFactory factory) {
+
+		// single and batch calls are mixed
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		list[0] = factory.create();
+		UUID[] batch = new UUID[1000];
+		factory.fill(batch);
+		System.arraycopy(batch, 0, list, 1, batch.length);
+		long[] msbs = new long[DEFAULT_LOOP_MAX - 1001];
+		long[] lsbs = new long[DEFAULT_LOOP_MAX - 1001];
+		factory.fill(msbs, lsbs);
+		for (int i = 0; i < msbs.length; i++) {
+			list[1001 + i] = new UUID(msbs[i], lsbs[i]);
+		}
+
+		checkNotNull(list);
+		checkVersion(list, 1);
+		checkUniqueness(list);
+
+		// the timestamps are monotonic
+		for (int i = 1; i < DEFAULT_LOOP_MAX; i++) {
+			assertTrue("The timestamps are not monotonic",
+					UuidUtil.getTimestamp(list[i - 1]) < UuidUtil.getTimestamp(list[i]));
+		}
+
+		checkVersion(UuidCreator.getTimeBased(DEFAULT_LOOP_MAX), 1);
+	}
+
+	@Test
+	public void testFillTimeBasedLockFreeInParallel() throws InterruptedException {
+
+		// All threads share the same factory and the same timestamp
+		final long timestamp = UuidTime.toUnixTimestamp(Instant.now());
+		TimeBasedFactory factory = TimeBasedFactory.builder().withTimeFunction(() -> timestamp).withLockFree().build();
+		Set<UUID> set = ConcurrentHashMap.newKeySet();
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new Thread(() -> {
+				long[] msbs = new long[100];
+				long[] lsbs = new long[100];
+				for (int j = 0; j < DEFAULT_LOOP_MAX; j += msbs.length) {
+					factory.fill(msbs, lsbs);
+					for (int k = 0; k < msbs.length; k++) {
+						set.add(new UUID(msbs[k], lsbs[k]));
+					}
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(DUPLICATE_UUID_MSG, (DEFAULT_LOOP_MAX * THREAD_TOTAL), set.size());
+	}
+
 	@Test
 	public void testGetTimeBasedWithNodeIdFunction() {
 
@@ -12,15 +12,21 @@ import com.github.f4b6a3.uuid.util.UuidUtil;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.security.SecureRandom;
 import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Random;
+import java.util.Set;
 import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntFunction;
 import java.util.function.LongSupplier;
 
@@ -386,6 +392,311 @@ public class TimeOrderedEpochFactoryTest extends UuidFactoryTest {
 		assertEquals(DUPLICATE_UUID_MSG, TestThread.hashSet.size(), (DEFAULT_LOOP_MAX * THREAD_TOTAL));
 	}
 
+	@Test
+	public void testGetTimeOrderedEpochLockFree() {
+
+		Clock clock = Clock.systemDefaultZone();
+		TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withClock(clock).withLockFree().build();
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+
+		long startTime = clock.millis();
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			list[i] = factory.create();
+		}
+		// can be 1ms ahead of time
+		long endTime = clock.millis() + 1;
+
+		checkNotNull(list);
+		checkVersion(list, 7);
+		checkOrdering(list);
+		checkUniqueness(list);
+		checkCreationTime(list, startTime, endTime);
+
+		// the whole UUID is monotonic, not only the time component
+		for (int i = 1; i < DEFAULT_LOOP_MAX; i++) {
+			assertTrue("The UUID list is not monotonic", list[i - 1].compareTo(list[i]) < 0);
+		}
+	}
+
+	@Test
+	public void testGetTimeOrderedEpochLockFreeClockDrift() {
+
+		AdjustableClock clock = new AdjustableClock(1_000_000L);
+		TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withClock(clock).withLockFree().build();
+
+		UUID uuid1 = factory.create();
+
+		// the clock goes back within the drift tolerance
+		clock.millis.addAndGet(-(TimeOrderedEpochFactory.CLOCK_DRIFT_TOLERANCE - 1));
+		UUID uuid2 = factory.create();
+		assertTrue("Monotonicity broken within the drift tolerance", uuid1.compareTo(uuid2) < 0);
+		assertEquals(1_000_000L, uuid2.getMostSignificantBits() >>> 16);
+
+		// the clock goes back beyond the drift tolerance
+		clock.millis.set(1_000_000L - TimeOrderedEpochFactory.CLOCK_DRIFT_TOLERANCE);
+		UUID uuid3 = factory.create();
+		assertEquals(clock.millis(), uuid3.getMostSignificantBits() >>> 16);
+
+		// the counter overflow increments the time component
+		clock.millis.set(2_000_000L);
+		UUID last = factory.create();
+		for (int i = 0; i < (1 << 16); i++) {
+			UUID uuid = factory.create();
+			assertTrue("Monotonicity broken after counter overflow", last.compareTo(uuid) < 0);
+			last = uuid;
+		}
+		assertEquals(2_000_001L, last.getMostSignificantBits() >>> 16);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetTimeOrderedEpochLockFreeWithIncrementPlus1() {
+		TimeOrderedEpochFactory.builder().withLockFree().withIncrementPlus1().build();
+	}
+
+	@Test
+	public void testGetTimeOrderedEpochLockFreeInParallel() throws InterruptedException {
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		TestThread.clearHashSet();
+
+		// All threads share the same factory
+		TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withLockFree().build();
+
+		// Instantiate and start many threads
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new TestThread(factory, DEFAULT_LOOP_MAX);
+			threads[i].start();
+		}
+
+		// Wait all the threads to finish
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// Check if the quantity of unique UUIDs is correct
+		assertEquals(DUPLICATE_UUID_MSG, TestThread.hashSet.size(), (DEFAULT_LOOP_MAX * THREAD_TOTAL));
+	}
+
+	@Test
+	public void testFillTimeOrderedEpoch() {
+		testFillTimeOrderedEpoch(TimeOrderedEpochFactory.builder());
+		testFillTimeOrderedEpoch(TimeOrderedEpochFactory.builder().withIncrementPlus1());
+		testFillTimeOrderedEpoch(TimeOrderedEpochFactory.builder().withIncrementPlusN());
+		testFillTimeOrderedEpoch(TimeOrderedEpochFactory.builder().withLockFree());
+		testFillTimeOrderedEpoch(TimeOrderedEpochFactory.builder().withRandom(new Random()));
+		testFillTimeOrderedEpoch(
+				TimeOrderedEpochFactory.builder().withRandom(new Random()).withLockFree());
+	}
+
+	private void testFillTimeOrderedEpoch(TimeOrderedEpochFactory.Builder builder) {
+
+		// the time never changes, so the UUIDs are ordered by the counter only
+		AdjustableClock clock = new AdjustableClock(1_000_000L);
+		TimeOrderedEpochFactory factory = builder.withClock(clock).build();
+
+		// single and batch calls are mixed
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		list[0] = factory.create();
+		UUID[] batch = new UUID[1000];
+		factory.fill(batch);
+		System.arraycopy(batch, 0, list, 1, batch.length);
+		list[1001] = factory.create();
+		long[] msbs = new long[DEFAULT_LOOP_MAX - 1002];
+		long[] lsbs = new long[DEFAULT_LOOP_MAX - 1002];
+		factory.fill(msbs, lsbs);
+		for (int i = 0; i < msbs.length; i++) {
+			list[1002 + i] = new UUID(msbs[i], lsbs[i]);
+		}
+
+		checkNotNull(list);
+		checkVersion(list, 7);
+		checkUniqueness(list);
+
+		// the whole UUID is monotonic, not only the time component
+		for (int i = 1; i < DEFAULT_LOOP_MAX; i++) {
+			assertTrue("The UUID list is not monotonic", list[i - 1].compareTo(list[i]) < 0);
+		}
+	}
+
+	@Test
+	public void testFillTimeOrderedEpochEmpty() {
+		TimeOrderedEpochFactory factory = new TimeOrderedEpochFactory();
+		factory.fill(new UUID[0]);
+		factory.fill(new long[0], new long[0]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFillTimeOrderedEpochWithDifferentLengths() {
+		TimeOrderedEpochFactory.builder().withLockFree().build().fill(new long[2], new long[1]);
+	}
+
+	@Test
+	public void testGetTimeOrderedEpochArray() {
+
+		long startTime = System.currentTimeMillis();
+		UUID[] list = UuidCreator.getTimeOrderedEpoch(DEFAULT_LOOP_MAX);
+		long endTime = System.currentTimeMillis() + 1; // can be 1ms ahead of time
+
+		assertEquals(DEFAULT_LOOP_MAX, list.length);
+		checkNotNull(list);
+		checkVersion(list, 7);
+		checkOrdering(list);
+		checkUniqueness(list);
+		checkCreationTime(list, startTime, endTime);
+
+		checkVersion(UuidCreator.getTimeOrderedEpochPlus1(DEFAULT_LOOP_MAX), 7);
+		checkVersion(UuidCreator.getTimeOrderedEpochPlusN(DEFAULT_LOOP_MAX), 7);
+	}
+
+	@Test
+	public void testFillTimeOrderedEpochLockFreeInParallel() throws InterruptedException {
+
+		// All threads share the same factory and the same time
+		TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withClock(new AdjustableClock(1_000_000L))
+				.withLockFree().build();
+		Set<UUID> set = ConcurrentHashMap.newKeySet();
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new Thread(() -> {
+				UUID[] batch = new UUID[100];
+				for (int j = 0; j < DEFAULT_LOOP_MAX; j += batch.length) {
+					factory.fill(batch);
+					set.addAll(Arrays.asList(batch));
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(DUPLICATE_UUID_MSG, (DEFAULT_LOOP_MAX * THREAD_TOTAL), set.size());
+	}
+
+	@Test
+	public void testLeaseTimeOrderedEpoch() {
+		testLeaseTimeOrderedEpoch(TimeOrderedEpochFactory.builder());
+		testLeaseTimeOrderedEpoch(TimeOrderedEpochFactory.builder().withIncrementPlus1());
+		testLeaseTimeOrderedEpoch(TimeOrderedEpochFactory.builder().withIncrementPlusN());
+		testLeaseTimeOrderedEpoch(TimeOrderedEpochFactory.builder().withLockFree());
+		testLeaseTimeOrderedEpoch(TimeOrderedEpochFactory.builder().withRandom(new Random()));
+		testLeaseTimeOrderedEpoch(TimeOrderedEpochFactory.builder().withRandom(new Random()).withLockFree());
+	}
+
+	private void testLeaseTimeOrderedEpoch(TimeOrderedEpochFactory.Builder builder) {
+
+		// the time never changes, so the UUIDs are ordered by the counter only
+		AdjustableClock clock = new AdjustableClock(1_000_000L);
+		TimeOrderedEpochFactory factory = builder.withClock(clock).build();
+
+		// single calls and leases are mixed, and the last lease is the largest
+		UUID[] list = new UUID[3 + 1000 + TimeOrderedEpochFactory.MAX_LEASE_SIZE];
+		list[0] = factory.create();
+		TimeOrderedEpochFactory.Lease lease = factory.lease(1000);
+		assertEquals(1000, lease.size());
+		for (int i = 0; i < lease.size(); i++) {
+			list[1 + i] = lease.get(i);
+		}
+		list[1001] = factory.create();
+		lease = factory.lease(TimeOrderedEpochFactory.MAX_LEASE_SIZE);
+		for (int i = 0; i < lease.size(); i++) {
+			list[1002 + i] = new UUID(lease.getMostSignificantBits(i), lease.getLeastSignificantBits(i));
+		}
+		list[list.length - 1] = factory.create();
+
+		checkNotNull(list);
+		checkVersion(list, 7);
+		checkUniqueness(list);
+
+		// the whole UUID is monotonic, not only the time component
+		for (int i = 1; i < list.length; i++) {
+			assertTrue("The UUID list is not monotonic", list[i - 1].compareTo(list[i]) < 0);
+		}
+	}
+
+	@Test
+	public void testLeaseTimeOrderedEpochInParallel() throws InterruptedException {
+		testLeaseTimeOrderedEpochInParallel(TimeOrderedEpochFactory.builder());
+		testLeaseTimeOrderedEpochInParallel(TimeOrderedEpochFactory.builder().withLockFree());
+	}
+
+	private void testLeaseTimeOrderedEpochInParallel(TimeOrderedEpochFactory.Builder builder)
+			throws InterruptedException {
+
+		// All threads share the same factory and the same time
+		TimeOrderedEpochFactory factory = builder.withClock(new AdjustableClock(1_000_000L)).build();
+		Set<UUID> set = ConcurrentHashMap.newKeySet();
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < DEFAULT_LOOP_MAX; j += 100) {
+					TimeOrderedEpochFactory.Lease lease = factory.lease(100);
+					for (int k = 0; k < lease.size(); k++) {
+						set.add(lease.get(k));
+					}
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(DUPLICATE_UUID_MSG, (DEFAULT_LOOP_MAX * THREAD_TOTAL), set.size());
+	}
+
+	@Test
+	public void testLeaseTimeOrderedEpochInvalidSize() {
+		TimeOrderedEpochFactory factory = new TimeOrderedEpochFactory();
+		for (int size : new int[] { -1, 0, TimeOrderedEpochFactory.MAX_LEASE_SIZE + 1 }) {
+			try {
+				factory.lease(size);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testLeaseTimeOrderedEpochIndexOutOfRange() {
+		new TimeOrderedEpochFactory().lease(10).get(10);
+	}
+
+	private static class AdjustableClock extends Clock {
+
+		private final AtomicLong millis;
+
+		public AdjustableClock(long millis) {
+			this.millis = new AtomicLong(millis);
+		}
+
+		@Override
+		public long millis() {
+			return this.millis.get();
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis());
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+	}
+
 	@Override
 	protected void checkOrdering(UUID[] list) {
 		UUID[] other = Arrays.copyOf(list, list.length);
@@ -37,6 +37,31 @@ public class TimeOrderedFactoryTest extends UuidFactoryTest {
 		testGetAbstractTimeBased(TimeOrderedFactory.builder().withHashNodeId().build(), multicast);
 	}
 
+	@Test
+	public void testTimeOrderedLockFree() {
+		boolean multicast = true;
+		testGetAbstractTimeBased(TimeOrderedFactory.builder().withLockFree().build(), multicast);
+	}
+
+	@Test
+	public void testFillTimeOrdered() {
+		TimeOrderedFactory[] factories = { new TimeOrderedFactory(),
+				TimeOrderedFactory.builder().withLockFree().build() };
+		for (TimeOrderedFactory factory : factories) {
+			UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+			factory.fill(list);
+			checkNotNull(list);
+			checkVersion(list, 6);
+			checkOrdering(list);
+			checkUniqueness(list);
+		}
+
+		UUID[] list = UuidCreator.getTimeOrdered(DEFAULT_LOOP_MAX);
+		checkVersion(list, 6);
+		checkOrdering(list);
+		checkUniqueness(list);
+	}
+
 	@Test
 	public void testGetTimeOrderedWithNodeIdFunction() {
 
@@ -5,6 +5,10 @@ import org.junit.Test;
 import static com.github.f4b6a3.uuid.util.internal.ByteUtil.*;
 import static org.junit.Assert.*;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
 public class ByteUtilTest {
 
 	private long[] numbers = { 0x0000000000000000L, 0x0000000000000001L, 0x0000000000000012L, 0x0000000000000123L,
@@ -49,4 +53,29 @@ public class ByteUtilTest {
 			assertEquals(hexadecimals[i], toHexadecimal(bytes[i]));
 		}
 	}
+
+	@Test
+	public void testToBytes() {
+		for (int i = 0; i < numbers.length; i++) {
+			int j = numbers.length - 1 - i;
+
+			byte[] array = new byte[17];
+			toBytes(numbers[i], numbers[j], array, 1);
+			assertEquals(0, array[0]);
+			assertArrayEquals(bytes[i], Arrays.copyOfRange(array, 1, 9));
+			assertArrayEquals(bytes[j], Arrays.copyOfRange(array, 9, 17));
+
+			ByteBuffer buffer = ByteBuffer.allocateDirect(16).order(ByteOrder.LITTLE_ENDIAN);
+			toBytes(numbers[i], numbers[j], buffer);
+			assertEquals(16, buffer.position());
+			buffer.flip().order(ByteOrder.BIG_ENDIAN);
+			assertEquals(numbers[i], buffer.getLong());
+			assertEquals(numbers[j], buffer.getLong());
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testToBytesWithoutRoom() {
+		toBytes(0L, 0L, new byte[16], 1);
+	}
 }
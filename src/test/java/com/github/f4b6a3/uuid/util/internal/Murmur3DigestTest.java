@@ -0,0 +1,110 @@
+package com.github.f4b6a3.uuid.util.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class Murmur3DigestTest {
+
+	private static final int MAX_LENGTH = 100; // several blocks
+
+	// verification value of SMHasher for MurmurHash3_x64_128
+	private static final int VERIFICATION = 0x6384BA69;
+
+	private static final String[][] VECTORS = { //
+			{ "00000000000000000000000000000000", "" }, //
+			{ "029bbd41b3a7d8cb191dae486a901e5b", "hello" }, //
+			{ "6c1b07bc7bbc4be347939ac4a93c437a", "The quick brown fox jumps over the lazy dog" }, //
+	};
+
+	@Test
+	public void testVerificationValue() {
+
+		final byte[] keys = new byte[256];
+		final byte[] hashes = new byte[256 * 16];
+
+		// hash keys of the form {0}, {0,1}, {0,1,2}... with seeds 256, 255, 254...
+		for (int i = 0; i < 256; i++) {
+			keys[i] = (byte) i;
+			Murmur3Digest digest = new Murmur3Digest(256 - i);
+			digest.update(keys, 0, i);
+			System.arraycopy(digest.digest(), 0, hashes, i * 16, 16);
+		}
+
+		final byte[] result = new Murmur3Digest(0).digest(hashes);
+		final int verification = (result[0] & 0xff) | (result[1] & 0xff) << 8 | (result[2] & 0xff) << 16
+				| (result[3] & 0xff) << 24;
+		assertEquals(VERIFICATION, verification);
+	}
+
+	@Test
+	public void testVectors() {
+		final Murmur3Digest digest = new Murmur3Digest();
+		for (String[] vector : VECTORS) {
+			byte[] bytes = vector[1].getBytes(StandardCharsets.UTF_8);
+			assertEquals(vector[0], hex(digest.digest(bytes)));
+		}
+	}
+
+	@Test
+	public void testHashEqualsDigest() {
+
+		final Murmur3Digest digest = new Murmur3Digest();
+		final Murmur3Digest hasher = new Murmur3Digest();
+		final Random random = new Random();
+
+		final byte[] namespace = new byte[16];
+		random.nextBytes(namespace);
+
+		for (int length = 0; length < MAX_LENGTH; length++) {
+
+			final byte[] name = new byte[length];
+			random.nextBytes(name);
+
+			// without namespace
+			byte[] expected = digest.digest(name);
+			hasher.hash(null, name);
+			assertEquals(ByteUtil.toNumber(expected, 0, 8), hasher.getMostSignificantBits());
+			assertEquals(ByteUtil.toNumber(expected, 8, 16), hasher.getLeastSignificantBits());
+
+			// with namespace
+			digest.update(namespace);
+			expected = digest.digest(name);
+			hasher.hash(namespace, name);
+			assertEquals(ByteUtil.toNumber(expected, 0, 8), hasher.getMostSignificantBits());
+			assertEquals(ByteUtil.toNumber(expected, 8, 16), hasher.getLeastSignificantBits());
+		}
+	}
+
+	@Test
+	public void testSplitUpdates() {
+
+		final Murmur3Digest digest = new Murmur3Digest();
+		final Random random = new Random();
+
+		for (int length = 0; length < MAX_LENGTH; length++) {
+
+			final byte[] bytes = new byte[length];
+			random.nextBytes(bytes);
+			final byte[] expected = digest.digest(bytes);
+
+			// the same bytes fed in two arbitrary pieces
+			for (int split = 0; split <= length; split++) {
+				digest.update(bytes, 0, split);
+				digest.update(bytes, split, length - split);
+				assertEquals(hex(expected), hex(digest.digest()));
+			}
+		}
+	}
+
+	private static String hex(byte[] bytes) {
+		StringBuilder string = new StringBuilder();
+		for (byte b : bytes) {
+			string.append(String.format("%02x", b));
+		}
+		return string.toString();
+	}
+}